@@ -32,6 +32,7 @@ import static ai.grakn.util.ErrorMessage.MISSING_MANDATORY_BODY_REQUEST_PARAMETE
 import static ai.grakn.util.ErrorMessage.MISSING_MANDATORY_REQUEST_PARAMETERS;
 import static ai.grakn.util.ErrorMessage.MISSING_REQUEST_BODY;
 import static ai.grakn.util.ErrorMessage.NO_CONCEPT_IN_KEYSPACE;
+import static ai.grakn.util.ErrorMessage.TASK_QUEUE_FULL;
 import static ai.grakn.util.ErrorMessage.UNAVAILABLE_TASK_CLASS;
 import static ai.grakn.util.ErrorMessage.UNSUPPORTED_CONTENT_TYPE;
 
@@ -81,6 +82,13 @@ public class GraknServerException extends GraknBackendException {
         return new GraknServerException(UNAVAILABLE_TASK_CLASS.getMessage(className), 400);
     }
 
+    /**
+     * Thrown when a task cannot be added because too many tasks are waiting in its queue
+     */
+    public static GraknServerException taskQueueFull(String queue, long maxDepth){
+        return new GraknServerException(TASK_QUEUE_FULL.getMessage(queue, maxDepth), 429);
+    }
+
     /**
      * Thrown when a request is missing mandatory parameters
      */
@@ -22,9 +22,13 @@ import ai.grakn.concept.Concept;
 import ai.grakn.graql.admin.Answer;
 
 import javax.annotation.CheckReturnValue;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Interface describing a way to print Graql objects.
@@ -50,6 +54,28 @@ public interface Printer<T> {
         return build(builder);
     }
 
+    /**
+     * Write a stream of objects to a writer in the same format as a collection of them, converting and writing each
+     * object as it is consumed so the whole result is never held in memory.
+     * If the stream fails part way through, the failure is written after the objects written so far and rethrown, so
+     * a reader can tell a partial result from a complete one.
+     * @param writer the writer to write the objects to
+     * @param stream the objects to write
+     * @throws IOException if the objects could not be written
+     */
+    default void write(Writer writer, Stream<?> stream) throws IOException {
+        Iterator<?> iterator = stream.iterator();
+        try {
+            while (iterator.hasNext()) {
+                writer.write(build(graqlString(true, iterator.next())));
+                writer.write("\n");
+            }
+        } catch (RuntimeException e) {
+            writer.write("Exception: " + e.getMessage() + "\n");
+            throw e;
+        }
+    }
+
     /**
      * Convert any object into a builder
      * @param inner whether this object is within a collection
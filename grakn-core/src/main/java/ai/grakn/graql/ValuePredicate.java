@@ -44,6 +44,15 @@ public interface ValuePredicate {
         return false;
     }
 
+    /**
+     * @return whether this predicate compares against a value by order, so the values satisfying it can be found by
+     * searching ordered values (e.g. "gt" is a range, "regex" is not)
+     */
+    @CheckReturnValue
+    default boolean isRange() {
+        return false;
+    }
+
     /**
      * @param predicate to be compared in terms of compatibility
      * @return true if compatible
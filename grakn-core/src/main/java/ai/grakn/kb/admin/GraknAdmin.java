@@ -19,6 +19,7 @@
 package ai.grakn.kb.admin;
 
 import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.ConceptId;
@@ -173,12 +174,85 @@ public interface GraknAdmin {
      */
     void updateConceptCounts(Map<ConceptId, Long> conceptCounts);
 
+    /**
+     * Records estimates of the number of direct instances of some concepts, replacing any previous estimates.
+     *
+     * @param instanceCounts The concepts and their estimated number of direct instances
+     */
+    void putInstanceCountEstimates(Map<ConceptId, Long> instanceCounts);
+
+    /**
+     * Get an estimate of the number of instances of a {@link Type}, including the instances of its sub-types.
+     * Estimates are recorded by engine using the commit logs, so they may lag behind the true count and should only
+     * be used as hints, such as when planning queries.
+     *
+     * @param type The {@link Type} to estimate the number of instances of
+     * @return The estimated number of instances, or empty if no estimate has been recorded
+     */
+    @CheckReturnValue
+    Optional<Long> getInstanceCountEstimate(Type type);
+
+    /**
+     * Get the version of the schema when this transaction was opened. The version changes whenever a commit changes
+     * the schema, so it can be used to invalidate anything derived from the schema, such as query plans. The schema
+     * seen by this transaction is never older than this version.
+     *
+     * @return The version of the schema when this transaction was opened
+     */
+    @CheckReturnValue
+    long getSchemaVersion();
+
+    /**
+     * Check if this transaction has made any changes which have not been committed. Anything derived from the
+     * committed state of the graph, such as answers found by another transaction, may not be valid for such a
+     * transaction.
+     *
+     * @return true if the transaction has uncommitted changes
+     */
+    @CheckReturnValue
+    boolean hasUncommittedChanges();
+
+    /**
+     * Check if this transaction has changed the schema without committing it. Anything derived from the schema of
+     * {@link #getSchemaVersion()}, such as a precomputed rule graph, may not be valid for such a transaction.
+     *
+     * @return true if the transaction has uncommitted changes to the schema
+     */
+    @CheckReturnValue
+    boolean hasUncommittedSchemaChanges();
+
+    /**
+     * Check if the values of attributes are copied onto the isa edges of the attributes and onto the attribute edges
+     * of their owners. This is the case for every keyspace created since the values were first copied. Older keyspaces
+     * hold edges without values, so they must not be searched by value.
+     *
+     * @return true if the isa edges and attribute edges of attributes can be searched by value
+     */
+    @CheckReturnValue
+    boolean hasAttributeValuesOnEdges();
+
+    /**
+     * Opens a transaction of this graph bound to the calling thread. This allows other threads to work on the graph
+     * concurrently, each in their own transaction, without opening a new session.
+     *
+     * @param txType The type of transaction to open
+     */
+    void openTransaction(GraknTxType txType);
+
     /**
      * Creates a new shard for the concept
      * @param conceptId the id of the concept to shard
      */
     void shard(ConceptId conceptId);
 
+    /**
+     * Moves instances of the concept from its older shards onto its current shard
+     * @param conceptId the id of the sharded concept
+     * @param limit the maximum number of instances to move
+     * @return the number of instances which were moved
+     */
+    long rebalanceShards(ConceptId conceptId, long limit);
+
     /**
      *
      * @param key The concept property tp search by.
@@ -168,6 +168,8 @@ public enum ErrorMessage {
     ENGINE_ERROR("Exception on Grakn engine"),
     ENGINE_STARTUP_ERROR("Could not start Grakn engine: [%s]"),
     UNAVAILABLE_TASK_CLASS("Could not find task class [%s]"),
+    TASK_QUEUE_FULL("Task queue [%s] already holds the maximum of [%s] waiting tasks"),
+    UNSUPPORTED_TASK_PAYLOAD("Task payload has unsupported version [%s]"),
     UNAVAILABLE_PROPERTY("Property requested [%s] has not been defined. See configuration file [%s] for configured properties."),
     MISSING_MANDATORY_REQUEST_PARAMETERS("Missing mandatory query parameter [%s]"),
     MISSING_MANDATORY_BODY_REQUEST_PARAMETERS("Missing mandatory parameter in body [%s]"),
@@ -33,6 +33,7 @@ import ai.grakn.concept.Type;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import javax.annotation.CheckReturnValue;
+import java.util.Optional;
 
 import static ai.grakn.util.ErrorMessage.INVALID_IMPLICIT_TYPE;
 
@@ -158,6 +159,7 @@ public final class Schema {
         THING_TYPE_LABEL_ID(Integer.class), IS_ABSTRACT(Boolean.class), IS_IMPLICIT(Boolean.class),
         REGEX(String.class), DATA_TYPE(String.class), SHARD_COUNT(Long.class), CURRENT_LABEL_ID(Integer.class),
         RULE_WHEN(String.class), RULE_THEN(String.class), CURRENT_SHARD(String.class),
+        INSTANCE_COUNT_ESTIMATE(Long.class), ATTRIBUTE_VALUES_ON_EDGES(Boolean.class),
 
         //Supported Data Types
         VALUE_STRING(String.class), VALUE_LONG(Long.class),
@@ -185,7 +187,12 @@ public final class Schema {
         RELATIONSHIP_ROLE_VALUE_LABEL_ID(Integer.class),
         ROLE_LABEL_ID(Integer.class),
         RELATIONSHIP_TYPE_LABEL_ID(Integer.class),
-        REQUIRED(Boolean.class);
+        REQUIRED(Boolean.class),
+
+        //Values of attributes, copied onto their isa edges so that the shards of a type can be searched by value
+        VALUE_STRING(String.class), VALUE_LONG(Long.class),
+        VALUE_DOUBLE(Double.class), VALUE_INTEGER(Integer.class),
+        VALUE_FLOAT(Float.class), VALUE_DATE(Long.class);
 
         private final Class dataType;
 
@@ -197,6 +204,24 @@ public final class Schema {
         public Class getDataType() {
             return dataType;
         }
+
+        /**
+         * @param property The {@link VertexProperty} holding the value of an {@link Attribute}
+         * @return The property holding the same value on the isa edge of the {@link Attribute}, if values of that
+         * data type are ordered
+         */
+        @CheckReturnValue
+        public static Optional<EdgeProperty> ofValue(VertexProperty property) {
+            switch (property) {
+                case VALUE_STRING: return Optional.of(VALUE_STRING);
+                case VALUE_LONG: return Optional.of(VALUE_LONG);
+                case VALUE_DOUBLE: return Optional.of(VALUE_DOUBLE);
+                case VALUE_INTEGER: return Optional.of(VALUE_INTEGER);
+                case VALUE_FLOAT: return Optional.of(VALUE_FLOAT);
+                case VALUE_DATE: return Optional.of(VALUE_DATE);
+                default: return Optional.empty();
+            }
+        }
     }
 
     /**
@@ -70,6 +70,11 @@ public class GraknEngineConfig {
     public static final String REDIS_POOL_SIZE = "redis.pool-size";
 
     public static final String QUEUE_CONSUMERS = "queue.consumers";
+    // Number of tasks waiting in a single queue at which new tasks are refused, 0 for no limit
+    public static final String QUEUE_MAX_DEPTH = "queue.max-depth";
+    // Prefixes of the weight and of the number of tasks held at once of the queues of a task class
+    public static final String QUEUE_WEIGHT = "queue.weight";
+    public static final String QUEUE_CONCURRENCY = "queue.concurrency";
 
     public static final String STATIC_FILES_PATH = "server.static-file-dir";
 
@@ -78,8 +83,20 @@ public class GraknEngineConfig {
 
     // Delay for the post processing task in milliseconds
     public static final String POST_PROCESSING_TASK_DELAY = "tasks.postprocessing.delay";
+    // Number of duplicated attribute indices merged and committed together by post processing
+    public static final String POST_PROCESSING_BATCH_SIZE = "tasks.postprocessing.batch-size";
     public static final String TASKS_RETRY_DELAY = "tasks.retry.delay";
 
+    // Window in milliseconds over which commit logs are merged before post processing, 0 to disable merging
+    public static final String COMMIT_LOG_AGGREGATION_WINDOW = "tasks.commit-log.window";
+
+    // Number of threads resolving independent parts of inferred queries concurrently, 0 or 1 to disable
+    public static final String REASONER_PARALLELISM = "reasoner.parallelism";
+
+    // Whether facts inferred by rules are materialised in the background as the types they depend on gain instances.
+    // Experimental: materialised facts are not retracted when the data they were inferred from is deleted.
+    public static final String REASONER_INCREMENTAL_MATERIALISATION = "reasoner.materialisation.enabled";
+
     public static final int WEBSOCKET_TIMEOUT = 3600000;
 
     private static String configFilePath = null;
@@ -49,6 +49,7 @@ import ai.grakn.engine.util.EngineID;
 import ai.grakn.engine.util.JWTHandler;
 import ai.grakn.exception.GraknBackendException;
 import ai.grakn.exception.GraknServerException;
+import ai.grakn.graql.internal.reasoner.ParallelResolution;
 import ai.grakn.util.GraknVersion;
 import ai.grakn.util.REST;
 import com.codahale.metrics.Gauge;
@@ -126,6 +127,7 @@ public class GraknEngineServer implements AutoCloseable {
         this.lockProvider = inMemoryQueue ? new ProcessWideLockProvider()
                 : new JedisLockProvider(redisWrapper.getJedisPool());
         this.factory = EngineGraknTxFactory.create(prop.getProperties());
+        ParallelResolution.setParallelism(prop.tryIntProperty(GraknEngineConfig.REASONER_PARALLELISM, 0));
         // Task manager
         this.taskManager = startTaskManager(inMemoryQueue, redisWrapper.getJedisPool(), lockProvider);
     }
@@ -160,6 +162,7 @@ public class GraknEngineServer implements AutoCloseable {
         synchronized (this){
             checkVersion();
             lockAndInitializeSystemSchema();
+            factory.systemKeyspace().shareThrough(redisWrapper.getJedisPool());
             startHTTP();
         }
         graknEngineStatus.setReady(true);
@@ -181,6 +184,8 @@ public class GraknEngineServer implements AutoCloseable {
         synchronized (this) {
             stopTaskManager();
             stopHTTP();
+            factory.systemKeyspace().stopSharing();
+            ParallelResolution.shutdown();
             redisWrapper.close();
         }
     }
@@ -257,8 +262,6 @@ public class GraknEngineServer implements AutoCloseable {
         RemoteSession graqlWebSocket = passwordProtected ? RemoteSession.passwordProtected(usersHandler) : RemoteSession.create();
         spark.webSocket(REST.WebPath.REMOTE_SHELL_URI, graqlWebSocket);
 
-        int postProcessingDelay = prop.getPropertyAsInt(GraknEngineConfig.POST_PROCESSING_TASK_DELAY);
-
         // Start all the controllers
         new GraqlController(factory, spark, metricRegistry);
         new ConceptController(factory, spark, metricRegistry);
@@ -266,7 +269,7 @@ public class GraknEngineServer implements AutoCloseable {
         new SystemController(factory, spark, graknEngineStatus, metricRegistry);
         new AuthController(spark, passwordProtected, jwtHandler, usersHandler);
         new UserController(spark, usersHandler);
-        new CommitLogController(spark, postProcessingDelay, taskManager);
+        new CommitLogController(spark, taskManager.commitLogs());
         new TasksController(spark, taskManager, metricRegistry);
         new EntityController(factory, spark);
         new EntityTypeController(factory, spark);
@@ -31,10 +31,20 @@ import ai.grakn.exception.GraknBackendException;
 import ai.grakn.exception.InvalidKBException;
 import ai.grakn.kb.admin.GraknAdmin;
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.util.Pool;
 
-import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * <p>
@@ -53,13 +63,31 @@ import java.util.concurrent.ConcurrentHashMap;
  * keyspace. An element is added to that list when there is an attempt to create
  * a graph from a factory bound to the keyspace name. The list is simply the
  * instances of the system entity type 'keyspace'. Nothing is ever removed from
- * that list. The set of known keyspaces is maintained in a static map so we
+ * that list. The set of known keyspaces is held in memory so we
  * don't connect to the system keyspace every time a factory produces a new
  * graph. That means that we can't have several different factories (e.g. Janus
  * and in-memory Tinkerpop) at the same time sharing keyspace names. We can't
  * identify the factory builder by engineUrl and config because we don't know
  * what's inside the config, which is residing remotely at the engine!
  * </p>
+ *
+ * <p>
+ * The set of known keyspaces is loaded from the system keyspace when engine starts. When several engines share
+ * the same system keyspace, each engine publishes the keyspaces it creates and deletes through redis so that
+ * the keyspaces known to the other engines stay up to date.
+ * </p>
+ *
+ * <p>
+ * The known keyspaces are held in an immutable set which is replaced whenever it changes, so they are read without
+ * locking. Changes, including loading the keyspaces, are made one at a time, so a change made while the keyspaces are
+ * being loaded is never lost.
+ * </p>
+ *
+ * <p>
+ * Keyspaces must be removed through {@link #deleteKeyspace(Keyspace)}. A keyspace removed from the system keyspace
+ * any other way, such as by deleting its entity directly, is still known until {@link #loadKeyspaces()} is called.
+ * This happens when engine starts and whenever it subscribes to the changes of the other engines.
+ * </p>
  * 
  * @author borislav, fppt
  *
@@ -73,8 +101,16 @@ public class SystemKeyspace {
     public static final Label KEYSPACE_RESOURCE = Label.of("keyspace-name");
 
     private static final Logger LOG = LoggerFactory.getLogger(SystemKeyspace.class);
-    private final ConcurrentHashMap<Keyspace, Boolean> openSpaces;
+    private static final String KEYSPACE_CHANNEL = "keyspace-registry";
+    private static final char CREATED = '+';
+    private static final char DELETED = '-';
+    private static final long RESUBSCRIBE_DELAY = 5000;
+    private static final long SUBSCRIBE_TIMEOUT = 10000;
+
+    private volatile ImmutableSet<Keyspace> openSpaces = ImmutableSet.of();
     private final EngineGraknTxFactory factory;
+    private final KeyspaceListener listener = new KeyspaceListener();
+    private volatile @Nullable Pool<Jedis> jedisPool = null;
 
     public SystemKeyspace(EngineGraknTxFactory factory){
         this(factory, true);
@@ -82,17 +118,17 @@ public class SystemKeyspace {
 
     public SystemKeyspace(EngineGraknTxFactory factory, boolean loadSystemSchema){
         this.factory = factory;
-        this.openSpaces = new ConcurrentHashMap<>();
         if (loadSystemSchema) {
             loadSystemSchema();
         }
     }
 
     /**
-     * Notify that we just opened a keyspace with the same engineUrl & config.
+     * Notify that we just opened a keyspace with the same engineUrl & config. Keyspaces which are already known are
+     * not added to the system keyspace again.
      */
      public boolean ensureKeyspaceInitialised(Keyspace keyspace) {
-         if(openSpaces.containsKey(keyspace)){
+         if(openSpaces.contains(keyspace)){
              return true;
          }
 
@@ -110,19 +146,120 @@ public class SystemKeyspace {
             throw new RuntimeException("Could not add keyspace [" + keyspace + "] to system graph", e);
         }
 
+        addOpenSpace(keyspace);
+        publish(CREATED, keyspace);
         return true;
     }
 
     /**
-     * Checks if the keyspace exists in the system. The persisted graph is checked each time because the graph
-     * may have been deleted in another JVM.
+     * Checks if the keyspace exists in the system. Keyspaces deleted by other engines are removed from the known
+     * keyspaces when the deletion is published, so only keyspaces which are not known are looked up in the
+     * persisted graph. Keyspaces removed without {@link #deleteKeyspace(Keyspace)} are still found.
      *
      * @param keyspace The {@link Keyspace} which might be in the system
      * @return true if the keyspace is in the system
      */
     public boolean containsKeyspace(Keyspace keyspace){
+        if(openSpaces.contains(keyspace)){
+            return true;
+        }
+
         try (GraknTx graph = factory.tx(SYSTEM_KB_KEYSPACE, GraknTxType.READ)) {
-            return graph.getAttributeType(KEYSPACE_RESOURCE.getValue()).getAttribute(keyspace) != null;
+            AttributeType<String> keyspaceName = graph.getSchemaConcept(KEYSPACE_RESOURCE);
+            if(keyspaceName == null) return false;
+            Attribute<String> attribute = keyspaceName.getAttribute(keyspace.getValue());
+            if(attribute == null || attribute.owner() == null) return false;
+        }
+
+        addOpenSpace(keyspace);
+        return true;
+    }
+
+    /**
+     * Replaces the known keyspaces with the keyspaces in the persisted graph.
+     */
+    public synchronized void loadKeyspaces(){
+        try (GraknTx graph = factory.tx(SYSTEM_KB_KEYSPACE, GraknTxType.READ)) {
+            AttributeType<String> keyspaceName = graph.getSchemaConcept(KEYSPACE_RESOURCE);
+            if(keyspaceName == null) return;
+            Set<Keyspace> keyspaces = keyspaceName.instances()
+                    .filter(name -> name.owner() != null)
+                    .map(name -> Keyspace.of(name.getValue()))
+                    .collect(Collectors.toSet());
+            openSpaces = ImmutableSet.copyOf(keyspaces);
+        }
+    }
+
+    private synchronized void addOpenSpace(Keyspace keyspace){
+        if(!openSpaces.contains(keyspace)){
+            openSpaces = ImmutableSet.<Keyspace>builder().addAll(openSpaces).add(keyspace).build();
+        }
+    }
+
+    private synchronized void removeOpenSpace(Keyspace keyspace){
+        if(openSpaces.contains(keyspace)){
+            openSpaces = ImmutableSet.copyOf(Sets.difference(openSpaces, ImmutableSet.of(keyspace)));
+        }
+    }
+
+    /**
+     * Publishes the keyspaces created and deleted by this engine through redis, and keeps track of the keyspaces
+     * published by other engines. The known keyspaces are loaded once subscribed, so no change published in between
+     * is missed. This waits until they have been loaded.
+     *
+     * @param jedisPool The connections to the redis server shared by all engines
+     */
+    public void shareThrough(Pool<Jedis> jedisPool){
+        CountDownLatch loaded = new CountDownLatch(1);
+        listener.loaded = loaded;
+        this.jedisPool = jedisPool;
+        Thread subscriber = new Thread(() -> subscribe(jedisPool), "keyspace-registry-subscriber");
+        subscriber.setDaemon(true);
+        subscriber.start();
+
+        try {
+            if(!loaded.await(SUBSCRIBE_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                LOG.warn("Could not subscribe to keyspace changes within {} ms, loading keyspaces without", SUBSCRIBE_TIMEOUT);
+                loadKeyspaces();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops sharing keyspaces through redis
+     */
+    public void stopSharing(){
+        jedisPool = null;
+        if(listener.isSubscribed()) listener.unsubscribe();
+    }
+
+    private void subscribe(Pool<Jedis> pool){
+        while(jedisPool == pool) {
+            try (Jedis jedis = pool.getResource()) {
+                jedis.subscribe(listener, KEYSPACE_CHANNEL);
+            } catch (JedisException e) {
+                if(jedisPool != pool) return;
+                LOG.warn("Lost subscription to keyspace changes, retrying in {} ms", RESUBSCRIBE_DELAY, e);
+                try {
+                    Thread.sleep(RESUBSCRIBE_DELAY);
+                } catch (InterruptedException e1) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void publish(char change, Keyspace keyspace){
+        Pool<Jedis> pool = jedisPool;
+        if(pool == null) return;
+
+        try (Jedis jedis = pool.getResource()) {
+            jedis.publish(KEYSPACE_CHANNEL, change + keyspace.getValue());
+        } catch (JedisException e) {
+            LOG.warn("Could not publish change to keyspace [{}]", keyspace, e);
         }
     }
 
@@ -146,11 +283,12 @@ public class SystemKeyspace {
             if(thing != null) thing.delete();
             attribute.delete();
 
-            openSpaces.remove(keyspace);
+            removeOpenSpace(keyspace);
 
             graph.admin().commitNoLogs();
         }
 
+        publish(DELETED, keyspace);
         return true;
     }
 
@@ -202,4 +340,28 @@ public class SystemKeyspace {
                 attribute(userEmail).
                 attribute(userIsAdmin);
     }
+
+    /**
+     * Applies the keyspace changes published by all engines to the known keyspaces
+     */
+    private class KeyspaceListener extends JedisPubSub {
+        private volatile CountDownLatch loaded = new CountDownLatch(0);
+
+        @Override
+        public void onSubscribe(String channel, int subscribedChannels) {
+            //Changes may have been published whilst this engine was not subscribed
+            loadKeyspaces();
+            loaded.countDown();
+        }
+
+        @Override
+        public void onMessage(String channel, String message) {
+            Keyspace keyspace = Keyspace.of(message.substring(1));
+            if(message.charAt(0) == CREATED){
+                addOpenSpace(keyspace);
+            } else if(message.charAt(0) == DELETED){
+                removeOpenSpace(keyspace);
+            }
+        }
+    }
 }
\ No newline at end of file
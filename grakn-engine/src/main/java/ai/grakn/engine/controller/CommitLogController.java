@@ -19,11 +19,7 @@
 package ai.grakn.engine.controller;
 
 import ai.grakn.Keyspace;
-import ai.grakn.engine.postprocessing.PostProcessingTask;
-import ai.grakn.engine.postprocessing.UpdatingInstanceCountTask;
-import ai.grakn.engine.tasks.manager.TaskConfiguration;
-import ai.grakn.engine.tasks.manager.TaskManager;
-import ai.grakn.engine.tasks.manager.TaskState;
+import ai.grakn.engine.postprocessing.CommitLogAggregator;
 import ai.grakn.util.REST;
 import io.swagger.annotations.ApiImplicitParam;
 import io.swagger.annotations.ApiImplicitParams;
@@ -36,7 +32,6 @@ import spark.Service;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
-import java.util.concurrent.CompletableFuture;
 
 import static ai.grakn.engine.controller.util.Requests.mandatoryQueryParameter;
 import static ai.grakn.util.REST.Request.COMMIT_LOG_COUNTING;
@@ -50,12 +45,10 @@ import static ai.grakn.util.REST.Request.KEYSPACE_PARAM;
  */
 //TODO Implement delete
 public class CommitLogController {
-    private final TaskManager manager;
-    private final int postProcessingDelay;
+    private final CommitLogAggregator commitLogs;
 
-    public CommitLogController(Service spark, int postProcessingDelay, TaskManager manager){
-        this.postProcessingDelay = postProcessingDelay;
-        this.manager = manager;
+    public CommitLogController(Service spark, CommitLogAggregator commitLogs){
+        this.commitLogs = commitLogs;
 
         spark.post(REST.WebPath.COMMIT_LOG_URI, this::submitConcepts);
         spark.delete(REST.WebPath.COMMIT_LOG_URI, this::deleteConcepts);
@@ -82,24 +75,9 @@ public class CommitLogController {
     private Json submitConcepts(Request req, Response res) {
         Keyspace keyspace = Keyspace.of(mandatoryQueryParameter(req, KEYSPACE_PARAM));
 
-        // Instances to post process
-        TaskState postProcessingTaskState = PostProcessingTask.createTask(this.getClass(), postProcessingDelay);
-        TaskConfiguration postProcessingTaskConfiguration = PostProcessingTask.createConfig(keyspace, req.body());
+        // Instances to post process and count are merged with other commit logs of the keyspace
+        Json tasks = commitLogs.submit(keyspace, req.body());
 
-        //Instances to count
-        TaskState countingTaskState = UpdatingInstanceCountTask.createTask(this.getClass());
-        TaskConfiguration countingTaskConfiguration = UpdatingInstanceCountTask.createConfig(keyspace, req.body());
-
-        // TODO Use an engine wide executor here
-        CompletableFuture.allOf(
-                CompletableFuture.runAsync(() -> manager.addTask(postProcessingTaskState, postProcessingTaskConfiguration)),
-                CompletableFuture.runAsync(() -> manager.addTask(countingTaskState, countingTaskConfiguration)))
-                .join();
-
-        return Json.object(
-                "postProcessingTaskId", postProcessingTaskState.getId().getValue(),
-                "countingTaskId", countingTaskState.getId().getValue(),
-                "keyspace", keyspace.getValue()
-        );
+        return tasks.set("keyspace", keyspace.getValue());
     }
 }
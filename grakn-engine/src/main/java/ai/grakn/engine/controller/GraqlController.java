@@ -19,6 +19,7 @@
 package ai.grakn.engine.controller;
 
 import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
 import ai.grakn.Keyspace;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.exception.GraknServerException;
@@ -32,8 +33,10 @@ import ai.grakn.graql.GetQuery;
 import ai.grakn.graql.Printer;
 import ai.grakn.graql.Query;
 import ai.grakn.graql.analytics.PathQuery;
+import ai.grakn.graql.internal.gremlin.PlanCache;
 import ai.grakn.graql.internal.printer.Printers;
 import ai.grakn.util.REST;
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import io.swagger.annotations.Api;
@@ -52,8 +55,20 @@ import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static ai.grakn.GraknTxType.READ;
 import static ai.grakn.GraknTxType.WRITE;
 import static ai.grakn.engine.controller.util.Requests.mandatoryBody;
 import static ai.grakn.engine.controller.util.Requests.mandatoryQueryParameter;
@@ -88,12 +103,15 @@ public class GraqlController {
     private final EngineGraknTxFactory factory;
     private final Timer executeGraqlGetTimer;
     private final Timer executeGraqlPostTimer;
+    private final MetricRegistry metricRegistry;
+    private final Set<Keyspace> planCacheMetrics = ConcurrentHashMap.newKeySet();
 
     public GraqlController(EngineGraknTxFactory factory, Service spark,
                            MetricRegistry metricRegistry) {
         this.factory = factory;
         this.executeGraqlGetTimer = metricRegistry.timer(name(GraqlController.class, "execute-graql-get"));
         this.executeGraqlPostTimer = metricRegistry.timer(name(GraqlController.class, "execute-graql-post"));
+        this.metricRegistry = metricRegistry;
 
         spark.post(REST.WebPath.KB.ANY_GRAQL, this::executeGraql);
         spark.get(REST.WebPath.KB.GRAQL,    this::executeGraqlGET);
@@ -116,6 +134,7 @@ public class GraqlController {
         boolean materialise = parseBoolean(mandatoryQueryParameter(request, MATERIALISE));
         int limitEmbedded = queryParameter(request, LIMIT_EMBEDDED).map(Integer::parseInt).orElse(-1);
         String acceptType = getAcceptType(request);
+        registerPlanCacheMetrics(keyspace);
 
         try(GraknTx graph = factory.tx(keyspace, WRITE); Timer.Context context = executeGraqlPostTimer.time()) {
             Query<?> query = graph.graql().materialise(materialise).infer(infer).parse(queryString);
@@ -136,7 +155,7 @@ public class GraqlController {
             @ApiImplicitParam(name = INFER,       value = "Should reasoner with the current query.", required = true, dataType = "boolean", paramType = "query"),
             @ApiImplicitParam(name = MATERIALISE, value = "Should reasoner materialise results with the current query.", required = true, dataType = "boolean", paramType = "query")
     })
-    private Object executeGraqlGET(Request request, Response response) {
+    private Object executeGraqlGET(Request request, Response response) throws IOException {
         String keyspace = mandatoryQueryParameter(request, KEYSPACE);
         String queryString = mandatoryQueryParameter(request, QUERY);
         boolean infer = parseBoolean(mandatoryQueryParameter(request, INFER));
@@ -144,18 +163,35 @@ public class GraqlController {
         int limitEmbedded = queryParameter(request, LIMIT_EMBEDDED).map(Integer::parseInt).orElse(-1);
         String acceptType = getAcceptType(request);
 
-        try(GraknTx graph = factory.tx(keyspace, WRITE); Timer.Context context = executeGraqlGetTimer.time()) {
+        //Inference inserts the facts it derives into the transaction, so only queries without it can be read only
+        GraknTxType txType = infer ? WRITE : READ;
+        registerPlanCacheMetrics(Keyspace.of(keyspace));
+
+        try(GraknTx graph = factory.tx(keyspace, txType); Timer.Context context = executeGraqlGetTimer.time()) {
             Query<?> query = graph.graql().materialise(materialise).infer(infer).parse(queryString);
 
             if(!query.isReadOnly()) throw GraknServerException.invalidQuery("\"read-only\"");
 
             if(!validContentType(acceptType, query)) throw GraknServerException.contentTypeQueryMismatch(acceptType, query);
 
+            if(query instanceof GetQuery) return streamGET(response, graph.getKeyspace(), limitEmbedded, (GetQuery) query, acceptType);
+
             Object responseBody = executeGET(graph.getKeyspace(), limitEmbedded, query, acceptType);
             return respond(response, acceptType, responseBody);
         }
     }
 
+    /**
+     * Register gauges for the hits and misses of the plan cache of a keyspace, the first time it is queried
+     */
+    private void registerPlanCacheMetrics(Keyspace keyspace) {
+        if (!planCacheMetrics.add(keyspace)) return;
+        metricRegistry.register(name(GraqlController.class, "plan-cache", keyspace.getValue(), "hits"),
+                (Gauge<Long>) () -> PlanCache.hitCount(keyspace));
+        metricRegistry.register(name(GraqlController.class, "plan-cache", keyspace.getValue(), "misses"),
+                (Gauge<Long>) () -> PlanCache.missCount(keyspace));
+    }
+
     /**
      * Handle any {@link Exception} that are thrown by the server. Configures and returns
      * the correct JSON response with the given status.
@@ -260,6 +296,57 @@ public class GraqlController {
         }
     }
 
+    /**
+     * Execute a get query and write each answer to the response as it is found, in the format specified by the
+     * request. The response is sent with chunked transfer encoding, so the answers are never all held in memory.
+     * If the query fails after the status has been sent, the failure is written at the end of the body instead.
+     *
+     * @param keyspace the {@link Keyspace} the query is running on
+     * @param query get query to be executed
+     * @param acceptType response format that the client will accept
+     * @return the raw response, which has already been written and closed
+     */
+    private Object streamGET(Response response, Keyspace keyspace, int limitEmbedded, GetQuery query, String acceptType)
+            throws IOException {
+        Printer<?> printer;
+        Stream<?> results;
+
+        switch (acceptType){
+            case APPLICATION_TEXT:
+                printer = Printers.graql(false);
+                results = query.stream();
+                break;
+            case APPLICATION_JSON_GRAQL:
+                printer = Printers.json();
+                results = query.stream();
+                break;
+            case APPLICATION_HAL:
+                // The answers are rendered as HAL before printing, so the printer only joins them into an array
+                printer = Printers.hal(keyspace, limitEmbedded);
+                results = renderHALArrayData(query, query.stream(), 0, limitEmbedded, false);
+                break;
+            default:
+                throw GraknServerException.unsupportedContentType(acceptType);
+        }
+
+        // Anything which fails before the first result is found is reported with an error status as usual
+        Iterator<?> iterator = results.iterator();
+        if (!iterator.hasNext()) return respond(response, acceptType, printer.graqlString(Collections.emptyList()));
+
+        response.type(acceptType);
+        response.status(200);
+
+        try (Writer writer = new OutputStreamWriter(response.raw().getOutputStream(), StandardCharsets.UTF_8)) {
+            printer.write(writer, StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, 0), false));
+        } catch (RuntimeException e) {
+            // The status has already been sent, so the printer has reported the failure at the end of the body
+            LOG.error("REST error after streaming part of the results", e);
+        }
+
+        // The response is committed, so Spark does not write this body
+        return response.raw();
+    }
+
     /**
      * Format a query as HAL
      *
@@ -272,9 +359,7 @@ public class GraqlController {
         // This ugly instanceof business needs to be done because the HAL array renderer does not
         // support Compute queries and because Compute queries do not have the "admin" interface
 
-        if(query instanceof GetQuery) {
-            return renderHALArrayData((GetQuery) query, 0, numberEmbeddedComponents);
-        } else if(query instanceof PathQuery) {
+        if(query instanceof PathQuery) {
             Json array = Json.array();
             // The below was taken line-for-line from previous way of rendering
             ((PathQuery) query).execute()
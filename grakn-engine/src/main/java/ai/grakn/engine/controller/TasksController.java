@@ -93,6 +93,9 @@ public class TasksController {
 
     private static final int MAX_THREADS = 10;
     private static final Duration MAX_EXECUTION_TIME = Duration.ofSeconds(10);
+    // Suggested wait before re-submitting tasks refused because their queue is full
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(10);
+    private static final int SC_TOO_MANY_REQUESTS = 429;
 
     private final TaskManager manager;
     private final ExecutorService executor;
@@ -251,14 +254,23 @@ public class TasksController {
         List<Json> results = completableFuture
                 .get(MAX_EXECUTION_TIME.getSeconds(), TimeUnit.SECONDS);
         boolean hasFailures = false;
+        int refused = 0;
         for (Json resultForTask : results) {
             responseJson.add(resultForTask);
-            if (resultForTask.at("code").asInteger() != HttpStatus.SC_OK) {
+            int code = resultForTask.at("code").asInteger();
+            if (code == SC_TOO_MANY_REQUESTS) {
+                refused++;
+            } else if (code != HttpStatus.SC_OK) {
                 LOG.error("Could not add task {}", resultForTask);
-                hasFailures = true;
             }
+            hasFailures |= code != HttpStatus.SC_OK;
         }
-        if (!hasFailures) {
+        // Tasks refused because their queue is full can be sent again later. The code of each task tells
+        // the client which of them were accepted.
+        if (refused > 0) {
+            response.header("Retry-After", String.valueOf(RETRY_AFTER.getSeconds()));
+            response.status(SC_TOO_MANY_REQUESTS);
+        } else if (!hasFailures) {
             response.status(HttpStatus.SC_OK);
         } else if (responseJson.asJsonList().size() > 0) {
             response.status(HttpStatus.SC_ACCEPTED);
@@ -334,6 +346,12 @@ public class TasksController {
                 singleTaskReturnJson.set("code", HttpStatus.SC_OK);
             }
             singleTaskReturnJson.set("id", id.getValue());
+        } catch (GraknServerException e) {
+            if (e.getStatus() != SC_TOO_MANY_REQUESTS) {
+                LOG.error("Server error while adding the task", e);
+            }
+            singleTaskReturnJson.set("code", e.getStatus());
+            singleTaskReturnJson.set(EXCEPTION, e.getMessage());
         } catch (Exception e) {
             LOG.error("Server error while adding the task", e);
             singleTaskReturnJson.set("code", HttpStatus.SC_INTERNAL_SERVER_ERROR);
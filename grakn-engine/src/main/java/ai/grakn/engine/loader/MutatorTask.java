@@ -22,8 +22,6 @@ import ai.grakn.GraknTx;
 import ai.grakn.Keyspace;
 import ai.grakn.engine.GraknEngineConfig;
 import ai.grakn.engine.postprocessing.GraknTxMutators;
-import ai.grakn.engine.postprocessing.PostProcessingTask;
-import ai.grakn.engine.postprocessing.UpdatingInstanceCountTask;
 import ai.grakn.engine.tasks.BackgroundTask;
 import ai.grakn.engine.tasks.manager.TaskConfiguration;
 import ai.grakn.graql.Graql;
@@ -46,7 +44,8 @@ import static com.codahale.metrics.MetricRegistry.name;
  * Task that will mutate data in a graph. It uses the engine running on the
  * engine executing the task.
  *
- * The task will then submit all modified concepts for post processing.
+ * The task will then submit all modified concepts for post processing through the
+ * {@link ai.grakn.engine.postprocessing.CommitLogAggregator}.
  *
  * @author Alexandra Orth
  */
@@ -87,14 +86,8 @@ public class MutatorTask extends BackgroundTask {
                 });
 
                 Optional<String> result = graph.admin().commitNoLogs();
-                if(result.isPresent()){ // Submit more tasks if commit resulted in created commit logs
-                    String logs = result.get();
-                    addTask(PostProcessingTask.createTask(this.getClass(), engineConfiguration()
-                                    .getPropertyAsInt(GraknEngineConfig.POST_PROCESSING_TASK_DELAY)),
-                            PostProcessingTask.createConfig(graph.getKeyspace(), logs));
-                    addTask(UpdatingInstanceCountTask.createTask(this.getClass()),
-                            UpdatingInstanceCountTask.createConfig(graph.getKeyspace(), logs));
-                }
+                // Submit more tasks if commit resulted in created commit logs
+                result.ifPresent(logs -> commitLogs().submit(graph.getKeyspace(), logs));
                 return true;
             }
         }
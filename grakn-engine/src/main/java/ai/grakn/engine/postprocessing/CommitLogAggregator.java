@@ -0,0 +1,258 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.postprocessing;
+
+import ai.grakn.Keyspace;
+import ai.grakn.engine.GraknEngineConfig;
+import ai.grakn.engine.tasks.manager.TaskSubmitter;
+import ai.grakn.util.REST;
+import ai.grakn.util.Schema;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import mjson.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.util.Pool;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *     Merges commit logs before they are turned into post processing tasks.
+ * </p>
+ *
+ * <p>
+ *     Every commit produces a commit log containing the attribute indices which may have duplicates and the types
+ *     which have gained or lost instances. During bulk loading many commits touch the same indices and types, so
+ *     rather than submitting a {@link PostProcessingTask} and an {@link UpdatingInstanceCountTask} per commit the
+ *     logs are buffered per {@link Keyspace}. Once per window the buffered logs are flushed as a single task of each
+ *     kind, with instance count changes summed by concept id and the concept ids of each attribute index unioned.
+ *     The ids of these tasks are chosen when the window starts, and returned for every commit log merged into them.
+ * </p>
+ *
+ * <p>
+ *     When engine runs with redis the logs are buffered in redis before a commit log is acknowledged, so they are
+ *     shared by all engines and are not lost when an engine stops. Otherwise they are buffered in memory.
+ * </p>
+ *
+ * <p>
+ *     If the window configured by {@link GraknEngineConfig#COMMIT_LOG_AGGREGATION_WINDOW} is not positive, the tasks
+ *     are submitted as soon as a commit log is received.
+ * </p>
+ *
+ * <p>
+ *     If {@link GraknEngineConfig#REASONER_INCREMENTAL_MATERIALISATION} is enabled, a {@link MaterialisationTask} is
+ *     also submitted for the types which have gained instances, unless those instances were themselves materialised.
+ * </p>
+ *
+ * @author agent
+ */
+public class CommitLogAggregator implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(CommitLogAggregator.class);
+    private static final String LOG_ENTRY = "log";
+    private static final String MATERIALISE = "materialise";
+
+    private final TaskSubmitter taskSubmitter;
+    private final int postProcessingDelay;
+    private final boolean materialisation;
+    private final CommitLogBuffer buffer;
+    private final @Nullable ScheduledExecutorService flushingService;
+
+    private CommitLogAggregator(TaskSubmitter taskSubmitter, int postProcessingDelay, long window,
+                                boolean materialisation, CommitLogBuffer buffer){
+        this.taskSubmitter = taskSubmitter;
+        this.postProcessingDelay = postProcessingDelay;
+        this.materialisation = materialisation;
+        this.buffer = buffer;
+
+        if(window > 0){
+            flushingService = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("commit-log-aggregator-%s").setDaemon(true).build());
+            flushingService.scheduleWithFixedDelay(this::flushSafely, window, window, TimeUnit.MILLISECONDS);
+        } else {
+            flushingService = null;
+        }
+    }
+
+    /**
+     * Creates an aggregator buffering commit logs in the memory of this engine
+     */
+    public static CommitLogAggregator create(TaskSubmitter taskSubmitter, GraknEngineConfig config){
+        return create(taskSubmitter, config, new InMemoryCommitLogBuffer());
+    }
+
+    /**
+     * Creates an aggregator buffering commit logs in redis
+     */
+    public static CommitLogAggregator create(TaskSubmitter taskSubmitter, GraknEngineConfig config,
+                                             Pool<Jedis> jedisPool){
+        return create(taskSubmitter, config, new RedisCommitLogBuffer(jedisPool));
+    }
+
+    private static CommitLogAggregator create(TaskSubmitter taskSubmitter, GraknEngineConfig config,
+                                              CommitLogBuffer buffer){
+        return new CommitLogAggregator(taskSubmitter, config.getPropertyAsInt(GraknEngineConfig.POST_PROCESSING_TASK_DELAY),
+                config.tryIntProperty(GraknEngineConfig.COMMIT_LOG_AGGREGATION_WINDOW, 0),
+                config.getPropertyAsBool(GraknEngineConfig.REASONER_INCREMENTAL_MATERIALISATION, false), buffer);
+    }
+
+    public static CommitLogAggregator create(TaskSubmitter taskSubmitter, int postProcessingDelay, long window){
+        return create(taskSubmitter, postProcessingDelay, window, false);
+    }
+
+    public static CommitLogAggregator create(
+            TaskSubmitter taskSubmitter, int postProcessingDelay, long window, boolean materialisation){
+        return create(taskSubmitter, postProcessingDelay, window, materialisation, new InMemoryCommitLogBuffer());
+    }
+
+    static CommitLogAggregator create(TaskSubmitter taskSubmitter, int postProcessingDelay, long window,
+                                      boolean materialisation, CommitLogBuffer buffer){
+        return new CommitLogAggregator(taskSubmitter, postProcessingDelay, window, materialisation, buffer);
+    }
+
+    /**
+     * Adds a commit log, as produced by {@link ai.grakn.kb.internal.CommitLog#formatLog}, to the logs of a keyspace.
+     *
+     * @param keyspace The keyspace the commit log was produced in
+     * @param commitLog The commit log
+     * @return The ids of the post processing and counting tasks the commit log is merged into
+     */
+    public Json submit(Keyspace keyspace, String commitLog){
+        return submit(keyspace, commitLog, true);
+    }
+
+    /**
+     * Adds a commit log of facts materialised by a {@link MaterialisationTask}. The rules affected by these facts have
+     * already been applied by the same task, so they are not materialised again.
+     *
+     * @param keyspace The keyspace the commit log was produced in
+     * @param commitLog The commit log
+     */
+    public void submitMaterialised(Keyspace keyspace, String commitLog){
+        submit(keyspace, commitLog, false);
+    }
+
+    private Json submit(Keyspace keyspace, String commitLog, boolean materialise){
+        Json log = Json.read(commitLog);
+
+        CommitLogBuffer.Tasks tasks;
+        if(flushingService == null){
+            tasks = CommitLogBuffer.Tasks.generate();
+            PendingLog pendingLog = new PendingLog();
+            pendingLog.merge(log, materialise);
+            submitTasks(keyspace, tasks, pendingLog);
+        } else {
+            tasks = buffer.add(keyspace, Json.object(LOG_ENTRY, log, MATERIALISE, materialise).toString());
+        }
+
+        return Json.object(
+                "postProcessingTaskId", tasks.postProcessing().getValue(),
+                "countingTaskId", tasks.counting().getValue());
+    }
+
+    /**
+     * Submits a single {@link PostProcessingTask} and {@link UpdatingInstanceCountTask} for each keyspace with
+     * buffered commit logs.
+     */
+    public void flush(){
+        buffer.drain().forEach((keyspace, window) -> {
+            PendingLog pendingLog = new PendingLog();
+            window.entries().forEach(entry -> {
+                Json json = Json.read(entry);
+                pendingLog.merge(json.at(LOG_ENTRY), json.at(MATERIALISE).asBoolean());
+            });
+            submitTasks(keyspace, window.tasks(), pendingLog);
+        });
+    }
+
+    private void flushSafely(){
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            //An exception would stop the scheduled flushing altogether
+            LOG.error("Could not submit merged commit logs", e);
+        }
+    }
+
+    private void submitTasks(Keyspace keyspace, CommitLogBuffer.Tasks tasks, PendingLog pendingLog){
+        String config = pendingLog.format().toString();
+
+        //The ids of both tasks have been handed out, so both are submitted even if one has nothing to do
+        taskSubmitter.addTask(
+                PostProcessingTask.createTask(tasks.postProcessing(), CommitLogAggregator.class, postProcessingDelay),
+                PostProcessingTask.createConfig(keyspace, config));
+        taskSubmitter.addTask(UpdatingInstanceCountTask.createTask(tasks.counting(), CommitLogAggregator.class),
+                UpdatingInstanceCountTask.createConfig(keyspace, config));
+
+        if(materialisation && !pendingLog.insertedTypes.isEmpty()) {
+            taskSubmitter.addTask(MaterialisationTask.createTask(CommitLogAggregator.class, postProcessingDelay),
+                    MaterialisationTask.createConfig(keyspace, pendingLog.insertedTypes));
+        }
+    }
+
+    @Override
+    public void close(){
+        if(flushingService != null) flushingService.shutdownNow();
+        flush();
+    }
+
+    /**
+     * The merged contents of the commit logs of a single keyspace
+     */
+    private static class PendingLog {
+        private final Map<String, Set<String>> attributes = new HashMap<>();
+        private final Map<String, Long> instanceCounts = new HashMap<>();
+        private final Set<String> insertedTypes = new HashSet<>();
+
+        private void merge(Json commitLog, boolean materialise){
+            commitLog.at(REST.Request.COMMIT_LOG_FIXING).at(Schema.BaseType.ATTRIBUTE.name()).asJsonMap()
+                    .forEach((index, ids) -> {
+                        Set<String> conceptIds = attributes.computeIfAbsent(index, k -> new HashSet<>());
+                        ids.asJsonList().forEach(id -> conceptIds.add(id.asString()));
+                    });
+
+            commitLog.at(REST.Request.COMMIT_LOG_COUNTING).asJsonList().forEach(count -> {
+                String conceptId = count.at(REST.Request.COMMIT_LOG_CONCEPT_ID).asString();
+                long change = count.at(REST.Request.COMMIT_LOG_SHARDING_COUNT).asLong();
+                if(materialise && change > 0) insertedTypes.add(conceptId);
+
+                //Changes which cancel each other out do not need to be counted
+                if(instanceCounts.merge(conceptId, change, Long::sum) == 0) instanceCounts.remove(conceptId);
+            });
+        }
+
+        private Json format(){
+            Json typesWithInstanceChanges = Json.array();
+            instanceCounts.forEach((conceptId, change) -> typesWithInstanceChanges.add(Json.object(
+                    REST.Request.COMMIT_LOG_CONCEPT_ID, conceptId,
+                    REST.Request.COMMIT_LOG_SHARDING_COUNT, change)));
+
+            return Json.object(
+                    REST.Request.COMMIT_LOG_FIXING, Json.object(Schema.BaseType.ATTRIBUTE.name(), Json.make(attributes)),
+                    REST.Request.COMMIT_LOG_COUNTING, typesWithInstanceChanges);
+        }
+    }
+}
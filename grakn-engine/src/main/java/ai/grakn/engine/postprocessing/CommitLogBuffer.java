@@ -0,0 +1,86 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.postprocessing;
+
+import ai.grakn.Keyspace;
+import ai.grakn.engine.TaskId;
+import com.google.auto.value.AutoValue;
+import com.google.common.collect.ImmutableList;
+
+import java.util.Map;
+
+/**
+ * <p>
+ *     Holds the commit logs received by {@link CommitLogAggregator} until they are merged into tasks.
+ * </p>
+ *
+ * <p>
+ *     The commit logs of each {@link Keyspace} are held in a window, together with the ids of the tasks they will be
+ *     merged into. The ids are chosen when the window starts, so they can be given to whoever submits a commit log.
+ * </p>
+ */
+interface CommitLogBuffer {
+
+    /**
+     * Adds an entry to the window of a keyspace, starting the window if there is none. The entry is held by the
+     * buffer once this returns.
+     *
+     * @param keyspace The keyspace the entry belongs to
+     * @param entry The entry to add
+     * @return The tasks the window will be merged into
+     */
+    Tasks add(Keyspace keyspace, String entry);
+
+    /**
+     * Removes the window of every keyspace
+     *
+     * @return The windows which held entries, by keyspace
+     */
+    Map<Keyspace, Window> drain();
+
+    /**
+     * The ids of the tasks the commit logs of a window are merged into
+     */
+    @AutoValue
+    abstract class Tasks {
+        abstract TaskId postProcessing();
+        abstract TaskId counting();
+
+        static Tasks of(TaskId postProcessing, TaskId counting) {
+            return new AutoValue_CommitLogBuffer_Tasks(postProcessing, counting);
+        }
+
+        static Tasks generate() {
+            return of(TaskId.generate(), TaskId.generate());
+        }
+    }
+
+    /**
+     * The entries held in a window and the tasks they are merged into
+     */
+    @AutoValue
+    abstract class Window {
+        abstract Tasks tasks();
+        abstract ImmutableList<String> entries();
+
+        static Window of(Tasks tasks, ImmutableList<String> entries) {
+            return new AutoValue_CommitLogBuffer_Window(tasks, entries);
+        }
+    }
+}
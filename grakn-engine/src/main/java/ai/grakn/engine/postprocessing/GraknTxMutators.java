@@ -74,7 +74,7 @@ public abstract class GraknTxMutators {
             EngineGraknTxFactory factory , Keyspace keyspace, GraknTxType txType, int maxRetry,
             Consumer<GraknTx> mutatingFunction
     ){
-        if(!factory.systemKeyspace().containsKeyspace(keyspace)){ //This may be slow.
+        if(!factory.systemKeyspace().containsKeyspace(keyspace)){
             throw GraknBackendException.noSuchKeyspace(keyspace);
         }
 
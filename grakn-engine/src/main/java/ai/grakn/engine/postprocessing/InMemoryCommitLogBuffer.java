@@ -0,0 +1,60 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.postprocessing;
+
+import ai.grakn.Keyspace;
+import com.google.common.collect.ImmutableList;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ *     A {@link CommitLogBuffer} held in the memory of this engine, for when engine runs without redis. Anything
+ *     buffered is lost if the engine stops before it is drained.
+ * </p>
+ */
+class InMemoryCommitLogBuffer implements CommitLogBuffer {
+
+    private Map<Keyspace, Tasks> tasks = new HashMap<>();
+    private Map<Keyspace, ImmutableList.Builder<String>> entries = new HashMap<>();
+
+    @Override
+    public synchronized Tasks add(Keyspace keyspace, String entry) {
+        entries.computeIfAbsent(keyspace, k -> ImmutableList.builder()).add(entry);
+        return tasks.computeIfAbsent(keyspace, k -> Tasks.generate());
+    }
+
+    @Override
+    public Map<Keyspace, Window> drain() {
+        Map<Keyspace, Tasks> drainedTasks;
+        Map<Keyspace, ImmutableList.Builder<String>> drainedEntries;
+        synchronized (this) {
+            drainedTasks = tasks;
+            drainedEntries = entries;
+            tasks = new HashMap<>();
+            entries = new HashMap<>();
+        }
+
+        Map<Keyspace, Window> windows = new HashMap<>();
+        drainedEntries.forEach((keyspace, builder) ->
+                windows.put(keyspace, Window.of(drainedTasks.get(keyspace), builder.build())));
+        return windows;
+    }
+}
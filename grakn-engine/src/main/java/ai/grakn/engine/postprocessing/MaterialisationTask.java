@@ -0,0 +1,198 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.postprocessing;
+
+import ai.grakn.GraknTx;
+import ai.grakn.Keyspace;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Role;
+import ai.grakn.concept.Rule;
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.engine.GraknEngineConfig;
+import ai.grakn.engine.tasks.BackgroundTask;
+import ai.grakn.engine.tasks.manager.TaskConfiguration;
+import ai.grakn.engine.tasks.manager.TaskSchedule;
+import ai.grakn.engine.tasks.manager.TaskState;
+import ai.grakn.graql.Pattern;
+import ai.grakn.graql.internal.reasoner.rule.RuleGraph;
+import ai.grakn.graql.internal.reasoner.rule.RuleUtil;
+import ai.grakn.util.REST;
+import com.codahale.metrics.Timer.Context;
+import mjson.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * <p>
+ *     Task that materialises the facts which rules infer from newly inserted data.
+ * </p>
+ *
+ * <p>
+ *     The task is given the types which have gained instances, as recorded in the commit logs. Only the rules which
+ *     have one of these types in their body, and the rules which depend on those, are applied. The rules are applied
+ *     in the order of their strata, each in its own transaction, so the facts inferred by a rule are committed before
+ *     the rules depending on them are applied. Facts which have already been materialised are not inserted again.
+ * </p>
+ *
+ * <p>
+ *     This is not a full incremental materialisation and is disabled by default through
+ *     {@link GraknEngineConfig#REASONER_INCREMENTAL_MATERIALISATION}. It has the following limitations:
+ * </p>
+ * <ul>
+ *     <li>No truth maintenance is done: the support of a materialised fact is not recorded, so materialised facts can
+ *     not be told apart from inserted facts.</li>
+ *     <li>Deletions are not propagated: facts inferred from data which is later deleted are kept.</li>
+ *     <li>Rules are not evaluated against the newly inserted data alone: the whole head of each affected rule is
+ *     re-derived, so the cost grows with the size of the knowledge base rather than the size of the change.</li>
+ * </ul>
+ *
+ * @author agent
+ */
+public class MaterialisationTask extends BackgroundTask {
+    private static final Logger LOG = LoggerFactory.getLogger(MaterialisationTask.class);
+    private static final String LOCK_KEY = "/materialisation-lock";
+
+    @Override
+    public boolean start() {
+        try (Context context = metricRegistry()
+                .timer(name(MaterialisationTask.class, "execution")).time()) {
+            Set<ConceptId> insertedTypes = getInsertedTypes(configuration());
+            Keyspace keyspace = Keyspace.of(configuration().json().at(REST.Request.KEYSPACE).asString());
+            int maxRetry = engineConfiguration().getPropertyAsInt(GraknEngineConfig.LOADER_REPEAT_COMMITS);
+
+            //Tasks materialising the same keyspace concurrently would insert the same facts twice
+            Lock lock = getLockProvider().getLock(LOCK_KEY + "/" + keyspace.getValue());
+            lock.lock();
+            try {
+                List<Pattern> heads = new ArrayList<>();
+                GraknTxMutators.runMutationWithRetry(factory(), keyspace, maxRetry, (graph) -> {
+                    heads.clear();
+                    heads.addAll(getAffectedHeads(graph, insertedTypes));
+                });
+                metricRegistry().histogram(name(MaterialisationTask.class, "affected-heads")).update(heads.size());
+
+                for (Pattern head : heads) {
+                    GraknTxMutators.runMutationWithRetry(factory(), keyspace, maxRetry,
+                            (graph) -> materialise(graph, head));
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            LOG.debug("Materialisation completed for types [{}]", insertedTypes);
+            return true;
+        }
+    }
+
+    /**
+     * Extract the ids of the types which have gained instances from the provided configuration
+     */
+    private static Set<ConceptId> getInsertedTypes(TaskConfiguration configuration) {
+        return configuration.json().at(REST.Request.COMMIT_LOG_COUNTING).asJsonList().stream()
+                .map(e -> ConceptId.of(e.at(REST.Request.COMMIT_LOG_CONCEPT_ID).asString()))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Finds the heads of the rules which may infer new facts from the instances of the given types.
+     *
+     * @param graph The graph containing the rules
+     * @param insertedTypes The ids of the types which have gained instances
+     * @return The distinct heads of the affected rules, ordered by the strata of the rules
+     */
+    private static List<Pattern> getAffectedHeads(GraknTx graph, Set<ConceptId> insertedTypes) {
+        Set<SchemaConcept> types = new HashSet<>();
+        insertedTypes.forEach(id -> {
+            SchemaConcept type = graph.getConcept(id);
+            if (type == null) return;
+            types.add(type);
+
+            //Attributes attached to existing instances are only counted against the implicit relationship
+            if (type.isImplicit() && type.isRelationshipType()) {
+                type.asRelationshipType().relates().flatMap(Role::playedByTypes).forEach(types::add);
+            }
+        });
+
+        //Without the rule graph all of the rules are applied
+        Optional<RuleGraph> ruleGraph = RuleGraph.of(graph);
+        Stream<Rule> rules = ruleGraph.isPresent() ?
+                ruleGraph.get().getAffectedRules(types).stream()
+                        .map(id -> graph.<Rule>getConcept(id))
+                        .filter(Objects::nonNull) :
+                RuleUtil.getRules(graph);
+
+        return rules.map(Rule::getThen).distinct().collect(Collectors.toList());
+    }
+
+    /**
+     * Materialises all of the facts matching the given rule head and commits them
+     *
+     * @param graph The graph in which to materialise the facts
+     * @param head The head of a rule
+     */
+    private void materialise(GraknTx graph, Pattern head) {
+        graph.graql().infer(true).materialise(true).match(head).stream().forEach(answer -> {});
+
+        Optional<String> logs = graph.admin().commitNoLogs();
+        logs.ifPresent(log -> commitLogs().submitMaterialised(graph.getKeyspace(), log));
+    }
+
+    /**
+     * Helper method which creates materialisation task states.
+     *
+     * @param creator The class which is creating the task
+     * @return The executable materialisation task state
+     */
+    public static TaskState createTask(Class creator, int delay) {
+        return TaskState.of(MaterialisationTask.class,
+                creator.getName(),
+                TaskSchedule.at(Instant.now().plusMillis(delay)),
+                TaskState.Priority.HIGH);
+    }
+
+    /**
+     * Helper method which creates the task config needed in order to execute a materialisation task
+     *
+     * @param keyspace The keyspace of the graph to execute this on.
+     * @param insertedTypes The ids of the types which have gained instances
+     * @return The task configuration encapsulating the above details in a manner executable by the task runner
+     */
+    public static TaskConfiguration createConfig(Keyspace keyspace, Set<String> insertedTypes){
+        Json types = Json.array();
+        insertedTypes.forEach(id -> types.add(Json.object(REST.Request.COMMIT_LOG_CONCEPT_ID, id)));
+
+        Json materialisationConfiguration = Json.object();
+        materialisationConfiguration.set(REST.Request.KEYSPACE, keyspace.getValue());
+        materialisationConfiguration.set(REST.Request.COMMIT_LOG_COUNTING, types);
+        return TaskConfiguration.of(materialisationConfiguration);
+    }
+}
@@ -22,6 +22,7 @@ import ai.grakn.GraknTx;
 import ai.grakn.Keyspace;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.engine.GraknEngineConfig;
+import ai.grakn.engine.TaskId;
 import ai.grakn.engine.tasks.BackgroundTask;
 import ai.grakn.engine.tasks.manager.TaskConfiguration;
 import ai.grakn.engine.tasks.manager.TaskSchedule;
@@ -30,14 +31,20 @@ import ai.grakn.util.REST;
 import ai.grakn.util.Schema;
 import com.codahale.metrics.Timer.Context;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import mjson.Json;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 
@@ -52,6 +59,12 @@ import static com.codahale.metrics.MetricRegistry.name;
  *     This task begins only if enough time has passed (configurable) since the last time a job was added.
  * </p>
  *
+ * <p>
+ *     All the concept indices of the task are checked for duplicates in a single transaction. Only the indices with
+ *     duplicates are locked and merged, in batches of {@link GraknEngineConfig#POST_PROCESSING_BATCH_SIZE} indices
+ *     which are committed together.
+ * </p>
+ *
  * @author alexandraorth, fppt
  */
 public class PostProcessingTask extends BackgroundTask {
@@ -69,21 +82,24 @@ public class PostProcessingTask extends BackgroundTask {
         try (Context context = metricRegistry()
                 .timer(name(PostProcessingTask.class, "execution")).time()) {
             Map<String, Set<ConceptId>> allToPostProcess = getPostProcessingJobs(Schema.BaseType.ATTRIBUTE, configuration());
+            Keyspace keyspace = Keyspace.of(configuration().json().at(REST.Request.KEYSPACE).asString());
+            int maxRetry = engineConfiguration().getPropertyAsInt(GraknEngineConfig.LOADER_REPEAT_COMMITS);
+            int batchSize = Math.max(1, engineConfiguration().tryIntProperty(GraknEngineConfig.POST_PROCESSING_BATCH_SIZE, 1));
 
-            allToPostProcess.forEach((conceptIndex, conceptIds) -> {
-                Context contextSingle = metricRegistry()
-                        .timer(name(PostProcessingTask.class, "execution-single")).time();
-                try {
-                    Keyspace keyspace = Keyspace.of(configuration().json().at(REST.Request.KEYSPACE).asString());
-                    int maxRetry = engineConfiguration()
-                            .getPropertyAsInt(GraknEngineConfig.LOADER_REPEAT_COMMITS);
+            //Only indices with duplicates need to be locked and merged, so they are found in a single pass first
+            Map<String, Set<ConceptId>> duplicated = findDuplicates(keyspace, maxRetry, allToPostProcess);
+            metricRegistry().histogram(name(PostProcessingTask.class, "duplicated-indices")).update(duplicated.size());
 
+            for (List<String> batch : Iterables.partition(new TreeSet<>(duplicated.keySet()), batchSize)) {
+                Context contextBatch = metricRegistry()
+                        .timer(name(PostProcessingTask.class, "execution-batch")).time();
+                try {
                     GraknTxMutators.runMutationWithRetry(factory(), keyspace, maxRetry,
-                            (graph) -> runPostProcessingMethod(graph, conceptIndex, conceptIds));
+                            (graph) -> runPostProcessingMethod(graph, batch, duplicated));
                 } finally {
-                    contextSingle.stop();
+                    contextBatch.stop();
                 }
-            });
+            }
 
             LOG.debug(JOB_FINISHED, Schema.BaseType.ATTRIBUTE.name(), allToPostProcess);
 
@@ -106,36 +122,66 @@ public class PostProcessingTask extends BackgroundTask {
     }
 
     /**
-     * Apply the given post processing method to the provided concept index and set of ids.
+     * Finds the concept indices which actually have duplicates to merge, checking all of them in one transaction.
+     *
+     * @param keyspace The keyspace of the graph to check
+     * @param maxRetry The number of times to retry checking if the graph is temporarily unavailable
+     * @param toPostProcess Map of concept indices to the ids of potential duplicates
+     * @return The entries of the provided map which have duplicates to merge
+     */
+    private Map<String, Set<ConceptId>> findDuplicates(Keyspace keyspace, int maxRetry, Map<String, Set<ConceptId>> toPostProcess){
+        Map<String, Set<ConceptId>> duplicated = new HashMap<>();
+        GraknTxMutators.runMutationWithRetry(factory(), keyspace, maxRetry, (graph) -> {
+            duplicated.clear();
+            toPostProcess.forEach((conceptIndex, conceptIds) -> {
+                if(graph.admin().duplicateResourcesExist(conceptIndex, conceptIds)) {
+                    duplicated.put(conceptIndex, conceptIds);
+                }
+            });
+        });
+        return duplicated;
+    }
+
+    /**
+     * Merge the duplicates of the given concept indices and commit them together.
      *
-     * @param graph
-     * @param conceptIndex
-     * @param conceptIds
+     * @param graph The graph in which to merge the duplicates
+     * @param batch The concept indices to merge, in the order in which their locks should be acquired
+     * @param duplicated Map of concept indices to the ids of their duplicates
      */
-    private void runPostProcessingMethod(GraknTx graph, String conceptIndex, Set<ConceptId> conceptIds){
+    private void runPostProcessingMethod(GraknTx graph, List<String> batch, Map<String, Set<ConceptId>> duplicated){
         Preconditions.checkNotNull(this.getLockProvider(), "Lock provider was null, possible race condition in initialisation");
-        if(graph.admin().duplicateResourcesExist(conceptIndex, conceptIds)){
-
-            // Acquire a lock when you post process on an index to prevent race conditions
-            // Lock is acquired after checking for duplicates to reduce runtime
-            Lock indexLock = this.getLockProvider().getLock(PostProcessingTask.LOCK_KEY + "/" + conceptIndex);
-            indexLock.lock();
-
-            try {
-                // execute the provided post processing method
-                graph.admin().fixDuplicateResources(conceptIndex, conceptIds);
-
-                // ensure post processing was correctly executed
-                validateMerged(graph, conceptIndex, conceptIds).
-                        ifPresent(message -> {
-                            throw new RuntimeException(message);
-                        });
-
-                // persist merged concepts
-                graph.admin().commitNoLogs();
-            } finally {
-                indexLock.unlock();
+
+        // Acquire a lock for every index you post process on to prevent race conditions
+        // Locks are always acquired in the same order to prevent deadlocks between engines processing overlapping batches
+        List<Lock> indexLocks = new ArrayList<>();
+        try {
+            for (String conceptIndex : batch) {
+                Lock indexLock = this.getLockProvider().getLock(PostProcessingTask.LOCK_KEY + "/" + conceptIndex);
+                indexLock.lock();
+                indexLocks.add(indexLock);
             }
+
+            boolean merged = false;
+            for (String conceptIndex : batch) {
+                Set<ConceptId> conceptIds = duplicated.get(conceptIndex);
+
+                // execute the provided post processing method, the duplicates may have been merged whilst waiting for the lock
+                if (graph.admin().fixDuplicateResources(conceptIndex, conceptIds)) {
+                    merged = true;
+
+                    // ensure post processing was correctly executed
+                    validateMerged(graph, conceptIndex, conceptIds).
+                            ifPresent(message -> {
+                                throw new RuntimeException(message);
+                            });
+                }
+            }
+
+            // persist merged concepts
+            if (merged) graph.admin().commitNoLogs();
+        } finally {
+            Lists.reverse(indexLocks).forEach(Lock::unlock);
         }
     }
 
@@ -179,10 +225,22 @@ public class PostProcessingTask extends BackgroundTask {
      * @return The executable postprocessing task state
      */
     public static TaskState createTask(Class creator, int delay) {
-        return TaskState.of(PostProcessingTask.class,
+        return createTask(TaskId.generate(), creator, delay);
+    }
+
+    /**
+     * Helper method which creates PP Task States with a given id.
+     *
+     * @param id The id of the task
+     * @param creator The class which is creating the task
+     * @return The executable postprocessing task state
+     */
+    public static TaskState createTask(TaskId id, Class creator, int delay) {
+        return new TaskState(PostProcessingTask.class,
                 creator.getName(),
                 TaskSchedule.at(Instant.now().plusMillis(delay)),
-                TaskState.Priority.LOW);
+                id,
+                TaskState.Priority.HIGH);
     }
 
     /**
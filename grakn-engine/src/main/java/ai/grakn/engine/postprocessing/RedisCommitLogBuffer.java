@@ -0,0 +1,109 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.postprocessing;
+
+import ai.grakn.Keyspace;
+import ai.grakn.engine.TaskId;
+import com.google.common.collect.ImmutableList;
+import redis.clients.jedis.Jedis;
+import redis.clients.util.Pool;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ *     A {@link CommitLogBuffer} held in redis, so it is shared by all engines and kept when an engine stops.
+ * </p>
+ *
+ * <p>
+ *     Adding an entry and draining a window are each done by a single script, so an entry is always merged into the
+ *     tasks which were returned when it was added. A window is removed from redis before its tasks are submitted, so
+ *     its entries are lost if the engine draining it stops before that.
+ * </p>
+ */
+class RedisCommitLogBuffer implements CommitLogBuffer {
+
+    private static final String KEYSPACES = "CL_KEYSPACES";
+    private static final String POST_PROCESSING = "postProcessing";
+    private static final String COUNTING = "counting";
+
+    // KEYS: tasks, entries, keyspaces. ARGV: post processing id, counting id, entry, keyspace
+    private static final String ADD_SCRIPT =
+            "redis.call('hsetnx', KEYS[1], '" + POST_PROCESSING + "', ARGV[1]) " +
+            "redis.call('hsetnx', KEYS[1], '" + COUNTING + "', ARGV[2]) " +
+            "redis.call('rpush', KEYS[2], ARGV[3]) " +
+            "redis.call('sadd', KEYS[3], ARGV[4]) " +
+            "return redis.call('hmget', KEYS[1], '" + POST_PROCESSING + "', '" + COUNTING + "')";
+
+    // KEYS: tasks, entries, keyspaces. ARGV: keyspace
+    private static final String DRAIN_SCRIPT =
+            "local entries = redis.call('lrange', KEYS[2], 0, -1) " +
+            "local tasks = redis.call('hmget', KEYS[1], '" + POST_PROCESSING + "', '" + COUNTING + "') " +
+            "redis.call('del', KEYS[1], KEYS[2]) " +
+            "redis.call('srem', KEYS[3], ARGV[1]) " +
+            "if #entries == 0 then return {} end " +
+            "return {tasks, entries}";
+
+    private final Pool<Jedis> jedisPool;
+
+    RedisCommitLogBuffer(Pool<Jedis> jedisPool) {
+        this.jedisPool = jedisPool;
+    }
+
+    @Override
+    public Tasks add(Keyspace keyspace, String entry) {
+        Tasks generated = Tasks.generate();
+        try (Jedis jedis = jedisPool.getResource()) {
+            @SuppressWarnings("unchecked")
+            List<String> ids = (List<String>) jedis.eval(ADD_SCRIPT, keysOf(keyspace), Arrays.asList(
+                    generated.postProcessing().getValue(), generated.counting().getValue(), entry,
+                    keyspace.getValue()));
+            return Tasks.of(TaskId.of(ids.get(0)), TaskId.of(ids.get(1)));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<Keyspace, Window> drain() {
+        Map<Keyspace, Window> windows = new HashMap<>();
+        try (Jedis jedis = jedisPool.getResource()) {
+            for (String keyspaceName : jedis.smembers(KEYSPACES)) {
+                Keyspace keyspace = Keyspace.of(keyspaceName);
+                List<Object> window = (List<Object>) jedis.eval(DRAIN_SCRIPT, keysOf(keyspace),
+                        Arrays.asList(keyspaceName));
+
+                //Another engine drained the window first
+                if (window.isEmpty()) continue;
+
+                List<String> ids = (List<String>) window.get(0);
+                List<String> entries = (List<String>) window.get(1);
+                Tasks tasks = Tasks.of(TaskId.of(ids.get(0)), TaskId.of(ids.get(1)));
+                windows.put(keyspace, Window.of(tasks, ImmutableList.copyOf(entries)));
+            }
+        }
+        return windows;
+    }
+
+    private static List<String> keysOf(Keyspace keyspace) {
+        return Arrays.asList("CLT_" + keyspace.getValue(), "CL_" + keyspace.getValue(), KEYSPACES);
+    }
+}
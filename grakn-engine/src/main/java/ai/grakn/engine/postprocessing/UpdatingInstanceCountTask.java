@@ -21,6 +21,7 @@ package ai.grakn.engine.postprocessing;
 import ai.grakn.Keyspace;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.engine.GraknEngineConfig;
+import ai.grakn.engine.TaskId;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.engine.tasks.BackgroundTask;
 import ai.grakn.engine.tasks.connection.RedisCountStorage;
@@ -34,6 +35,7 @@ import mjson.Json;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -51,11 +53,34 @@ import static com.codahale.metrics.MetricRegistry.name;
  *     This task begins only if enough time has passed (configurable) since the last time a job was added.
  * </p>
  *
+ * <p>
+ *     Each type is sharded using its own threshold. Types which receive many writes are sharded sooner than the
+ *     configured {@link GraknTxAbstract#SHARDING_THRESHOLD} so that their current shard does not become a supernode.
+ *     When a new shard is created instances are moved onto it from the older shards in batches, keeping the shards of
+ *     a type roughly equal in size.
+ * </p>
+ *
  * @author fppt
  */
 public class UpdatingInstanceCountTask extends BackgroundTask {
     private final static Logger LOG = LoggerFactory.getLogger(UpdatingInstanceCountTask.class);
 
+    //Query planning costs are logarithmic, so estimates are only recorded when the count has at least halved or doubled
+    private final static double ESTIMATE_DRIFT_RATIO = 2.0;
+
+    //Writes are counted per window of this many seconds. The write rate of a type is the number of instances it gained
+    //in the current window and the one before it.
+    private final static long WRITE_RATE_WINDOW_SECONDS = 60;
+
+    //A type whose rate would reach the global threshold within this many windows is considered hot.
+    private final static long HOT_TYPE_WINDOW = 100;
+
+    //Hot types are never sharded at less than this fraction of the global threshold
+    private final static long MAX_THRESHOLD_REDUCTION = 16;
+
+    //The number of instances moved between shards in a single transaction
+    private final static long REBALANCING_BATCH_SIZE = 10_000;
+
     @Override
     public boolean start() {
         final long shardingThreshold = engineConfiguration().getPropertyAsLong(GraknTxAbstract.SHARDING_THRESHOLD);
@@ -80,7 +105,8 @@ public class UpdatingInstanceCountTask extends BackgroundTask {
                 Context contextSingle = metricRegistry()
                         .timer(name(UpdatingInstanceCountTask.class, "execution-single")).time();
                 try {
-                    if (updateShardCounts(redis(), keyspace, key, value, shardingThreshold)) {
+                    long threshold = typeShardingThreshold(redis(), keyspace, key, value, shardingThreshold);
+                    if (updateShardCounts(redis(), keyspace, key, value, threshold)) {
                         conceptToShard.add(key);
                     }
                 } finally {
@@ -97,6 +123,15 @@ public class UpdatingInstanceCountTask extends BackgroundTask {
                     contextSharding.stop();
                 }
             });
+
+            //Record instance count estimates in the graph so they can be used when planning queries
+            Context contextEstimates = metricRegistry()
+                    .timer(name(UpdatingInstanceCountTask.class, "recording-estimates")).time();
+            try {
+                recordInstanceCountEstimates(redis(), factory(), keyspace, jobs.keySet(), maxRetry);
+            } finally {
+                contextEstimates.stop();
+            }
             LOG.debug("Updating instance count successful for {} tasks", jobs.size());
             return true;
         } catch(Exception e) {
@@ -134,12 +169,52 @@ public class UpdatingInstanceCountTask extends BackgroundTask {
         return numInstances > shardingThreshold * numShards;
     }
 
+    /**
+     * Records the write rate of a type and derives its sharding threshold from it.
+     *
+     * @param keyspace The keyspace of the graph which the type comes from
+     * @param conceptId The id of the concept with counts to update
+     * @param value The number of instances which the type has gained/lost
+     * @param shardingThreshold The configured global sharding threshold
+     * @return The sharding threshold of the type, which is lower the more often the type is written to.
+     */
+    private static long typeShardingThreshold(
+            RedisCountStorage redis, Keyspace keyspace, ConceptId conceptId, long value, long shardingThreshold){
+        long window = currentWriteRateWindow();
+        long current = redis.adjustCount(RedisCountStorage.getKeyWriteRate(keyspace, conceptId, window),
+                Math.max(value, 0), 2 * WRITE_RATE_WINDOW_SECONDS);
+        long previous = redis.getCount(RedisCountStorage.getKeyWriteRate(keyspace, conceptId, window - 1));
+        return shardingThresholdForRate(current + previous, shardingThreshold);
+    }
+
+    /**
+     * @return The sharding threshold of the type based on the write rate already recorded
+     */
+    private static long typeShardingThreshold(
+            RedisCountStorage redis, Keyspace keyspace, ConceptId conceptId, long shardingThreshold){
+        long window = currentWriteRateWindow();
+        long rate = redis.getCount(RedisCountStorage.getKeyWriteRate(keyspace, conceptId, window)) +
+                redis.getCount(RedisCountStorage.getKeyWriteRate(keyspace, conceptId, window - 1));
+        return shardingThresholdForRate(rate, shardingThreshold);
+    }
+
+    private static long currentWriteRateWindow(){
+        return System.currentTimeMillis() / 1000 / WRITE_RATE_WINDOW_SECONDS;
+    }
+
+    private static long shardingThresholdForRate(long rate, long shardingThreshold){
+        long heat = rate * HOT_TYPE_WINDOW / Math.max(shardingThreshold, 1);
+        if(heat <= 1) return shardingThreshold;
+        return Math.max(shardingThreshold / Math.min(heat, MAX_THRESHOLD_REDUCTION), 1);
+    }
+
     /**
      * Performs the high level sharding operation. This includes:
      * - Acquiring a lock to ensure only one thing can shard
      * - Checking if sharding is still needed after having the lock
      * - Actually sharding
      * - Incrementing the number of shards on each type
+     * - Giving the new shard its share of the existing instances
      *
      * @param keyspace The database containing the {@link ai.grakn.concept.Type} to shard
      * @param conceptId The id of the concept to shard
@@ -149,24 +224,111 @@ public class UpdatingInstanceCountTask extends BackgroundTask {
         Lock engineLock = this.getLockProvider().getLock(getLockingKey(keyspace, conceptId));
         engineLock.lock(); //Try to get the lock
 
+        long numShards;
         try {
             //Check if sharding is still needed. Another engine could have sharded whilst waiting for lock
-            if (updateShardCounts(redis, keyspace, conceptId, 0, shardingThreshold)) {
+            long threshold = typeShardingThreshold(redis, keyspace, conceptId, shardingThreshold);
+            if (!updateShardCounts(redis, keyspace, conceptId, 0, threshold)) return;
+
+            //Shard
+            GraknTxMutators.runMutationWithRetry(factory, keyspace, maxRetry, graph -> {
+                graph.admin().shard(conceptId);
+                graph.admin().commitNoLogs();
+            });
+
+            //Update number of shards
+            numShards = redis.adjustCount(RedisCountStorage.getKeyNumShards(keyspace, conceptId), 1);
+        } finally {
+            engineLock.unlock();
+        }
 
-                //Shard
+        //Give the new shard its share of the existing instances
+        rebalanceShards(redis, factory, keyspace, conceptId, numShards, maxRetry);
+    }
+
+    /**
+     * Moves instances from the older shards of a concept onto its newly created shard, one batch per transaction, so
+     * that all the shards hold roughly the same number of instances.
+     *
+     * The lock on the concept is held for one batch at a time, so other engines can shard the concept in between.
+     *
+     * @param keyspace The keyspace of the graph which the concept comes from
+     * @param conceptId The id of the concept which has just been sharded
+     * @param numShards The number of shards the concept has including the new one
+     */
+    private void rebalanceShards(RedisCountStorage redis, EngineGraknTxFactory factory,
+            Keyspace keyspace, ConceptId conceptId, long numShards, int maxRetry){
+        if(numShards <= 1) return;
+
+        long remaining = redis.getCount(RedisCountStorage.getKeyNumInstances(keyspace, conceptId)) / numShards;
+        while (remaining > 0) {
+            long batch = Math.min(remaining, REBALANCING_BATCH_SIZE);
+            long[] moved = {0L};
+            Lock engineLock = this.getLockProvider().getLock(getLockingKey(keyspace, conceptId));
+            engineLock.lock();
+            try {
                 GraknTxMutators.runMutationWithRetry(factory, keyspace, maxRetry, graph -> {
-                    graph.admin().shard(conceptId);
+                    moved[0] = graph.admin().rebalanceShards(conceptId, batch);
                     graph.admin().commitNoLogs();
                 });
-
-                //Update number of shards
-                redis.adjustCount(RedisCountStorage.getKeyNumShards(keyspace, conceptId), 1);
+            } finally {
+                engineLock.unlock();
             }
-        } finally {
-            engineLock.unlock();
+            metricRegistry().histogram(name(UpdatingInstanceCountTask.class, "rebalanced")).update(moved[0]);
+
+            //Nothing left to move
+            if(moved[0] < batch) return;
+            remaining -= moved[0];
         }
     }
 
+    /**
+     * Records the instance counts held in redis as estimates on the concepts themselves. This allows any
+     * {@link ai.grakn.GraknTx} to plan queries using the counts without contacting redis.
+     *
+     * Only estimates which have drifted significantly from the last recorded estimate are written, so that the graph
+     * is not mutated every time a count changes.
+     *
+     * @param keyspace The keyspace of the graph which the concepts come from
+     * @param conceptIds The ids of the concepts with counts which may have changed
+     */
+    private static void recordInstanceCountEstimates(RedisCountStorage redis, EngineGraknTxFactory factory,
+            Keyspace keyspace, Set<ConceptId> conceptIds, int maxRetry){
+        Map<ConceptId, Long> estimates = new HashMap<>();
+        Map<ConceptId, Long> recordedEstimates = new HashMap<>();
+
+        conceptIds.forEach(conceptId -> {
+            long count = redis.getCount(RedisCountStorage.getKeyNumInstances(keyspace, conceptId));
+            long recorded = redis.getCount(RedisCountStorage.getKeyEstimatedInstances(keyspace, conceptId));
+            if (estimateNeedsUpdate(recorded, count)) {
+                estimates.put(conceptId, count);
+                recordedEstimates.put(conceptId, recorded);
+            }
+        });
+
+        if (estimates.isEmpty()) return;
+
+        GraknTxMutators.runMutationWithRetry(factory, keyspace, maxRetry, graph -> {
+            graph.admin().putInstanceCountEstimates(estimates);
+            graph.admin().commitNoLogs();
+        });
+
+        estimates.forEach((conceptId, count) -> redis.adjustCount(
+                RedisCountStorage.getKeyEstimatedInstances(keyspace, conceptId),
+                count - recordedEstimates.get(conceptId)));
+    }
+
+    /**
+     * @param recorded The last recorded estimate, 0 if none has been recorded
+     * @param count The current instance count
+     * @return true if the recorded estimate is far enough from the current count to need recording again
+     */
+    private static boolean estimateNeedsUpdate(long recorded, long count){
+        if (recorded <= 0) return count > 0;
+        double ratio = (double) count / recorded;
+        return ratio >= ESTIMATE_DRIFT_RATIO || ratio <= 1 / ESTIMATE_DRIFT_RATIO;
+    }
+
     private static String getLockingKey(Keyspace keyspace, ConceptId conceptId){
         return "/updating-instance-count-lock/" + keyspace + "/" + conceptId.getValue();
     }
@@ -178,9 +340,21 @@ public class UpdatingInstanceCountTask extends BackgroundTask {
      * @return The executable postprocessing task state
      */
     public static TaskState createTask(Class creator){
-        return TaskState.of(UpdatingInstanceCountTask.class,
+        return createTask(TaskId.generate(), creator);
+    }
+
+    /**
+     * Helper method which creates counting Task States with a given id.
+     *
+     * @param id The id of the task
+     * @param creator The class which is creating the task
+     * @return The executable counting task state
+     */
+    public static TaskState createTask(TaskId id, Class creator){
+        return new TaskState(UpdatingInstanceCountTask.class,
                 creator.getName(),
                 TaskSchedule.now(),
+                id,
                 TaskState.Priority.HIGH);
     }
 
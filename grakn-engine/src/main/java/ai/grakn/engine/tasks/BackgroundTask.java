@@ -21,6 +21,7 @@ package ai.grakn.engine.tasks;
 import ai.grakn.engine.GraknEngineConfig;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.engine.lock.LockProvider;
+import ai.grakn.engine.postprocessing.CommitLogAggregator;
 import ai.grakn.engine.tasks.connection.RedisCountStorage;
 import ai.grakn.engine.tasks.manager.TaskCheckpoint;
 import ai.grakn.engine.tasks.manager.TaskConfiguration;
@@ -49,6 +50,7 @@ public abstract class BackgroundTask {
     private @Nullable RedisCountStorage redis = null;
     private @Nullable MetricRegistry metricRegistry = null;
     private @Nullable LockProvider lockProvider = null;
+    private @Nullable CommitLogAggregator commitLogs = null;
 
     /**
      * Initialize the {@link BackgroundTask}. This must be called prior to any other call to {@link BackgroundTask}.
@@ -57,18 +59,21 @@ public abstract class BackgroundTask {
      *                       the task to resume from this point should it crash.
      * @param configuration  The configuration needed to execute the task
      * @param taskSubmitter  Allows followup tasks to be submitted for processing
+     * @param commitLogs     Merges commit logs into followup post processing tasks
      * @param metricRegistry Metric registry
      */
     public final void initialize(
             Consumer<TaskCheckpoint> saveCheckpoint, TaskConfiguration configuration,
             TaskSubmitter taskSubmitter, GraknEngineConfig engineConfig, RedisCountStorage redis,
-            EngineGraknTxFactory factory, LockProvider lockProvider, MetricRegistry metricRegistry)  {
+            EngineGraknTxFactory factory, LockProvider lockProvider, CommitLogAggregator commitLogs,
+            MetricRegistry metricRegistry)  {
         this.configuration = configuration;
         this.taskSubmitter = taskSubmitter;
         this.saveCheckpoint = saveCheckpoint;
         this.engineConfig = engineConfig;
         this.redis = redis;
         this.lockProvider = lockProvider;
+        this.commitLogs = commitLogs;
         this.metricRegistry = metricRegistry;
         this.factory = factory;
     }
@@ -143,6 +148,11 @@ public abstract class BackgroundTask {
         return configuration;
     }
 
+    public final CommitLogAggregator commitLogs() {
+        Preconditions.checkNotNull(commitLogs, "BackgroundTask#initialise must be called before submitting commit logs");
+        return commitLogs;
+    }
+
     public final GraknEngineConfig engineConfiguration() {
         Preconditions.checkNotNull(engineConfig, "BackgroundTask#initialise must be called before retrieving engine configuration");
         return engineConfig;
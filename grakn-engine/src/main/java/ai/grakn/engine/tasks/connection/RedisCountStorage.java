@@ -76,6 +76,33 @@ public class RedisCountStorage {
         });
     }
 
+    /**
+     * Adjusts the count for a specific key and makes the key expire after a period of time.
+     *
+     * @param key the key of the value to adjust
+     * @param count the number to adjust the key by
+     * @param seconds how long the key is kept after this adjustment
+     * @return the adjusted count
+     */
+    public long adjustCount(String key, long count, long seconds){
+        return contactRedis(jedis -> {
+            long adjusted = jedis.incrBy(key, count);
+            jedis.expire(key, (int) seconds);
+            return adjusted;
+        });
+    }
+
+    /**
+     * Claims a key for a period of time, unless it is already claimed. The claim is released once the period expires.
+     *
+     * @param key the key to claim
+     * @param seconds how long the key stays claimed
+     * @return true if the key was claimed, false if it was already claimed
+     */
+    public boolean claim(String key, long seconds){
+        return contactRedis(jedis -> jedis.set(key, "claimed", "NX", "EX", seconds) != null);
+    }
+
     /**
      * Gets the count for the specified key. A count of 0 is returned if the key is not in redis
      *
@@ -116,4 +143,16 @@ public class RedisCountStorage {
     public static String getKeyNumShards(Keyspace keyspace, ConceptId conceptId){
         return "NS_" + keyspace + "_" + conceptId.getValue();
     }
+    public static String getKeyEstimatedInstances(Keyspace keyspace, ConceptId conceptId){
+        return "EI_" + keyspace + "_" + conceptId.getValue();
+    }
+    public static String getKeyWriteRate(Keyspace keyspace, ConceptId conceptId, long window){
+        return "WR_" + keyspace + "_" + conceptId.getValue() + "_" + window;
+    }
+    public static String getKeyQueueDepth(String queue){
+        return "QD_" + queue;
+    }
+    public static String getKeyQueueDepthReconciliation(){
+        return "QDR";
+    }
 }
@@ -25,6 +25,7 @@ import ai.grakn.engine.TaskStatus;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
 import ai.grakn.engine.lock.LockProvider;
 import ai.grakn.engine.lock.NonReentrantLock;
+import ai.grakn.engine.postprocessing.CommitLogAggregator;
 import ai.grakn.engine.tasks.BackgroundTask;
 import ai.grakn.engine.tasks.connection.RedisCountStorage;
 import ai.grakn.engine.util.EngineID;
@@ -85,6 +86,7 @@ public class StandaloneTaskManager implements TaskManager {
     private final EngineGraknTxFactory factory;
     private LockProvider lockProvider;
     private final MetricRegistry metricRegistry;
+    private final CommitLogAggregator commitLogs;
 
     public StandaloneTaskManager(EngineID engineId, GraknEngineConfig config, RedisCountStorage redis, EngineGraknTxFactory factory, LockProvider lockProvider, MetricRegistry metricRegistry) {
         this.engineID = engineId;
@@ -109,10 +111,13 @@ public class StandaloneTaskManager implements TaskManager {
         failedMeter = metricRegistry.meter(name(StandaloneTaskManager.class, "failed"));
         stoppedMeter = metricRegistry.meter(name(StandaloneTaskManager.class, "stopped"));
         completedMeter = metricRegistry.meter(name(StandaloneTaskManager.class, "completed"));
+
+        commitLogs = CommitLogAggregator.create(this, config);
     }
 
     @Override
     public void close(){
+        commitLogs.close();
         executorService.shutdown();
         schedulingService.shutdownNow();
 
@@ -198,11 +203,16 @@ public class StandaloneTaskManager implements TaskManager {
         return storage;
     }
 
+    @Override
+    public CommitLogAggregator commitLogs() {
+        return commitLogs;
+    }
+
     private Runnable executeTask(TaskState task, TaskConfiguration configuration) {
         return () -> {
             try (Context context = executeTaskTimer.time()) {
                 BackgroundTask runningTask = task.taskClass().newInstance();
-                runningTask.initialize(saveCheckpoint(task), configuration, this, config, redis, factory, lockProvider, metricRegistry);
+                runningTask.initialize(saveCheckpoint(task), configuration, this, config, redis, factory, lockProvider, commitLogs, metricRegistry);
                 runningTasks.put(task.getId(), runningTask);
 
                 boolean completed;
@@ -19,13 +19,19 @@
 package ai.grakn.engine.tasks.manager;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.io.Serializable;
+import javax.annotation.Nullable;
 import mjson.Json;
 
 /**
  * Internal checkpoint used to keep track of task execution
  *
+ * When stored, the configuration is written as a compact binary payload rather than a JSON string.
+ * See {@link TaskPayloadCodec}. The payload is encoded once and kept, so the configuration must not be changed
+ * after it has been stored.
+ *
  * @author alexandraorth
  */
 
@@ -35,6 +41,8 @@ public class TaskConfiguration implements Serializable {
 
     private final Json configuration;
 
+    private transient volatile byte[] payload;
+
     public static TaskConfiguration of(Json configuration){
         return new TaskConfiguration(configuration);
     }
@@ -43,11 +51,31 @@ public class TaskConfiguration implements Serializable {
         this.configuration = configuration;
     }
 
-    @JsonCreator
-    public TaskConfiguration(@JsonProperty("configuration") String configuration){
+    public TaskConfiguration(String configuration){
         this.configuration = Json.read(configuration);
     }
 
+    /**
+     * Read a stored configuration, either as a binary payload or as a JSON string written by older versions
+     */
+    @JsonCreator
+    public static TaskConfiguration of(@JsonProperty("payload") @Nullable byte[] payload,
+                                       @JsonProperty("configuration") @Nullable String configuration){
+        if (payload != null) {
+            return fromPayload(payload);
+        }
+        return new TaskConfiguration(configuration);
+    }
+
+    /**
+     * Read a configuration stored as a binary payload
+     */
+    public static TaskConfiguration fromPayload(byte[] payload){
+        TaskConfiguration configuration = new TaskConfiguration(TaskPayloadCodec.decode(payload));
+        configuration.payload = payload;
+        return configuration;
+    }
+
     public Json json(){
         return configuration;
     }
@@ -56,11 +84,24 @@ public class TaskConfiguration implements Serializable {
         return configuration;
     }
 
-    @JsonProperty
+    @JsonIgnore
     public String getConfiguration(){
         return configuration.toString();
     }
 
+    /**
+     * @return the configuration as a binary payload, which is shared and must not be modified
+     */
+    @JsonProperty("payload")
+    public byte[] getPayload(){
+        byte[] encoded = payload;
+        if (encoded == null) {
+            encoded = TaskPayloadCodec.encode(configuration);
+            payload = encoded;
+        }
+        return encoded;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
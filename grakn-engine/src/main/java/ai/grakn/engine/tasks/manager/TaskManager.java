@@ -19,6 +19,7 @@
 package ai.grakn.engine.tasks.manager;
 
 import ai.grakn.engine.TaskId;
+import ai.grakn.engine.postprocessing.CommitLogAggregator;
 import java.io.Closeable;
 import java.util.concurrent.CompletableFuture;
 
@@ -55,5 +56,11 @@ public interface TaskManager extends TaskSubmitter, Closeable {
      */
     TaskStateStorage storage();
 
+    /**
+     * Return the {@link CommitLogAggregator} which merges commit logs into tasks submitted to this manager.
+     * @return A CommitLogAggregator instance.
+     */
+    CommitLogAggregator commitLogs();
+
     // TODO: Add 'pause' and 'restart' methods
 }
@@ -0,0 +1,242 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.tasks.manager;
+
+import mjson.Json;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import static ai.grakn.util.ErrorMessage.UNSUPPORTED_TASK_PAYLOAD;
+
+/**
+ * <p>
+ * Versioned binary encoding of the {@link Json} held by a {@link TaskConfiguration}.
+ * </p>
+ *
+ * <p>
+ * A payload starts with a version byte and a flags byte, followed by the value written as a tree of tagged values
+ * with variable length integers. Large payloads, such as batches of Graql queries or commit logs, are deflated
+ * when that makes them smaller.
+ * </p>
+ */
+final class TaskPayloadCodec {
+
+    static final byte VERSION = 1;
+
+    private static final byte FLAG_COMPRESSED = 1;
+
+    //Payloads smaller than this are rarely worth compressing
+    private static final int COMPRESSION_THRESHOLD = 512;
+
+    private static final byte NULL = 0;
+    private static final byte FALSE = 1;
+    private static final byte TRUE = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte DECIMAL = 5;
+    private static final byte STRING = 6;
+    private static final byte ARRAY = 7;
+    private static final byte OBJECT = 8;
+
+    private TaskPayloadCodec(){}
+
+    /**
+     * @param json the value to encode
+     * @return the encoded payload
+     */
+    static byte[] encode(Json json) {
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            write(new DataOutputStream(body), json);
+
+            byte flags = 0;
+            byte[] bytes = body.toByteArray();
+            if (bytes.length >= COMPRESSION_THRESHOLD) {
+                byte[] compressed = deflate(bytes);
+                if (compressed.length < bytes.length) {
+                    flags |= FLAG_COMPRESSED;
+                    bytes = compressed;
+                }
+            }
+
+            byte[] payload = new byte[bytes.length + 2];
+            payload[0] = VERSION;
+            payload[1] = flags;
+            System.arraycopy(bytes, 0, payload, 2, bytes.length);
+            return payload;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param payload a payload produced by {@link #encode(Json)}
+     * @return the decoded value
+     */
+    static Json decode(byte[] payload) {
+        if (payload.length < 2 || payload[0] != VERSION) {
+            throw new IllegalArgumentException(UNSUPPORTED_TASK_PAYLOAD.getMessage(payload.length == 0 ? "none" : payload[0]));
+        }
+
+        InputStream body = new ByteArrayInputStream(payload, 2, payload.length - 2);
+        if ((payload[1] & FLAG_COMPRESSED) != 0) body = new InflaterInputStream(body);
+
+        try (DataInputStream input = new DataInputStream(body)) {
+            return read(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] deflate(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 2);
+        try (OutputStream output = new DeflaterOutputStream(compressed)) {
+            output.write(bytes);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static void write(DataOutputStream output, Json json) throws IOException {
+        if (json.isNull()) {
+            output.writeByte(NULL);
+        } else if (json.isBoolean()) {
+            output.writeByte(json.asBoolean() ? TRUE : FALSE);
+        } else if (json.isNumber()) {
+            writeNumber(output, json.asNumber());
+        } else if (json.isString()) {
+            output.writeByte(STRING);
+            writeString(output, json.asString());
+        } else if (json.isArray()) {
+            List<Json> elements = json.asJsonList();
+            output.writeByte(ARRAY);
+            writeVarLong(output, elements.size());
+            for (Json element : elements) {
+                write(output, element);
+            }
+        } else {
+            Map<String, Json> entries = json.asJsonMap();
+            output.writeByte(OBJECT);
+            writeVarLong(output, entries.size());
+            for (Map.Entry<String, Json> entry : entries.entrySet()) {
+                writeString(output, entry.getKey());
+                write(output, entry.getValue());
+            }
+        }
+    }
+
+    private static void writeNumber(DataOutputStream output, Number number) throws IOException {
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            output.writeByte(LONG);
+            long value = number.longValue();
+            writeVarLong(output, (value << 1) ^ (value >> 63));
+        } else if (number instanceof Double || number instanceof Float) {
+            output.writeByte(DOUBLE);
+            output.writeDouble(number.doubleValue());
+        } else {
+            //Arbitrary precision numbers keep their exact textual form
+            output.writeByte(DECIMAL);
+            writeString(output, number.toString());
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(output, bytes.length);
+        output.write(bytes);
+    }
+
+    private static void writeVarLong(DataOutputStream output, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            output.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        output.writeByte((int) remaining);
+    }
+
+    private static Json read(DataInputStream input) throws IOException {
+        byte tag = input.readByte();
+        switch (tag) {
+            case NULL:
+                return Json.nil();
+            case FALSE:
+                return Json.make(false);
+            case TRUE:
+                return Json.make(true);
+            case LONG:
+                long zigzag = readVarLong(input);
+                return Json.make((zigzag >>> 1) ^ -(zigzag & 1));
+            case DOUBLE:
+                return Json.make(input.readDouble());
+            case DECIMAL:
+                String number = readString(input);
+                return Json.make(number.contains(".") || number.contains("e") || number.contains("E") ?
+                        new BigDecimal(number) : new BigInteger(number));
+            case STRING:
+                return Json.make(readString(input));
+            case ARRAY:
+                Json array = Json.array();
+                for (long i = readVarLong(input); i > 0; i--) {
+                    array.add(read(input));
+                }
+                return array;
+            case OBJECT:
+                Json object = Json.object();
+                for (long i = readVarLong(input); i > 0; i--) {
+                    String key = readString(input);
+                    object.set(key, read(input));
+                }
+                return object;
+            default:
+                throw new IOException("Unknown tag [" + tag + "] in task payload");
+        }
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[(int) readVarLong(input)];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long readVarLong(DataInputStream input) throws IOException {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = input.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -20,29 +20,44 @@
 package ai.grakn.engine.tasks.manager.redisqueue;
 
 import ai.grakn.engine.GraknEngineConfig;
+import static ai.grakn.engine.GraknEngineConfig.QUEUE_CONCURRENCY;
+import static ai.grakn.engine.GraknEngineConfig.QUEUE_MAX_DEPTH;
+import static ai.grakn.engine.GraknEngineConfig.QUEUE_WEIGHT;
 import ai.grakn.engine.TaskId;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.loader.MutatorTask;
 import ai.grakn.engine.lock.LockProvider;
+import ai.grakn.engine.postprocessing.CommitLogAggregator;
+import ai.grakn.engine.postprocessing.MaterialisationTask;
+import ai.grakn.engine.postprocessing.PostProcessingTask;
+import ai.grakn.engine.postprocessing.UpdatingInstanceCountTask;
+import ai.grakn.engine.tasks.BackgroundTask;
 import ai.grakn.engine.tasks.connection.RedisCountStorage;
 import ai.grakn.engine.tasks.manager.TaskConfiguration;
 import ai.grakn.engine.tasks.manager.TaskManager;
 import ai.grakn.engine.tasks.manager.TaskState;
 import ai.grakn.engine.util.EngineID;
 import ai.grakn.redisq.Redisq;
-import ai.grakn.redisq.RedisqBuilder;
 import static ai.grakn.redisq.State.DONE;
 import static ai.grakn.redisq.State.FAILED;
 import ai.grakn.redisq.exceptions.StateFutureInitializationException;
 import ai.grakn.redisq.exceptions.WaitException;
 import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
+import static java.util.stream.Collectors.toList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import redis.clients.jedis.Jedis;
@@ -50,17 +65,46 @@ import redis.clients.util.Pool;
 
 /**
  * Handle the lifecycle of tasks in Redis. Given a jedis pool
- * it starts a set of consumers that subscribe to the task queue.
+ * it starts a set of consumers that subscribe to the task queues.
  * Tasks can be added using the addTask method.
  *
+ * Each of the {@link #QUEUED_TASK_CLASSES} has a queue of its own per {@link TaskState.Priority}, so
+ * tasks of one kind cannot starve the others. Any other task goes to the default queue. All the queues
+ * share one {@link SharedTaskPool}, which starts their tasks in proportion to their weights. The weight
+ * and concurrency limit of the queues of a task class can be configured with
+ * {@link GraknEngineConfig#QUEUE_WEIGHT} and {@link GraknEngineConfig#QUEUE_CONCURRENCY}, followed by the
+ * simple name of the class or "default". High priority queues get {@link #HIGH_PRIORITY_WEIGHT_FACTOR}
+ * times the weight of low priority queues.
+ *
+ * The queues of the {@link #INTERNAL_TASK_CLASSES}, which engine submits for every commit, never
+ * refuse tasks, as nothing would retry them. The depth of every queue is reconciled with the tasks it
+ * holds periodically, by a single engine at a time.
+ *
  * @author pluraliseseverythings
  */
 public class RedisTaskManager implements TaskManager {
 
     private static final Logger LOG = LoggerFactory.getLogger(RedisTaskManager.class);
     private static final int TIMEOUT = 5;
-    private final Redisq<Task> redisq;
+    private static final String DEFAULT_QUEUE = "grakn";
+    private static final ImmutableList<Class<? extends BackgroundTask>> QUEUED_TASK_CLASSES = ImmutableList.of(
+            MutatorTask.class, PostProcessingTask.class, UpdatingInstanceCountTask.class, MaterialisationTask.class);
+    private static final ImmutableSet<Class<? extends BackgroundTask>> INTERNAL_TASK_CLASSES = ImmutableSet.of(
+            PostProcessingTask.class, UpdatingInstanceCountTask.class, MaterialisationTask.class);
+    private static final ImmutableMap<Class<? extends BackgroundTask>, Integer> DEFAULT_WEIGHTS = ImmutableMap.of(
+            MutatorTask.class, 2, PostProcessingTask.class, 4, UpdatingInstanceCountTask.class, 4,
+            MaterialisationTask.class, 1);
+    private static final int DEFAULT_QUEUE_WEIGHT = 1;
+    private static final int HIGH_PRIORITY_WEIGHT_FACTOR = 4;
+    private static final long DEPTH_RECONCILIATION_INTERVAL_SECONDS = 600;
+
+    private final ImmutableMap<String, TaskQueue> queues;
+    private final TaskQueue defaultQueue;
+    private final SharedTaskPool pool;
+    private final ScheduledExecutorService depthReconciliation;
+    private final RedisCountStorage counts;
     private final RedisTaskStorage taskStorage;
+    private final CommitLogAggregator commitLogs;
 
     public RedisTaskManager(EngineID engineId, GraknEngineConfig config, Pool<Jedis> jedisPool,
                             EngineGraknTxFactory factory, LockProvider distributedLockClient,
@@ -71,34 +115,93 @@ public class RedisTaskManager implements TaskManager {
     public RedisTaskManager(EngineID engineId, GraknEngineConfig config, Pool<Jedis> jedisPool,
                             int threads, EngineGraknTxFactory factory, LockProvider distributedLockClient,
                             MetricRegistry metricRegistry) {
-        Consumer<Task> consumer = new RedisTaskQueueConsumer(this, engineId, config, RedisCountStorage
-                .create(jedisPool, metricRegistry), metricRegistry, factory, distributedLockClient);
-        LOG.info("Running queue consumer with {} execution threads", threads);
-        this.redisq = new RedisqBuilder<Task>()
-                .setJedisPool(jedisPool)
-                .setName("grakn")
-                .setConsumer(consumer)
-                .setMetricRegistry(metricRegistry)
-                .setThreadPool(Executors.newFixedThreadPool(threads))
-                .setDocumentClass(Task.class)
-                .createRedisq();
-        this.taskStorage = RedisTaskStorage.create(redisq, metricRegistry);
+        this.counts = RedisCountStorage.create(jedisPool, metricRegistry);
+        Consumer<Task> consumer = new RedisTaskQueueConsumer(this, engineId, config, counts, metricRegistry,
+                factory, distributedLockClient);
+        long maxDepth = config.tryProperty(QUEUE_MAX_DEPTH).map(Long::parseLong).orElse(0L);
+        LOG.info("Running queue consumers with {} execution threads", threads);
+        this.pool = SharedTaskPool.create(threads);
+
+        ImmutableMap.Builder<String, TaskQueue> builder = ImmutableMap.builder();
+        for (Class<? extends BackgroundTask> taskClass : QUEUED_TASK_CLASSES) {
+            long queueMaxDepth = INTERNAL_TASK_CLASSES.contains(taskClass) ? 0 : maxDepth;
+            String setting = taskClass.getSimpleName();
+            int weight = config.tryIntProperty(QUEUE_WEIGHT + "." + setting, DEFAULT_WEIGHTS.get(taskClass));
+            int concurrency = config.tryIntProperty(QUEUE_CONCURRENCY + "." + setting, threads);
+            for (TaskState.Priority priority : TaskState.Priority.values()) {
+                String name = TaskQueue.nameOf(taskClass.getName(), priority);
+                ExecutorService executor = pool.forQueue(weightOf(weight, priority), concurrency);
+                builder.put(name, TaskQueue.create(name, jedisPool, executor, queueMaxDepth,
+                        consumer, counts, metricRegistry));
+            }
+        }
+        int defaultWeight = config.tryIntProperty(QUEUE_WEIGHT + ".default", DEFAULT_QUEUE_WEIGHT);
+        int defaultConcurrency = config.tryIntProperty(QUEUE_CONCURRENCY + ".default", threads);
+        builder.put(DEFAULT_QUEUE, TaskQueue.create(DEFAULT_QUEUE, jedisPool,
+                pool.forQueue(weightOf(defaultWeight, TaskState.Priority.LOW), defaultConcurrency),
+                maxDepth, consumer, counts, metricRegistry));
+        this.queues = builder.build();
+        this.defaultQueue = this.queues.get(DEFAULT_QUEUE);
+
+        List<Redisq<Task>> redisqs = this.queues.values().stream().map(TaskQueue::redisq).collect(toList());
+        this.taskStorage = RedisTaskStorage.create(redisqs, state -> queueOf(state).redisq(), metricRegistry);
+        this.commitLogs = CommitLogAggregator.create(this, config, jedisPool);
+
+        this.depthReconciliation = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("queue-depth-reconciliation-%s").setDaemon(true).build());
+        depthReconciliation.scheduleWithFixedDelay(this::reconcileDepths,
+                0, DEPTH_RECONCILIATION_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static int weightOf(int weight, TaskState.Priority priority) {
+        return priority == TaskState.Priority.HIGH ? weight * HIGH_PRIORITY_WEIGHT_FACTOR : weight;
+    }
+
+    private void reconcileDepths() {
+        //Scanning the queues is expensive, so only the engine which claims the interval does it
+        try {
+            String key = RedisCountStorage.getKeyQueueDepthReconciliation();
+            if (!counts.claim(key, DEPTH_RECONCILIATION_INTERVAL_SECONDS)) return;
+        } catch (RuntimeException e) {
+            LOG.error("Could not claim the reconciliation of the queue depths", e);
+            return;
+        }
+
+        for (TaskQueue queue : queues.values()) {
+            try {
+                if (!queue.reconcileDepth()) {
+                    LOG.debug("Depth of queue {} changed while it was reconciled", queue.name());
+                }
+            } catch (RuntimeException e) {
+                //An exception would stop the scheduled reconciliation altogether
+                LOG.error("Could not reconcile the depth of queue {}", queue.name(), e);
+            }
+        }
     }
 
     @Override
     public void close() {
         LOG.info("Closing task manager");
+        depthReconciliation.shutdownNow();
+        commitLogs.close();
+        for (TaskQueue queue : queues.values()) {
+            try {
+                queue.close();
+            } catch (InterruptedException e) {
+                LOG.error("Interrupted while closing queue {}", queue.name(), e);
+            }
+        }
         try {
-            redisq.close();
+            pool.close();
         } catch (InterruptedException e) {
-            LOG.error("Interrupted while closing queue", e);
+            LOG.error("Interrupted while closing the task pool", e);
         }
     }
 
     @Override
     public CompletableFuture<Void> start() {
         return CompletableFuture
-                .runAsync(redisq::startConsumer)
+                .runAsync(() -> queues.values().forEach(TaskQueue::startConsumer))
                 .exceptionally(e -> {
                     close();
                     throw new RuntimeException("Failed to intitialize subscription");
@@ -117,44 +220,75 @@ public class RedisTaskManager implements TaskManager {
         return taskStorage;
     }
 
+    @Override
+    public CommitLogAggregator commitLogs() {
+        return commitLogs;
+    }
+
+    /**
+     * @throws ai.grakn.exception.GraknServerException if the queue of the task is full
+     */
     @Override
     public void addTask(TaskState taskState, TaskConfiguration configuration) {
-        Task task = Task.builder()
-                .setTaskConfiguration(configuration)
-                .setTaskState(taskState).build();
-        redisq.push(task);
+        queueOf(taskState).push(task(taskState, configuration));
     }
 
+    /**
+     * @throws ai.grakn.exception.GraknServerException if the queue of the task is full
+     */
     @Override
     public void runTask(TaskState taskState, TaskConfiguration configuration) {
-        Task task = Task.builder()
-                .setTaskConfiguration(configuration)
-                .setTaskState(taskState).build();
         try {
-            redisq.pushAndWait(task, 5, TimeUnit.MINUTES);
+            queueOf(taskState).pushAndWait(task(taskState, configuration), 5, TimeUnit.MINUTES);
         } catch (WaitException e) {
             throw new RuntimeException("Could not run task", e);
         }
     }
 
-    public Future<Void> subscribeToTask(TaskId taskId)
+    private static Task task(TaskState taskState, TaskConfiguration configuration) {
+        return Task.builder()
+                .setTaskConfiguration(configuration)
+                .setTaskState(taskState)
+                .setEnqueuedAt(System.currentTimeMillis())
+                .build();
+    }
+
+    private TaskQueue queueOf(TaskState taskState) {
+        String taskClassName = taskState.getTaskClassName();
+        if (taskClassName == null) return defaultQueue;
+        TaskState.Priority priority = taskState.priority() != null ? taskState.priority() : TaskState.Priority.LOW;
+        return queues.getOrDefault(TaskQueue.nameOf(taskClassName, priority), defaultQueue);
+    }
+
+    /**
+     * Subscribe to a task in the queue of its class and priority
+     */
+    public Future<Void> subscribeToTask(TaskState taskState)
             throws StateFutureInitializationException, ExecutionException, InterruptedException {
-        return redisq.getFutureForDocumentStateWait(ImmutableSet.of(DONE, FAILED), taskId.getValue(),
-                TIMEOUT, TimeUnit.SECONDS);
+        return queueOf(taskState).redisq().getFutureForDocumentStateWait(ImmutableSet.of(DONE, FAILED),
+                taskState.getId().getValue(), TIMEOUT, TimeUnit.SECONDS);
     }
 
-    public void waitForTask(TaskId taskId)
+    /**
+     * Wait for a task in the queue of its class and priority
+     */
+    public void waitForTask(TaskState taskState)
             throws StateFutureInitializationException, ExecutionException, InterruptedException {
-        redisq.getFutureForDocumentStateWait(ImmutableSet.of(DONE, FAILED), taskId.getValue(),
-                TIMEOUT, TimeUnit.SECONDS).get();
+        subscribeToTask(taskState).get();
     }
 
-    public void waitForTask(TaskId taskId, long timeout, TimeUnit timeUnit)
+    /**
+     * Wait for a task in the queue of its class and priority
+     */
+    public void waitForTask(TaskState taskState, long timeout, TimeUnit timeUnit)
             throws StateFutureInitializationException, ExecutionException, InterruptedException, TimeoutException {
-        redisq.getFutureForDocumentStateWait(ImmutableSet.of(DONE, FAILED), taskId.getValue(), TIMEOUT, TimeUnit.SECONDS).get(timeout, timeUnit);
+        subscribeToTask(taskState).get(timeout, timeUnit);
     }
 
+    /**
+     * @return the default queue, holding tasks of any class without a queue of its own
+     */
     public Redisq getQueue() {
-        return redisq;
+        return defaultQueue.redisq();
     }
 }
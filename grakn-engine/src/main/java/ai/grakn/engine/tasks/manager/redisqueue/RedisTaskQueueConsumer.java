@@ -115,7 +115,7 @@ public class RedisTaskQueueConsumer implements Consumer<Task> {
             runningTask = taskState.taskClass().newInstance();
             runningTask.initialize(saveCheckpoint(taskState, redisTaskManager.storage()),
                     taskConfiguration, redisTaskManager, config, redisCountStorage, factory,
-                    lockProvider, metricRegistry);
+                    lockProvider, redisTaskManager.commitLogs(), metricRegistry);
             metricRegistry.meter(name(RedisTaskQueueConsumer.class, "initialized")).mark();
             if (taskShouldResume(task)) {
                 // Not implemented
@@ -31,8 +31,11 @@ import ai.grakn.redisq.StateInfo;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import static com.codahale.metrics.MetricRegistry.name;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
@@ -41,7 +44,8 @@ import org.slf4j.LoggerFactory;
 
 
 /**
- * DAO for redis task states
+ * DAO for redis task states. The state of a task is held by the queue the task was added to, so states are
+ * looked up in every queue.
  *
  * @author Domenico Corapi
  */
@@ -50,15 +54,45 @@ public class RedisTaskStorage implements TaskStateStorage {
     private static final Logger LOG = LoggerFactory.getLogger(RedisTaskStorage.class);
     private final Meter writeError;
 
-    private Redisq<Task> redis;
+    private final List<Redisq<Task>> queues;
+    private final Function<TaskState, Redisq<Task>> queueOf;
 
-    private RedisTaskStorage(Redisq<Task> redis, MetricRegistry metricRegistry) {
-        this.redis = redis;
+    private RedisTaskStorage(List<Redisq<Task>> queues, Function<TaskState, Redisq<Task>> queueOf,
+            MetricRegistry metricRegistry) {
+        this.queues = queues;
+        this.queueOf = queueOf;
         this.writeError = metricRegistry.meter(name(RedisTaskStorage.class, "write", "error"));
     }
 
-    public static RedisTaskStorage create(Redisq<Task> redisq, MetricRegistry metricRegistry) {
-        return new RedisTaskStorage(redisq, metricRegistry);
+    /**
+     * @param queue the only queue holding task states
+     */
+    public static RedisTaskStorage create(Redisq<Task> queue, MetricRegistry metricRegistry) {
+        return create(Collections.singletonList(queue), state -> queue, metricRegistry);
+    }
+
+    /**
+     * @param queues all the queues holding task states
+     * @param queueOf the queue a task is added to
+     */
+    public static RedisTaskStorage create(List<Redisq<Task>> queues, Function<TaskState, Redisq<Task>> queueOf,
+            MetricRegistry metricRegistry) {
+        return new RedisTaskStorage(queues, queueOf, metricRegistry);
+    }
+
+    /**
+     * States which only have an id are kept in whichever queue already holds the task
+     */
+    private Redisq<Task> queueOf(TaskState state) {
+        if (state.getTaskClassName() != null) return queueOf.apply(state);
+        String id = state.getId().getValue();
+        return queues.stream().filter(queue -> queue.getState(id).isPresent()).findFirst()
+                .orElseGet(() -> queueOf.apply(state));
+    }
+
+    private Optional<StateInfo> stateOf(TaskId id) {
+        return queues.stream().map(queue -> queue.getState(id.getValue()))
+                .filter(Optional::isPresent).map(Optional::get).findFirst();
     }
 
     private State mapStatus(TaskStatus status) {
@@ -74,7 +108,7 @@ public class RedisTaskStorage implements TaskStateStorage {
     @Override
     public Boolean updateState(TaskState state) {
         try {
-            redis.setState(state.getId().getValue(), mapStatus(state.status()));
+            queueOf(state).setState(state.getId().getValue(), mapStatus(state.status()));
             return true;
         } catch (RuntimeException e) {
             writeError.mark();
@@ -87,7 +121,7 @@ public class RedisTaskStorage implements TaskStateStorage {
     @Nullable
     public TaskState getState(TaskId id) throws GraknBackendException {
         // TODO this is a temporary wrap
-        Optional<StateInfo> state = redis.getState(id.getValue());
+        Optional<StateInfo> state = stateOf(id);
         if (!state.isPresent()) {
             // TODO return optional
             throw GraknBackendException.stateStorage();
@@ -97,13 +131,14 @@ public class RedisTaskStorage implements TaskStateStorage {
 
     @Override
     public boolean containsTask(TaskId id) {
-        return redis.getState(id.getValue()).isPresent();
+        return stateOf(id).isPresent();
     }
 
     @Override
     public Set<TaskState> getTasks(@Nullable TaskStatus taskStatus, @Nullable String taskClassName,
             @Nullable String createdBy, @Nullable EngineID runningOnEngine, int limit, int offset) {
-        Stream<TaskState> stream = redis.getStates().filter(Optional::isPresent).map(Optional::get)
+        Stream<TaskState> stream = queues.stream().flatMap(Redisq::getStates)
+                .filter(Optional::isPresent).map(Optional::get)
                 .map(s -> {
                     return TaskState.of(TaskId.of(s.getId()), TaskStatus.fromState(s.getStateInfo().getState()));
                 });
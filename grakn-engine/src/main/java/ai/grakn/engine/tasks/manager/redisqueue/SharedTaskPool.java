@@ -0,0 +1,195 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.tasks.manager.redisqueue;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The threads executing tasks, shared by all the {@link TaskQueue}s of an engine.
+ *
+ * Each queue hands its tasks to the pool through an executor of its own, with a weight and a
+ * concurrency limit. A queue holds at most as many tasks in the pool as its concurrency limit, and
+ * blocks its consumer beyond that, so the tasks it has not started stay in redis where any engine
+ * can take them. While the other queues are idle a queue can use every thread up to its limit.
+ * When several queues are waiting for threads, they are started in proportion to the weights of
+ * their queues (weighted fair queueing), so no queue is starved, and tasks of the same queue are
+ * started in the order they were taken.
+ */
+class SharedTaskPool {
+
+    private final int threads;
+    private final ThreadPoolExecutor pool;
+    private final AtomicLong sequence = new AtomicLong(0);
+
+    // The tag of the last task started, guarded by this
+    private double virtualTime = 0;
+
+    private SharedTaskPool(int threads) {
+        this.threads = threads;
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), new ThreadFactoryBuilder().setNameFormat("task-pool-%d").build());
+    }
+
+    /**
+     * @param threads the number of threads executing tasks of all the queues
+     */
+    static SharedTaskPool create(int threads) {
+        return new SharedTaskPool(threads);
+    }
+
+    /**
+     * @param weight the share of the threads the queue gets while other queues are waiting for threads
+     * @param concurrency the number of tasks of the queue which can be held in the pool at once
+     * @return an executor handing the tasks of a single queue to this pool
+     */
+    ExecutorService forQueue(int weight, int concurrency) {
+        Preconditions.checkArgument(weight > 0, "The weight of a queue must be positive");
+        Preconditions.checkArgument(concurrency > 0, "The concurrency of a queue must be positive");
+        return new QueueExecutor(weight, Math.min(concurrency, threads));
+    }
+
+    void close() throws InterruptedException {
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Tags a task of the given queue. A task is due after the previous task of its queue, or now if the queue has
+     * been idle, by an amount inversely proportional to the weight of its queue.
+     */
+    private synchronized double tag(QueueExecutor queue) {
+        queue.lastTag = Math.max(virtualTime, queue.lastTag) + 1.0 / queue.weight;
+        return queue.lastTag;
+    }
+
+    private synchronized void started(double tag) {
+        virtualTime = Math.max(virtualTime, tag);
+    }
+
+    /**
+     * The tasks of one queue. Shutting it down only stops that queue from adding tasks to the pool.
+     */
+    private class QueueExecutor extends AbstractExecutorService {
+
+        private final int weight;
+        private final int concurrency;
+        private final Semaphore slots;
+        private volatile boolean shutdown = false;
+
+        // The tag of the last task of this queue, guarded by the pool
+        private double lastTag = 0;
+
+        QueueExecutor(int weight, int concurrency) {
+            this.weight = weight;
+            this.concurrency = concurrency;
+            this.slots = new Semaphore(concurrency);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (shutdown) throw new RejectedExecutionException("The queue of the task has been closed");
+            try {
+                slots.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException(e);
+            }
+
+            try {
+                pool.execute(new QueuedTask(tag(this), sequence.getAndIncrement(), () -> {
+                    try {
+                        command.run();
+                    } finally {
+                        slots.release();
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                slots.release();
+                throw e;
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown && slots.availablePermits() == concurrency;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            if (!slots.tryAcquire(concurrency, timeout, unit)) return false;
+            slots.release(concurrency);
+            return true;
+        }
+    }
+
+    /**
+     * A task waiting for a thread of the pool, ordered by its tag
+     */
+    private class QueuedTask implements Runnable, Comparable<QueuedTask> {
+
+        private final double tag;
+        private final long sequence;
+        private final Runnable task;
+
+        QueuedTask(double tag, long sequence, Runnable task) {
+            this.tag = tag;
+            this.sequence = sequence;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            started(tag);
+            task.run();
+        }
+
+        @Override
+        public int compareTo(QueuedTask other) {
+            int byTag = Double.compare(tag, other.tag);
+            return byTag != 0 ? byTag : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -27,10 +27,14 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.google.auto.value.AutoValue;
 import java.io.Serializable;
+import javax.annotation.Nullable;
 
 /**
  * Convenience class that includes a task state and config
  *
+ * The config is not written with the rest of the task. {@link TaskQueue} stores it as a separate binary value and
+ * sets it again when the task is taken from the queue. Tasks written by older versions still hold their config.
+ *
  * @author Domenico Corapi
  */
 @AutoValue
@@ -40,13 +44,22 @@ abstract public class Task implements Serializable, Document {
     protected static final long serialVersionUID = 42L;
     @JsonProperty("taskState")
     public abstract TaskState getTaskState();
-    @JsonProperty("taskConfiguration")
+    @Nullable
+    @JsonIgnore
     public abstract TaskConfiguration getTaskConfiguration();
+    /**
+     * Time in milliseconds at which the task was added to its queue, if known
+     */
+    @Nullable
+    @JsonProperty("enqueuedAt")
+    public abstract Long getEnqueuedAt();
 
     public static Builder builder() {
         return new AutoValue_Task.Builder();
     }
 
+    public abstract Builder toBuilder();
+
     @Override
     @JsonIgnore
     public String getIdAsString() {
@@ -63,7 +76,9 @@ abstract public class Task implements Serializable, Document {
         @JsonProperty("taskState")
         public abstract Builder setTaskState(TaskState newTaskState);
         @JsonProperty("taskConfiguration")
-        public abstract Builder setTaskConfiguration(TaskConfiguration newTaskConfiguration);
+        public abstract Builder setTaskConfiguration(@Nullable TaskConfiguration newTaskConfiguration);
+        @JsonProperty("enqueuedAt")
+        public abstract Builder setEnqueuedAt(@Nullable Long enqueuedAt);
         public abstract Task build();
     }
 }
@@ -0,0 +1,237 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.tasks.manager.redisqueue;
+
+import ai.grakn.engine.tasks.connection.RedisCountStorage;
+import ai.grakn.engine.tasks.manager.TaskConfiguration;
+import ai.grakn.engine.tasks.manager.TaskState;
+import ai.grakn.exception.GraknServerException;
+import ai.grakn.redisq.Redisq;
+import ai.grakn.redisq.RedisqBuilder;
+import ai.grakn.redisq.State;
+import ai.grakn.redisq.exceptions.WaitException;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import static com.codahale.metrics.MetricRegistry.name;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import redis.clients.jedis.Jedis;
+import redis.clients.util.Pool;
+
+/**
+ * A redis queue holding the tasks of one class and priority, executed by the {@link SharedTaskPool} of the engine.
+ * The number of tasks waiting in the queue is counted in redis, so it is shared by all engines, and
+ * new tasks are refused once it reaches the maximum depth. As the count drifts when an engine stops
+ * between counting a task and adding or taking it, it is periodically corrected from the queue itself.
+ *
+ * The {@link TaskConfiguration} of each task is stored as a separate binary value rather than inside the task, and
+ * is removed once the task has been executed.
+ */
+class TaskQueue {
+
+    //Payloads of tasks which are never executed, for example because the queue was cleared, expire after a week
+    private static final int PAYLOAD_EXPIRY_SECONDS = 7 * 24 * 60 * 60;
+
+    private final String name;
+    private final Pool<Jedis> jedisPool;
+    private final Redisq<Task> redisq;
+    private final RedisCountStorage counts;
+    private final long maxDepth;
+    private final Timer waitTimer;
+
+    private TaskQueue(String name, Pool<Jedis> jedisPool, ExecutorService executor, long maxDepth,
+                      Consumer<Task> consumer, RedisCountStorage counts, MetricRegistry metricRegistry) {
+        this.name = name;
+        this.jedisPool = jedisPool;
+        this.counts = counts;
+        this.maxDepth = maxDepth;
+        this.waitTimer = metricRegistry.timer(name(RedisTaskManager.class, name, "wait"));
+        metricRegistry.register(name(RedisTaskManager.class, name, "depth"), (Gauge<Long>) this::depth);
+
+        Consumer<Task> countingConsumer = task -> {
+            counts.adjustCount(depthKey(), -1);
+            Long enqueuedAt = task.getEnqueuedAt();
+            if (enqueuedAt != null) {
+                waitTimer.update(System.currentTimeMillis() - enqueuedAt, TimeUnit.MILLISECONDS);
+            }
+            try {
+                consumer.accept(withPayload(task));
+            } finally {
+                removePayload(task);
+            }
+        };
+
+        this.redisq = new RedisqBuilder<Task>()
+                .setJedisPool(jedisPool)
+                .setName(name)
+                .setConsumer(countingConsumer)
+                .setMetricRegistry(metricRegistry)
+                .setThreadPool(executor)
+                .setDocumentClass(Task.class)
+                .createRedisq();
+    }
+
+    /**
+     * @param name the name of the queue in redis
+     * @param executor executes the tasks of this queue
+     * @param maxDepth the number of waiting tasks at which new tasks are refused, or 0 to never refuse tasks
+     */
+    static TaskQueue create(String name, Pool<Jedis> jedisPool, ExecutorService executor, long maxDepth,
+                            Consumer<Task> consumer, RedisCountStorage counts, MetricRegistry metricRegistry) {
+        return new TaskQueue(name, jedisPool, executor, maxDepth, consumer, counts, metricRegistry);
+    }
+
+    /**
+     * The name of the queue holding tasks of the given class and priority
+     */
+    static String nameOf(String taskClassName, TaskState.Priority priority) {
+        String simpleName = taskClassName.substring(taskClassName.lastIndexOf('.') + 1);
+        return "grakn-" + simpleName + "-" + priority.queue();
+    }
+
+    String name() {
+        return name;
+    }
+
+    Redisq<Task> redisq() {
+        return redisq;
+    }
+
+    /**
+     * @return the number of tasks waiting to be executed
+     */
+    long depth() {
+        return counts.getCount(depthKey());
+    }
+
+    /**
+     * Add a task to the queue without waiting for it to be executed
+     *
+     * @throws GraknServerException if the queue is full
+     */
+    void push(Task task) {
+        reserve();
+        try {
+            redisq.push(withoutPayload(task));
+        } catch (RuntimeException e) {
+            counts.adjustCount(depthKey(), -1);
+            throw e;
+        }
+    }
+
+    /**
+     * Add a task to the queue and wait for it to be executed
+     *
+     * @throws GraknServerException if the queue is full
+     */
+    void pushAndWait(Task task, long timeout, TimeUnit unit) throws WaitException {
+        reserve();
+        try {
+            redisq.pushAndWait(withoutPayload(task), timeout, unit);
+        } catch (RuntimeException e) {
+            counts.adjustCount(depthKey(), -1);
+            throw e;
+        }
+    }
+
+    /**
+     * Correct the number of waiting tasks counted in redis by the number of tasks in the queue which have not
+     * been started. The count is corrected by the difference rather than replaced, so tasks counted while it is
+     * corrected are kept. Tasks added or taken while the queue is scanned may or may not have been seen, so the
+     * count is left alone if it changed during the scan.
+     *
+     * @return true if the count was corrected
+     */
+    boolean reconcileDepth() {
+        long counted = depth();
+        long waiting = redisq.getStates()
+                .filter(Optional::isPresent).map(Optional::get)
+                .filter(state -> state.getStateInfo().getState() == State.NEW)
+                .count();
+        if (depth() != counted) return false;
+
+        counts.adjustCount(depthKey(), waiting - counted);
+        return true;
+    }
+
+    void startConsumer() {
+        redisq.startConsumer();
+    }
+
+    void close() throws InterruptedException {
+        redisq.close();
+    }
+
+    private void reserve() {
+        long depth = counts.adjustCount(depthKey(), 1);
+        if (maxDepth > 0 && depth > maxDepth) {
+            counts.adjustCount(depthKey(), -1);
+            throw GraknServerException.taskQueueFull(name, maxDepth);
+        }
+    }
+
+    /**
+     * Store the configuration of a task as a separate value
+     *
+     * @return the task without its configuration
+     */
+    private Task withoutPayload(Task task) {
+        TaskConfiguration configuration = task.getTaskConfiguration();
+        if (configuration == null) return task;
+
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.setex(payloadKey(task), PAYLOAD_EXPIRY_SECONDS, configuration.getPayload());
+        }
+        return task.toBuilder().setTaskConfiguration(null).build();
+    }
+
+    /**
+     * @return the task with the configuration which was stored separately, unless the task still holds its own
+     */
+    private Task withPayload(Task task) {
+        if (task.getTaskConfiguration() != null) return task;
+
+        byte[] payload;
+        try (Jedis jedis = jedisPool.getResource()) {
+            payload = jedis.get(payloadKey(task));
+        }
+        if (payload == null) {
+            throw new IllegalStateException("The configuration of task " + task.getIdAsString() + " is missing");
+        }
+        return task.toBuilder().setTaskConfiguration(TaskConfiguration.fromPayload(payload)).build();
+    }
+
+    private void removePayload(Task task) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.del(payloadKey(task));
+        }
+    }
+
+    private static byte[] payloadKey(Task task) {
+        return ("TP_" + task.getIdAsString()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String depthKey() {
+        return RedisCountStorage.getKeyQueueDepth(name);
+    }
+}
@@ -19,13 +19,17 @@
 package ai.grakn.engine.controller;
 
 import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
 import ai.grakn.Keyspace;
 import ai.grakn.engine.GraknEngineStatus;
 import ai.grakn.engine.SystemKeyspace;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.graql.GetQuery;
 import ai.grakn.graql.Printer;
 import ai.grakn.graql.Query;
 import ai.grakn.graql.QueryBuilder;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.internal.query.QueryAnswer;
 import ai.grakn.graql.internal.printer.Printers;
 import ai.grakn.test.GraknTestSetup;
 import ai.grakn.test.SampleKBContext;
@@ -43,6 +47,8 @@ import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static ai.grakn.graql.internal.hal.HALUtils.BASETYPE_PROPERTY;
 import static ai.grakn.graql.internal.hal.HALUtils.ID_PROPERTY;
@@ -74,6 +80,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.booleanThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -213,6 +220,24 @@ public class GraqlControllerReadOnlyTest {
         verify(mockQueryBuilder).infer(booleanThat(arg -> !arg));
     }
 
+    @Test
+    public void GETGraqlMatchWithReasonerFalse_QueryIsExecutedInReadTransaction() {
+        clearInvocations(mockFactory);
+        sendRequest("match $x isa movie; get;", APPLICATION_TEXT, false, false, 0);
+
+        Keyspace keyspace = mockTx.getKeyspace();
+        verify(mockFactory).tx(keyspace, GraknTxType.READ);
+    }
+
+    @Test
+    public void GETGraqlMatchWithReasonerTrue_QueryIsExecutedInWriteTransaction() {
+        clearInvocations(mockFactory);
+        sendRequest("match $x isa movie; get;", APPLICATION_TEXT, true, false, 0);
+
+        Keyspace keyspace = mockTx.getKeyspace();
+        verify(mockFactory).tx(keyspace, GraknTxType.WRITE);
+    }
+
     @Test
     public void GETGraqlMatchWithNoInfer_ResponseStatusIs400() {
         Response response = RestAssured.with().queryParam(KEYSPACE, mockTx.getKeyspace().getValue())
@@ -461,6 +486,60 @@ public class GraqlControllerReadOnlyTest {
         assertThat(jsonResponse(response), equalTo(Json.nil()));
     }
 
+    @Test
+    public void GETGraqlGetThatFailsAfterSomeAnswers_ResponseIsAClosedArrayEndingWithTheException() {
+        Stream<Answer> answers = Stream.concat(
+                Stream.of(new QueryAnswer(), new QueryAnswer()),
+                Stream.generate(() -> { throw new RuntimeException("the query failed"); }));
+        Response response = sendGetQueryStreaming(answers);
+
+        assertThat(response.statusCode(), equalTo(200));
+        List<Json> body = jsonResponse(response).asJsonList();
+        assertThat(body.size(), equalTo(3));
+        assertThat(body.get(2).at(EXCEPTION).asString(), equalTo("the query failed"));
+    }
+
+    @Test
+    public void GETGraqlGetThatFailsBeforeAnyAnswer_ResponseHasAnErrorStatus() {
+        Response response = sendGetQueryStreaming(Stream.generate(() -> { throw new RuntimeException("the query failed"); }));
+
+        assertThat(response.statusCode(), equalTo(500));
+    }
+
+    @Test
+    public void GETGraqlGetThatSucceeds_ResponseIsTheStreamedAnswers() {
+        Response response = sendGetQueryStreaming(Stream.of(new QueryAnswer(), new QueryAnswer()));
+
+        assertThat(response.statusCode(), equalTo(200));
+        assertThat(jsonResponse(response), equalTo(Json.array(Json.object(), Json.object())));
+    }
+
+    @Test
+    public void GETGraqlGetWithNoAnswers_ResponseIsAnEmptyArray() {
+        Response response = sendGetQueryStreaming(Stream.empty());
+
+        assertThat(response.statusCode(), equalTo(200));
+        assertThat(jsonResponse(response), equalTo(Json.array()));
+    }
+
+    /**
+     * Send a get query over the streaming GET endpoint, which will find the given answers
+     */
+    private Response sendGetQueryStreaming(Stream<Answer> answers) {
+        GetQuery query = mock(GetQuery.class);
+        when(query.isReadOnly()).thenReturn(true);
+        when(query.stream()).thenReturn(answers);
+        when(mockQueryBuilder.<GetQuery>parse(any())).thenReturn(query);
+
+        return RestAssured.with()
+                .queryParam(KEYSPACE, mockTx.getKeyspace().getValue())
+                .queryParam(QUERY, "match $x isa movie; get;")
+                .queryParam(INFER, false)
+                .queryParam(MATERIALISE, false)
+                .accept(APPLICATION_JSON_GRAQL)
+                .get(REST.WebPath.KB.GRAQL);
+    }
+
     private Response sendRequest(String acceptType) {
         return sendRequest("match $x isa movie; get;", acceptType, false, false, -1);
     }
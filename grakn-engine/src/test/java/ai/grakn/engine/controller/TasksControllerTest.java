@@ -29,6 +29,7 @@ import ai.grakn.engine.tasks.manager.TaskStateStorage;
 import ai.grakn.engine.tasks.mock.ShortExecutionMockTask;
 import ai.grakn.engine.util.EngineID;
 import ai.grakn.exception.GraknBackendException;
+import ai.grakn.exception.GraknServerException;
 import static ai.grakn.util.ErrorMessage.MISSING_MANDATORY_REQUEST_PARAMETERS;
 import static ai.grakn.util.ErrorMessage.UNAVAILABLE_TASK_CLASS;
 import static ai.grakn.util.REST.Request.CONFIGURATION_PARAM;
@@ -58,12 +59,15 @@ import java.time.Instant;
 import static java.time.Instant.now;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import static java.util.stream.Collectors.toList;
 import mjson.Json;
 import org.apache.http.HttpStatus;
 import org.apache.http.entity.ContentType;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import org.junit.Before;
@@ -74,6 +78,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import org.mockito.Mockito;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -277,6 +282,30 @@ public class TasksControllerTest {
                 .allMatch(e -> e.at("code").asInteger() == HttpStatus.SC_OK), equalTo(true));
     }
 
+    @Test
+    public void whenTheQueueOfTheTaskIsFull_TooManyRequestsWithRetryAfter(){
+        doThrow(GraknServerException.taskQueueFull("queue", 10)).when(manager).runTask(any(), any());
+
+        Response response = send();
+
+        assertThat(response.statusCode(), equalTo(429));
+        assertThat(response.header("Retry-After"), notNullValue());
+        assertThat(Json.read(response.getBody().asString()).at(0).at("code").asInteger(), equalTo(429));
+    }
+
+    @Test
+    public void whenTheQueueOfSomeTasksIsFull_TooManyRequestsWithRetryAfter(){
+        doThrow(GraknServerException.taskQueueFull("queue", 10)).doNothing().when(manager).runTask(any(), any());
+
+        Response response = send(Collections.emptyMap(), defaultParams(), 2);
+
+        assertThat(response.statusCode(), equalTo(429));
+        assertThat(response.header("Retry-After"), notNullValue());
+        List<Integer> codes = Json.read(response.getBody().asString()).asJsonList().stream()
+                .map(task -> task.at("code").asInteger()).collect(toList());
+        assertThat(codes, containsInAnyOrder(429, HttpStatus.SC_OK));
+    }
+
     @Test
     public void afterSendingPartiallyWellFormedNBulk_BadRequest(){
         Map<String, String> params = new HashMap<>(defaultParams());
@@ -44,7 +44,7 @@ public class MutatorTaskTest {
     public void checkReadOnlyQueriesAreRejected() {
         MutatorTask mutatorTask = new MutatorTask();
         mutatorTask.initialize((x) -> System.out.println(x.toString()), taskConfiguration,
-                TaskSubmitter.getNoopTaskSubmitter(), null, null, null, null,
+                TaskSubmitter.getNoopTaskSubmitter(), null, null, null, null, null,
                 new MetricRegistry());
         exception.expect(IllegalArgumentException.class);
         exception.expectMessage(READ_ONLY_QUERY.getMessage(readOnlyQuery));
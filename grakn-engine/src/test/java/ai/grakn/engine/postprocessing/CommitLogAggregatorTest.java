@@ -0,0 +1,149 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.postprocessing;
+
+import ai.grakn.Keyspace;
+import ai.grakn.engine.tasks.manager.TaskConfiguration;
+import ai.grakn.engine.tasks.manager.TaskState;
+import ai.grakn.engine.tasks.manager.TaskSubmitter;
+import ai.grakn.util.REST;
+import ai.grakn.util.Schema;
+import mjson.Json;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CommitLogAggregatorTest {
+    private static final Keyspace KEYSPACE = Keyspace.of("keyspace");
+
+    private final List<TaskState> states = new ArrayList<>();
+    private final List<TaskConfiguration> configurations = new ArrayList<>();
+    private final TaskSubmitter taskSubmitter = new TaskSubmitter() {
+        @Override
+        public void addTask(TaskState taskState, TaskConfiguration configuration) {
+            states.add(taskState);
+            configurations.add(configuration);
+        }
+
+        @Override
+        public void runTask(TaskState taskState, TaskConfiguration configuration) {
+            addTask(taskState, configuration);
+        }
+    };
+
+    private CommitLogAggregator aggregator;
+
+    @After
+    public void closeAggregator(){
+        aggregator.close();
+    }
+
+    @Test
+    public void whenWindowIsDisabled_TasksAreSubmittedForEachCommitLog(){
+        aggregator = CommitLogAggregator.create(taskSubmitter, 0, 0);
+
+        aggregator.submit(KEYSPACE, commitLog("index", "a", "type", 1));
+
+        assertEquals(2, states.size());
+        assertEquals(PostProcessingTask.class, states.get(0).taskClass());
+        assertEquals(UpdatingInstanceCountTask.class, states.get(1).taskClass());
+    }
+
+    @Test
+    public void whenCommitLogsAreBuffered_TheyAreMergedIntoSingleTasksOnFlush(){
+        aggregator = CommitLogAggregator.create(taskSubmitter, 0, Long.MAX_VALUE);
+
+        aggregator.submit(KEYSPACE, commitLog("index", "a", "type", 1));
+        aggregator.submit(KEYSPACE, commitLog("index", "b", "type", 2));
+        assertTrue(states.isEmpty());
+
+        aggregator.flush();
+
+        assertEquals(2, states.size());
+        Json fixing = configurations.get(0).json().at(REST.Request.COMMIT_LOG_FIXING).at(Schema.BaseType.ATTRIBUTE.name());
+        assertEquals(Json.array("a", "b"), fixing.at("index"));
+
+        Json counting = configurations.get(1).json().at(REST.Request.COMMIT_LOG_COUNTING);
+        assertEquals(1, counting.asJsonList().size());
+        assertEquals(3L, counting.at(0).at(REST.Request.COMMIT_LOG_SHARDING_COUNT).asLong());
+    }
+
+    @Test
+    public void whenInstanceCountChangesCancelOut_NothingIsCounted(){
+        aggregator = CommitLogAggregator.create(taskSubmitter, 0, Long.MAX_VALUE);
+
+        aggregator.submit(KEYSPACE, commitLog("index", "a", "type", 1));
+        aggregator.submit(KEYSPACE, commitLog("index", "a", "type", -1));
+        aggregator.flush();
+
+        assertEquals(2, states.size());
+        assertEquals(UpdatingInstanceCountTask.class, states.get(1).taskClass());
+        assertEquals(Json.array(), configurations.get(1).json().at(REST.Request.COMMIT_LOG_COUNTING));
+    }
+
+    @Test
+    public void whenCommitLogsAreBuffered_TheIdsOfTheTasksTheyAreMergedIntoAreReturned(){
+        aggregator = CommitLogAggregator.create(taskSubmitter, 0, Long.MAX_VALUE);
+
+        Json first = aggregator.submit(KEYSPACE, commitLog("index", "a", "type", 1));
+        Json second = aggregator.submit(KEYSPACE, commitLog("index", "b", "type", 2));
+        aggregator.flush();
+
+        assertEquals(first, second);
+        assertEquals(first.at("postProcessingTaskId").asString(), states.get(0).getId().getValue());
+        assertEquals(first.at("countingTaskId").asString(), states.get(1).getId().getValue());
+    }
+
+    @Test
+    public void whenMaterialisationIsEnabled_MaterialisationTasksAreSubmittedForInsertedTypes(){
+        aggregator = CommitLogAggregator.create(taskSubmitter, 0, 0, true);
+
+        aggregator.submit(KEYSPACE, commitLog("index", "a", "type", 1));
+
+        assertEquals(3, states.size());
+        assertEquals(MaterialisationTask.class, states.get(2).taskClass());
+        Json types = configurations.get(2).json().at(REST.Request.COMMIT_LOG_COUNTING);
+        assertEquals("type", types.at(0).at(REST.Request.COMMIT_LOG_CONCEPT_ID).asString());
+    }
+
+    @Test
+    public void whenCommitLogIsOfMaterialisedFacts_NoMaterialisationTaskIsSubmitted(){
+        aggregator = CommitLogAggregator.create(taskSubmitter, 0, 0, true);
+
+        aggregator.submitMaterialised(KEYSPACE, commitLog("index", "a", "type", 1));
+        aggregator.submit(KEYSPACE, commitLog("index", "a", "type", -1));
+
+        assertTrue(states.stream().noneMatch(state -> state.taskClass().equals(MaterialisationTask.class)));
+    }
+
+    private static String commitLog(String index, String attributeId, String typeId, long count){
+        Json attributes = Json.object(index, Json.array(attributeId));
+        Json counts = Json.array(Json.object(
+                REST.Request.COMMIT_LOG_CONCEPT_ID, typeId,
+                REST.Request.COMMIT_LOG_SHARDING_COUNT, count));
+        return Json.object(
+                REST.Request.COMMIT_LOG_FIXING, Json.object(Schema.BaseType.ATTRIBUTE.name(), attributes),
+                REST.Request.COMMIT_LOG_COUNTING, counts).toString();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.postprocessing;
+
+import ai.grakn.Keyspace;
+import ai.grakn.util.EmbeddedRedis;
+import com.google.common.collect.ImmutableList;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RedisCommitLogBufferTest {
+
+    private static final int PORT = 9898;
+    private static final Keyspace KEYSPACE = Keyspace.of("keyspace");
+    private static JedisPool jedisPool;
+
+    @BeforeClass
+    public static void startRedis() {
+        EmbeddedRedis.start(PORT);
+        jedisPool = new JedisPool(new JedisPoolConfig(), "localhost", PORT);
+    }
+
+    @AfterClass
+    public static void stopRedis() {
+        jedisPool.close();
+        EmbeddedRedis.stop();
+    }
+
+    @Before
+    public void clearRedis() {
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.flushAll();
+        }
+    }
+
+    @Test
+    public void whenEntriesAreAddedByOneEngine_AnotherEngineDrainsThem() {
+        CommitLogBuffer.Tasks first = new RedisCommitLogBuffer(jedisPool).add(KEYSPACE, "a");
+        CommitLogBuffer.Tasks second = new RedisCommitLogBuffer(jedisPool).add(KEYSPACE, "b");
+
+        Map<Keyspace, CommitLogBuffer.Window> windows = new RedisCommitLogBuffer(jedisPool).drain();
+
+        assertEquals(first, second);
+        assertEquals(CommitLogBuffer.Window.of(first, ImmutableList.of("a", "b")), windows.get(KEYSPACE));
+    }
+
+    @Test
+    public void whenAWindowIsDrained_ItIsNotDrainedAgain() {
+        RedisCommitLogBuffer buffer = new RedisCommitLogBuffer(jedisPool);
+        buffer.add(KEYSPACE, "a");
+
+        buffer.drain();
+
+        assertTrue(buffer.drain().isEmpty());
+    }
+
+    @Test
+    public void whenAWindowIsDrained_TheNextEntryStartsANewWindow() {
+        RedisCommitLogBuffer buffer = new RedisCommitLogBuffer(jedisPool);
+        CommitLogBuffer.Tasks first = buffer.add(KEYSPACE, "a");
+        buffer.drain();
+
+        CommitLogBuffer.Tasks second = buffer.add(KEYSPACE, "b");
+
+        assertNotEquals(first, second);
+        assertEquals(ImmutableList.of("b"), buffer.drain().get(KEYSPACE).entries());
+    }
+}
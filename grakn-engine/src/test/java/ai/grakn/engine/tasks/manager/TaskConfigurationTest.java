@@ -0,0 +1,93 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.tasks.manager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Collections;
+import mjson.Json;
+import org.junit.Test;
+
+import static ai.grakn.util.REST.Request.KEYSPACE;
+import static ai.grakn.util.REST.Request.TASK_LOADER_MUTATIONS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TaskConfigurationTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void whenAConfigurationIsStored_ItIsReadBackUnchanged() throws IOException {
+        TaskConfiguration configuration = TaskConfiguration.of(Json.object()
+                .set(KEYSPACE, "keyspace")
+                .set("count", 42)
+                .set("negative", -7L)
+                .set("ratio", 0.5)
+                .set("flag", true)
+                .set("missing", Json.nil())
+                .set(TASK_LOADER_MUTATIONS, Json.array("insert $x isa person;", "insert $y isa name val \"é\";")));
+
+        String stored = mapper.writeValueAsString(configuration);
+
+        assertFalse(stored.contains("insert"));
+        assertEquals(configuration, mapper.readValue(stored, TaskConfiguration.class));
+    }
+
+    @Test
+    public void whenALargeConfigurationIsStored_ItIsCompressed() throws IOException {
+        Json mutations = Json.array();
+        Collections.nCopies(1000, "insert $x isa person, has name \"Bob\";").forEach(mutations::add);
+        TaskConfiguration configuration = TaskConfiguration.of(Json.object().set(TASK_LOADER_MUTATIONS, mutations));
+
+        String stored = mapper.writeValueAsString(configuration);
+
+        assertTrue(stored.length() < configuration.getConfiguration().length() / 10);
+        assertEquals(configuration, mapper.readValue(stored, TaskConfiguration.class));
+    }
+
+    @Test
+    public void whenThePayloadIsReadTwice_ItIsOnlyEncodedOnce() {
+        TaskConfiguration configuration = TaskConfiguration.of(Json.object().set(KEYSPACE, "keyspace"));
+
+        assertSame(configuration.getPayload(), configuration.getPayload());
+    }
+
+    @Test
+    public void whenAConfigurationIsReadFromAPayload_ItIsReadBackUnchanged() {
+        TaskConfiguration configuration = TaskConfiguration.of(Json.object().set(KEYSPACE, "keyspace"));
+
+        assertEquals(configuration, TaskConfiguration.fromPayload(configuration.getPayload()));
+    }
+
+    @Test
+    public void whenAConfigurationWasStoredAsAJsonString_ItCanStillBeRead() throws IOException {
+        Json json = Json.object().set(KEYSPACE, "keyspace");
+        String stored = Json.object().set("configuration", json.toString()).toString();
+
+        assertEquals(TaskConfiguration.of(json), mapper.readValue(stored, TaskConfiguration.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenAPayloadHasAnUnknownVersion_Throw() {
+        TaskPayloadCodec.decode(new byte[]{(byte) (TaskPayloadCodec.VERSION + 1), 0});
+    }
+}
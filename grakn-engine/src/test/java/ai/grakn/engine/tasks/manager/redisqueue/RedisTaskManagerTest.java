@@ -25,7 +25,9 @@ import static ai.grakn.engine.TaskStatus.COMPLETED;
 import static ai.grakn.engine.TaskStatus.FAILED;
 import static ai.grakn.engine.TaskStatus.RUNNING;
 import ai.grakn.engine.factory.EngineGraknTxFactory;
+import ai.grakn.engine.loader.MutatorTask;
 import ai.grakn.engine.lock.ProcessWideLockProvider;
+import ai.grakn.engine.tasks.connection.RedisCountStorage;
 import ai.grakn.engine.tasks.manager.TaskConfiguration;
 import ai.grakn.engine.tasks.manager.TaskSchedule;
 import ai.grakn.engine.tasks.manager.TaskState;
@@ -63,6 +65,7 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Ignore;
 import org.junit.Test;
+import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
 
@@ -128,19 +131,29 @@ public class RedisTaskManagerTest {
     public void whenNotAddingTask_TastStateIsNotRetrievable()
             throws ExecutionException, RetryException, StateFutureInitializationException, InterruptedException, TimeoutException {
         TaskState state = TaskState.of(ShortExecutionMockTask.class, RedisTaskManagerTest.class.getName(), TaskSchedule.now(), Priority.LOW);
-        taskManager.waitForTask(state.getId(), 3, TimeUnit.SECONDS);
+        taskManager.waitForTask(state, 3, TimeUnit.SECONDS);
     }
 
     @Test
     public void whenConfigurationEmpty_TaskEventuallyFailed()
             throws ExecutionException, RetryException, InterruptedException, StateFutureInitializationException, TimeoutException {
         TaskState state = TaskState.of(ShortExecutionMockTask.class, RedisTaskManagerTest.class.getName(), TaskSchedule.now(), Priority.LOW);
-        Future<Void> s = taskManager.subscribeToTask(state.getId());
+        Future<Void> s = taskManager.subscribeToTask(state);
         taskManager.addTask(state, TaskConfiguration.of(Json.object()));
         s.get();
         assertEquals(FAILED, taskManager.storage().getState(state.getId()).status());
     }
 
+    @Test
+    public void whenATaskHasAQueueOfItsOwn_ItIsWaitedForInThatQueue()
+            throws ExecutionException, InterruptedException, StateFutureInitializationException, TimeoutException {
+        TaskState state = TaskState.of(MutatorTask.class, RedisTaskManagerTest.class.getName(), TaskSchedule.now(), Priority.HIGH);
+        Future<Void> s = taskManager.subscribeToTask(state);
+        taskManager.addTask(state, TaskConfiguration.of(Json.object()));
+        s.get(10, TimeUnit.SECONDS);
+        assertEquals(FAILED, taskManager.storage().getState(state.getId()).status());
+    }
+
     @Test
     public void whenSending10Tasks_AllTaskStatesRetrievable()
             throws ExecutionException, RetryException, StateFutureInitializationException, InterruptedException {
@@ -149,7 +162,7 @@ public class RedisTaskManagerTest {
             TaskId generate = TaskId.generate();
             TaskState state = TaskState.of(ShortExecutionMockTask.class, RedisTaskManagerTest.class.getName(), TaskSchedule.now(), Priority.LOW);
             TaskId id = state.getId();
-            states.put(id, taskManager.subscribeToTask(id));
+            states.put(id, taskManager.subscribeToTask(state));
             taskManager.addTask(state, testConfig(generate));
         }
         states.forEach((id, state) -> {
@@ -163,6 +176,54 @@ public class RedisTaskManagerTest {
         });
     }
 
+    @Test
+    public void whenTheDepthOfAQueueHasDrifted_ItIsReconciledWithTheTasksInTheQueue() throws InterruptedException {
+        RedisCountStorage counts = RedisCountStorage.create(jedisPool, metricRegistry);
+        SharedTaskPool pool = SharedTaskPool.create(1);
+        TaskQueue queue = TaskQueue.create("reconciliation-test", jedisPool, pool.forQueue(1, 1), 0,
+                task -> {}, counts, new MetricRegistry());
+        try {
+            counts.adjustCount(RedisCountStorage.getKeyQueueDepth(queue.name()), 1000);
+            assertEquals(1000, queue.depth());
+
+            assertTrue(queue.reconcileDepth());
+
+            assertEquals(0, queue.depth());
+        } finally {
+            queue.close();
+            pool.close();
+        }
+    }
+
+    @Test
+    public void whenATaskIsQueued_ItsConfigurationIsStoredApartAndRemovedOnceExecuted() throws Exception {
+        RedisCountStorage counts = RedisCountStorage.create(jedisPool, metricRegistry);
+        SharedTaskPool pool = SharedTaskPool.create(1);
+        CompletableFuture<TaskConfiguration> executed = new CompletableFuture<>();
+        TaskQueue queue = TaskQueue.create("payload-test", jedisPool, pool.forQueue(1, 1), 0,
+                task -> executed.complete(task.getTaskConfiguration()), counts, new MetricRegistry());
+        try {
+            queue.startConsumer();
+            TaskState state = TaskState.of(ShortExecutionMockTask.class, RedisTaskManagerTest.class.getName(), TaskSchedule.now(), Priority.LOW);
+            TaskConfiguration configuration = testConfig(state.getId());
+            queue.push(Task.builder().setTaskState(state).setTaskConfiguration(configuration).build());
+
+            assertEquals(configuration, executed.get(10, TimeUnit.SECONDS));
+            //The configuration is removed just after the task has been executed
+            for (int i = 0; i < 100 && payloadIsStored(state); i++) Thread.sleep(100);
+            assertFalse(payloadIsStored(state));
+        } finally {
+            queue.close();
+            pool.close();
+        }
+    }
+
+    private boolean payloadIsStored(TaskState state) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            return jedis.exists("TP_" + state.getId().getValue());
+        }
+    }
+
     private TaskConfiguration testConfig(TaskId generate) {
         return TaskConfiguration.of(Json.object(
                 KEYSPACE, "keyspace",
@@ -0,0 +1,146 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.engine.tasks.manager.redisqueue;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SharedTaskPoolTest {
+
+    private final SharedTaskPool pool = SharedTaskPool.create(2);
+
+    @After
+    public void closePool() throws InterruptedException {
+        pool.close();
+    }
+
+    @Test
+    public void whenOtherQueuesAreIdle_AQueueUsesAllTheThreads() throws InterruptedException {
+        ExecutorService queue = pool.forQueue(1, 2);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        for (int i = 0; i < 2; i++) {
+            queue.execute(() -> {
+                started.countDown();
+                await(release);
+            });
+        }
+
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test
+    public void whenTheThreadsAreBusy_QueuesAreStartedInProportionToTheirWeights() throws InterruptedException {
+        SharedTaskPool threeThreadPool = SharedTaskPool.create(3);
+        List<CountDownLatch> releases = new ArrayList<>();
+        try {
+            ExecutorService blocking = threeThreadPool.forQueue(1, 3);
+            CountDownLatch started = new CountDownLatch(3);
+            for (int i = 0; i < 3; i++) {
+                CountDownLatch release = new CountDownLatch(1);
+                releases.add(release);
+                blocking.execute(() -> {
+                    started.countDown();
+                    await(release);
+                });
+            }
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            List<String> order = new CopyOnWriteArrayList<>();
+            CountDownLatch finished = new CountDownLatch(6);
+            ExecutorService light = threeThreadPool.forQueue(1, 3);
+            ExecutorService heavy = threeThreadPool.forQueue(2, 3);
+            for (int i = 0; i < 3; i++) {
+                light.execute(() -> {
+                    order.add("light");
+                    finished.countDown();
+                });
+            }
+            for (int i = 0; i < 3; i++) {
+                heavy.execute(() -> {
+                    order.add("heavy");
+                    finished.countDown();
+                });
+            }
+            releases.get(0).countDown();
+
+            assertTrue(finished.await(10, TimeUnit.SECONDS));
+            assertEquals(ImmutableList.of("heavy", "light", "heavy", "heavy", "light", "light"), order);
+        } finally {
+            releases.forEach(CountDownLatch::countDown);
+            threeThreadPool.close();
+        }
+    }
+
+    @Test
+    public void whenAQueueReachesItsConcurrencyLimit_ItWaitsForItsOwnTasks() throws InterruptedException {
+        ExecutorService limited = pool.forQueue(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        limited.execute(() -> await(release));
+
+        CountDownLatch started = new CountDownLatch(1);
+        Thread consumer = new Thread(() -> limited.execute(started::countDown));
+        consumer.start();
+        try {
+            assertFalse(started.await(100, TimeUnit.MILLISECONDS));
+            release.countDown();
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            consumer.join();
+        }
+    }
+
+    @Test
+    public void whenAQueueIsShutDown_ItWaitsForItsOwnTasksOnly() throws InterruptedException {
+        ExecutorService busy = pool.forQueue(1, 2);
+        ExecutorService idle = pool.forQueue(1, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        busy.execute(() -> await(release));
+
+        idle.shutdown();
+        busy.shutdown();
+
+        assertTrue(idle.awaitTermination(10, TimeUnit.SECONDS));
+        assertFalse(busy.awaitTermination(100, TimeUnit.MILLISECONDS));
+        release.countDown();
+        assertTrue(busy.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -182,6 +182,7 @@ final public class TxFactoryJanus extends TxFactoryAbstract<GraknTxJanus, JanusG
         makePropertyKeys(management);
 
         makeIndicesVertexCentric(management);
+        makeIndicesRange(management);
         makeIndicesComposite(management);
 
         management.commit();
@@ -240,6 +241,37 @@ final public class TxFactoryJanus extends TxFactoryAbstract<GraknTxJanus, JanusG
         }
     }
 
+    /**
+     * Sorts the edges of a vertex in one direction by the given properties, so they can be searched by range. Unlike
+     * {@link #makeIndicesVertexCentric(JanusGraphManagement)} each group of properties gets an index of its own, because
+     * the edges only ever hold the value of one data type.
+     */
+    private static void makeIndicesRange(JanusGraphManagement management){
+        ResourceBundle keys = ResourceBundle.getBundle("indices-range");
+        for(String edgeLabel : keys.keySet()){
+            String[] directionAndIndices = keys.getString(edgeLabel).split("\\|");
+            Direction direction = Direction.valueOf(directionAndIndices[0]);
+
+            RelationType relationType = management.getRelationType(edgeLabel);
+            EdgeLabel label = management.getEdgeLabel(edgeLabel);
+
+            for(String index : directionAndIndices[1].split(",")){
+                PropertyKey[] propertyKeys = stream(index.split("\\+")).map(keyId -> {
+                    PropertyKey key = management.getPropertyKey(keyId);
+                    if (key == null) {
+                        throw new RuntimeException("Trying to create range index on label [" + edgeLabel + "] but the property [" + keyId + "] does not exist");
+                    }
+                    return key;
+                }).toArray(PropertyKey[]::new);
+
+                String indexName = edgeLabel + "by" + index.replace('+', '_');
+                if (management.getRelationIndex(relationType, indexName) == null) {
+                    management.buildEdgeIndex(label, indexName, direction, Order.incr, propertyKeys);
+                }
+            }
+        }
+    }
+
     private static void makePropertyKeys(JanusGraphManagement management){
         stream(Schema.VertexProperty.values()).forEach(property ->
                 makePropertyKey(management, property.name(), property.getDataType()));
@@ -84,6 +84,16 @@ public class TxFactoryJanusTest extends JanusTestBase {
             assertNotNull(management.getEdgeLabel(label));
         }
 
+        //Test Range Indices
+        ResourceBundle ranges = ResourceBundle.getBundle("indices-range");
+        for(String label : ranges.keySet()){
+            String indices = ranges.getString(label).split("\\|")[1];
+            for(String index : indices.split(",")){
+                String indexName = label + "by" + index.replace('+', '_');
+                assertNotNull(management.getRelationIndex(management.getRelationType(label), indexName));
+            }
+        }
+
         //Test Properties
         Arrays.stream(Schema.VertexProperty.values()).forEach(property ->
                 assertNotNull(management.getPropertyKey(property.name())));
@@ -26,6 +26,7 @@ import ai.grakn.util.Schema;
 import com.google.auto.value.AutoValue;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
@@ -40,6 +41,7 @@ import java.util.Set;
 
 import static ai.grakn.util.CommonUtil.toImmutableSet;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toSet;
 
 /**
  * A traversal over a Grakn knowledge base, representing one of many ways to execute a {@link Match}.
@@ -113,6 +115,31 @@ public abstract class GraqlTraversal {
         return traversal.select(traversalNames[0], traversalNames[0], traversalNames);
     }
 
+    /**
+     * Check whether the traversal can find the same concepts for the selected variables more than once. This can only
+     * happen if the traversal is a union of several traversals, if it passes through a variable that is not
+     * selected and may match more than one concept, or if one of its fragments may reach the same concept more than
+     * once, such as {@code plays} walking the sub-types of a type which all play the same role.
+     *
+     * @param selectedVars the variables which will be selected from the traversal
+     * @return true if each result of the traversal has different concepts for the selected variables
+     */
+    public boolean hasDistinctResults(Set<Var> selectedVars) {
+        if (fragments().size() != 1) return false;
+
+        ImmutableList<Fragment> fragmentList = Iterables.getOnlyElement(fragments());
+        if (!fragmentList.stream().allMatch(Fragment::hasDistinctEnds)) return false;
+
+        Set<Var> singleConceptVars = fragmentList.stream()
+                .filter(Fragment::matchesSingleConcept)
+                .map(Fragment::start)
+                .collect(toSet());
+
+        return fragmentList.stream()
+                .flatMap(fragment -> fragment.vars().stream())
+                .allMatch(var -> selectedVars.contains(var) || singleConceptVars.contains(var));
+    }
+
     /**
      * Get the estimated complexity of the traversal.
      */
@@ -64,7 +64,8 @@ public class GreedyTraversalPlan {
     protected static final Logger LOG = LoggerFactory.getLogger(GreedyTraversalPlan.class);
 
     /**
-     * Create a traversal plan.
+     * Create a traversal plan. Plans are re-used from the {@link PlanCache} when a query of the same shape has been
+     * planned before.
      *
      * @param pattern a pattern to find a query plan for
      * @return a semi-optimal traversal plan
@@ -72,9 +73,12 @@ public class GreedyTraversalPlan {
     public static GraqlTraversal createTraversal(PatternAdmin pattern, GraknTx graph) {
         Collection<Conjunction<VarPatternAdmin>> patterns = pattern.getDisjunctiveNormalForm().getPatterns();
 
+        PlanCache planCache = PlanCache.of(graph);
+        long schemaVersion = graph.admin().getSchemaVersion();
+
         Set<? extends List<Fragment>> fragments = patterns.stream()
                 .map(conjunction -> new ConjunctionQuery(conjunction, graph))
-                .map(GreedyTraversalPlan::planForConjunction)
+                .map(query -> planCache.plan(query, schemaVersion, GreedyTraversalPlan::planForConjunction))
                 .collect(toImmutableSet());
 
         return GraqlTraversal.create(fragments);
@@ -0,0 +1,341 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.gremlin;
+
+import ai.grakn.GraknTx;
+import ai.grakn.Keyspace;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.internal.gremlin.fragment.Fragment;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * <p>
+ *     A bounded cache of query plans for a single {@link Keyspace}.
+ * </p>
+ *
+ * <p>
+ *     Plans are not cached against the query itself, but against its shape. The shape of a {@link ConjunctionQuery}
+ *     describes each {@link Fragment} only by {@link Fragment#shape()} and cost, and each {@link Var} only by where it
+ *     appears in the query. This lifts out everything which does not affect planning, such as values, ids and the
+ *     randomly generated names of anonymous variables, so queries which differ only in their constants share a plan.
+ * </p>
+ *
+ * <p>
+ *     When a plan is found for a query, it is re-bound to the {@link Fragment}s of that query. If the plan cannot be
+ *     re-bound, or the re-bound plan is estimated to be more expensive than the original, the query is planned again.
+ *     The cache is cleared when the schema of the {@link Keyspace} changes. Plans made by a transaction opened before
+ *     the latest schema change are not cached. The caches of keyspaces which have not been queried for an hour are
+ *     dropped, so deleted keyspaces do not hold on to their plans.
+ * </p>
+ *
+ * <p>
+ *     Hits and misses are counted for each {@link Keyspace}. The counts are kept when the cache of a keyspace is
+ *     dropped, so they never go backwards.
+ * </p>
+ *
+ * @author agent
+ */
+public class PlanCache {
+
+    private static final int MAX_PLANS_PER_KEYSPACE = 1000;
+
+    // Allows for rounding differences when comparing the cost of a re-bound plan to the original
+    private static final double COST_TOLERANCE = 1e-9;
+
+    private static final Cache<Keyspace, PlanCache> CACHES =
+            CacheBuilder.newBuilder().expireAfterAccess(1, TimeUnit.HOURS).build();
+    private static final Map<Keyspace, Counts> COUNTS = new ConcurrentHashMap<>();
+
+    private final Cache<String, CachedPlan> plans =
+            CacheBuilder.newBuilder().maximumSize(MAX_PLANS_PER_KEYSPACE).build();
+    private final Counts counts;
+    private volatile long schemaVersion = 0;
+
+    private PlanCache(Keyspace keyspace) {
+        this.counts = COUNTS.computeIfAbsent(keyspace, k -> new Counts());
+    }
+
+    /**
+     * Get the plan cache for the keyspace of the given transaction, clearing it if the schema has changed
+     *
+     * @param tx the transaction which queries will be planned for
+     * @return the plan cache of the keyspace of the transaction
+     */
+    static PlanCache of(GraknTx tx) {
+        PlanCache planCache = CACHES.asMap().computeIfAbsent(tx.getKeyspace(), PlanCache::new);
+        planCache.invalidateIfOutdated(tx.admin().getSchemaVersion());
+        return planCache;
+    }
+
+    /**
+     * @param keyspace the keyspace the queries were planned in
+     * @return the number of queries which were planned using a cached plan
+     */
+    public static long hitCount(Keyspace keyspace) {
+        Counts keyspaceCounts = COUNTS.get(keyspace);
+        return keyspaceCounts == null ? 0 : keyspaceCounts.hits.get();
+    }
+
+    /**
+     * @param keyspace the keyspace the queries were planned in
+     * @return the number of queries which had to be planned from scratch
+     */
+    public static long missCount(Keyspace keyspace) {
+        Counts keyspaceCounts = COUNTS.get(keyspace);
+        return keyspaceCounts == null ? 0 : keyspaceCounts.misses.get();
+    }
+
+    private synchronized void invalidateIfOutdated(long currentSchemaVersion) {
+        // Plans are always re-bound to the fragments of the current query, so plans from a newer schema are safe to use
+        if (currentSchemaVersion > schemaVersion) {
+            plans.invalidateAll();
+            schemaVersion = currentSchemaVersion;
+        }
+    }
+
+    /**
+     * Get a plan for the given query, either from the cache or by planning it and caching the result
+     *
+     * @param query the query to plan
+     * @param txSchemaVersion the version of the schema when the transaction of the query was opened
+     * @param planner used to plan the query if there is no usable plan in the cache
+     * @return a plan containing fragments of the given query
+     */
+    List<Fragment> plan(
+            ConjunctionQuery query, long txSchemaVersion, Function<ConjunctionQuery, List<Fragment>> planner) {
+        Shape shape = new Shape(query);
+
+        CachedPlan cachedPlan = plans.getIfPresent(shape.key());
+        if (cachedPlan != null) {
+            Optional<List<Fragment>> plan = cachedPlan.bindTo(shape);
+            if (plan.isPresent()) {
+                counts.hits.incrementAndGet();
+                return plan.get();
+            }
+        }
+
+        counts.misses.incrementAndGet();
+        List<Fragment> plan = planner.apply(query);
+        // A transaction opened before the latest schema change may plan using an outdated schema
+        if (txSchemaVersion == schemaVersion) {
+            CachedPlan.of(shape, plan).ifPresent(newPlan -> plans.put(shape.key(), newPlan));
+        }
+        return plan;
+    }
+
+    /**
+     * The number of hits and misses of the plan cache of one {@link Keyspace}
+     */
+    private static class Counts {
+        private final AtomicLong hits = new AtomicLong(0);
+        private final AtomicLong misses = new AtomicLong(0);
+    }
+
+    /**
+     * The shape of a {@link ConjunctionQuery}, used as the key of a cached plan and to re-bind a cached plan
+     */
+    private static class Shape {
+
+        private final Map<Var, String> colours;
+        private final Map<String, List<EquivalentFragmentSet>> setsBySignature = new HashMap<>();
+        private final Map<Fragment, EquivalentFragmentSet> setOfFragment = new HashMap<>();
+        private final String key;
+
+        Shape(ConjunctionQuery query) {
+            Set<EquivalentFragmentSet> fragmentSets = query.getEquivalentFragmentSets();
+            List<Fragment> fragments = fragmentSets.stream().flatMap(EquivalentFragmentSet::stream).collect(toList());
+
+            colours = colourVars(fragments);
+
+            fragmentSets.forEach(set -> {
+                setsBySignature.computeIfAbsent(signature(set), sig -> new ArrayList<>()).add(set);
+                set.forEach(fragment -> setOfFragment.put(fragment, set));
+            });
+
+            key = fragmentSets.stream().map(this::signature).sorted().collect(joining());
+        }
+
+        String key() {
+            return key;
+        }
+
+        /**
+         * Give each variable a colour describing its position in the query, such that variables in the same position
+         * in queries with the same shape have the same colour. This is done by repeatedly refining the colour of each
+         * variable using the colours of its neighbours, until the colours stop changing.
+         */
+        private static Map<Var, String> colourVars(List<Fragment> fragments) {
+            Map<Var, String> colours = new HashMap<>();
+            fragments.stream().flatMap(Shape::varsOf).forEach(var -> colours.put(var, ""));
+
+            long numColours = 1;
+
+            while (true) {
+                Map<Var, List<String>> neighbourhoods = new HashMap<>();
+                colours.keySet().forEach(var -> neighbourhoods.put(var, new ArrayList<>()));
+
+                for (Fragment fragment : fragments) {
+                    String signature = signature(fragment, colours);
+                    List<Var> vars = varsOf(fragment).collect(toList());
+                    for (int i = 0; i < vars.size(); i++) {
+                        neighbourhoods.get(vars.get(i)).add(i + signature);
+                    }
+                }
+
+                Map<Var, String> refined = new HashMap<>();
+                neighbourhoods.forEach((var, neighbourhood) ->
+                        refined.put(var, colours.get(var) + neighbourhood.stream().sorted().collect(joining(";", "[", "]")))
+                );
+
+                // Replace the refined colours with short names, so they do not grow with each iteration
+                List<String> distinct = refined.values().stream().distinct().sorted().collect(toList());
+                refined.replaceAll((var, colour) -> Integer.toString(distinct.indexOf(colour)));
+
+                colours.putAll(refined);
+
+                if (distinct.size() <= numColours) return colours;
+                numColours = distinct.size();
+            }
+        }
+
+        private static Stream<Var> varsOf(Fragment fragment) {
+            return Stream.concat(fragment.vars().stream(), fragment.dependencies().stream());
+        }
+
+        private static String signature(Fragment fragment, Map<Var, String> colours) {
+            Var end = fragment.end();
+            return fragment.shape() +
+                    ":" + fragment.fragmentCost() +
+                    (fragment.hasFixedFragmentCost() ? "!" : "") +
+                    (fragment.isStartingFragment() ? "*" : "") +
+                    varsOf(fragment).map(colours::get).collect(joining(",", "(", ")")) +
+                    (end != null ? ">" + colours.get(end) : "");
+        }
+
+        String signature(Fragment fragment) {
+            return signature(fragment, colours);
+        }
+
+        String signature(EquivalentFragmentSet set) {
+            return set.stream().map(this::signature).sorted().collect(joining(",", "{", "}"));
+        }
+
+        List<EquivalentFragmentSet> setsWithSignature(String signature) {
+            return setsBySignature.getOrDefault(signature, ImmutableList.of());
+        }
+
+        Optional<EquivalentFragmentSet> setOf(Fragment fragment) {
+            return Optional.ofNullable(setOfFragment.get(fragment));
+        }
+    }
+
+    /**
+     * A plan described in terms of the shape of a query, so that it can be re-bound to any query with the same shape
+     */
+    private static class CachedPlan {
+
+        private final List<Step> steps;
+        private final double cost;
+
+        private CachedPlan(List<Step> steps, double cost) {
+            this.steps = steps;
+            this.cost = cost;
+        }
+
+        static Optional<CachedPlan> of(Shape shape, List<Fragment> plan) {
+            ImmutableList.Builder<Step> steps = ImmutableList.builder();
+
+            for (Fragment fragment : plan) {
+                Optional<EquivalentFragmentSet> set = shape.setOf(fragment);
+                if (!set.isPresent()) return Optional.empty();
+
+                String setSignature = shape.signature(set.get());
+                int index = shape.setsWithSignature(setSignature).indexOf(set.get());
+                steps.add(new Step(setSignature, index, shape.signature(fragment)));
+            }
+
+            return Optional.of(new CachedPlan(steps.build(), GraqlTraversal.fragmentListCost(plan)));
+        }
+
+        /**
+         * Re-bind this plan to the fragments of a query with the same shape
+         *
+         * @return the re-bound plan, or nothing if the plan could not be re-bound to an efficient plan for the query
+         */
+        Optional<List<Fragment>> bindTo(Shape shape) {
+            List<Fragment> plan = new ArrayList<>(steps.size());
+            Set<Var> visited = new HashSet<>();
+
+            for (Step step : steps) {
+                List<EquivalentFragmentSet> sets = shape.setsWithSignature(step.setSignature);
+                if (step.index >= sets.size()) return Optional.empty();
+
+                Optional<Fragment> fragment = sets.get(step.index).stream()
+                        .filter(candidate -> shape.signature(candidate).equals(step.fragmentSignature))
+                        .findAny();
+
+                // Variables with the same colour may be bound the wrong way round, so check the plan is still valid
+                if (!fragment.isPresent() || !visited.containsAll(fragment.get().dependencies())) {
+                    return Optional.empty();
+                }
+
+                plan.add(fragment.get());
+                visited.addAll(fragment.get().vars());
+            }
+
+            if (GraqlTraversal.fragmentListCost(plan) > cost + COST_TOLERANCE) return Optional.empty();
+
+            return Optional.of(plan);
+        }
+    }
+
+    /**
+     * A single fragment in a cached plan, identified by the shape of the fragment and its {@link EquivalentFragmentSet}
+     */
+    private static class Step {
+
+        private final String setSignature;
+        private final int index;
+        private final String fragmentSignature;
+
+        Step(String setSignature, int index, String fragmentSignature) {
+            this.setSignature = setSignature;
+            this.index = index;
+            this.fragmentSignature = fragmentSignature;
+        }
+    }
+}
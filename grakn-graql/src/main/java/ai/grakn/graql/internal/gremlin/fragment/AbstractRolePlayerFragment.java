@@ -69,6 +69,13 @@ public abstract class AbstractRolePlayerFragment extends Fragment {
         return "[" + Schema.EdgeLabel.ROLE_PLAYER.getLabel() + ":" + edge().shortName() + roleString + rels + roles + "]";
     }
 
+    final String innerShape() {
+        String roleString = role() != null ? " role" : "";
+        String rels = displayOptionalTypeLabels("rels", relationTypeLabels());
+        String roles = displayOptionalTypeLabels("roles", roleLabels());
+        return "[" + Schema.EdgeLabel.ROLE_PLAYER.getLabel() + roleString + rels + roles + "]";
+    }
+
     @Override
     final ImmutableSet<Var> otherVars() {
         ImmutableSet.Builder<Var> builder = ImmutableSet.<Var>builder().add(edge());
@@ -49,4 +49,9 @@ abstract class DataTypeFragment extends Fragment {
     public double fragmentCost() {
         return COST_NODE_DATA_TYPE;
     }
+
+    @Override
+    public boolean hasDistinctEnds() {
+        return true;
+    }
 }
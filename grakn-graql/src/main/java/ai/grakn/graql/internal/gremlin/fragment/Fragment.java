@@ -67,6 +67,7 @@ import static ai.grakn.graql.internal.gremlin.spanningtree.util.Weighted.weighte
 public abstract class Fragment {
 
     // TODO: Find a better way to represent these values (either abstractly, or better estimates)
+    // These are defaults, used when no instance count estimates have been recorded for the types in the query
 
     private static final long NUM_INSTANCES_PER_TYPE = 100;
     private static final long NUM_SUBTYPES_PER_TYPE = 3;
@@ -199,6 +200,14 @@ public abstract class Fragment {
      */
     public abstract String name();
 
+    /**
+     * The name of the fragment without any variable names or literal values, such as ids and attribute values.
+     * Fragments with the same shape and cost are planned in the same way, so this is used when caching query plans.
+     */
+    public String shape() {
+        return name();
+    }
+
     /**
      * A starting fragment is a fragment that can start a traversal.
      * If any other fragment is present that refers to the same variable, the starting fragment can be omitted.
@@ -220,6 +229,23 @@ public abstract class Fragment {
         return false;
     }
 
+    /**
+     * Indicates whether the fragment matches at most one concept for its start variable, such as when looking up a
+     * concept by its label or id.
+     */
+    public boolean matchesSingleConcept() {
+        return false;
+    }
+
+    /**
+     * Indicates whether the fragment reaches each end concept at most once from a given start concept. Fragments
+     * which walk the sub-types of a type before following an edge, such as {@code plays}, may reach the same concept
+     * through several sub-types, so this is only true for fragments known not to branch.
+     */
+    public boolean hasDistinctEnds() {
+        return false;
+    }
+
     /**
      * Indicates whether the fragment can be used on an {@link org.apache.tinkerpop.gremlin.structure.Edge} as well as
      * a {@link org.apache.tinkerpop.gremlin.structure.Vertex}.
@@ -62,8 +62,27 @@ public class Fragments {
                                         Var rolePlayer, Var edge, Var relation, @Nullable Var role,
                                         @Nullable ImmutableSet<Label> roleLabels,
                                         @Nullable ImmutableSet<Label> relationTypeLabels) {
+        return inRolePlayer(varProperty, rolePlayer, edge, relation, role, roleLabels, relationTypeLabels, null);
+    }
+
+    public static Fragment inRolePlayer(VarProperty varProperty,
+                                        Var rolePlayer, Var edge, Var relation, @Nullable Var role,
+                                        @Nullable ImmutableSet<Label> roleLabels,
+                                        @Nullable ImmutableSet<Label> relationTypeLabels,
+                                        @Nullable Double relationsPerRolePlayer) {
+        return inRolePlayer(
+                varProperty, rolePlayer, edge, relation, role, roleLabels, relationTypeLabels, relationsPerRolePlayer,
+                ImmutableSet.of());
+    }
+
+    public static Fragment inRolePlayer(VarProperty varProperty,
+                                        Var rolePlayer, Var edge, Var relation, @Nullable Var role,
+                                        @Nullable ImmutableSet<Label> roleLabels,
+                                        @Nullable ImmutableSet<Label> relationTypeLabels,
+                                        @Nullable Double relationsPerRolePlayer, Set<ValuePredicate> valuePredicates) {
         return new AutoValue_InRolePlayerFragment(
-                varProperty, rolePlayer, relation, edge, role, roleLabels, relationTypeLabels);
+                varProperty, rolePlayer, relation, edge, role, roleLabels, relationTypeLabels, relationsPerRolePlayer,
+                ImmutableSet.copyOf(valuePredicates));
     }
 
     public static Fragment outRolePlayer(VarProperty varProperty,
@@ -91,7 +110,18 @@ public class Fragments {
     }
 
     public static Fragment inIsa(VarProperty varProperty, Var start, Var end) {
-        return new AutoValue_InIsaFragment(varProperty, start, end);
+        return inIsa(varProperty, start, end, null);
+    }
+
+    public static Fragment inIsa(VarProperty varProperty, Var start, Var end, @Nullable Long instanceCount) {
+        return inIsa(varProperty, start, end, instanceCount, ImmutableSet.of());
+    }
+
+    public static Fragment inIsa(
+            VarProperty varProperty, Var start, Var end, @Nullable Long instanceCount,
+            Set<ValuePredicate> valuePredicates) {
+        return new AutoValue_InIsaFragment(
+                varProperty, start, end, instanceCount, ImmutableSet.copyOf(valuePredicates));
     }
 
     public static Fragment outIsa(VarProperty varProperty, Var start, Var end) {
@@ -70,6 +70,11 @@ abstract class IdFragment extends Fragment {
         return "[id:" + idToString(id()) + "]";
     }
 
+    @Override
+    public String shape() {
+        return "[id]";
+    }
+
     @Override
     public double fragmentCost() {
         return COST_NODE_INDEX;
@@ -80,8 +85,18 @@ abstract class IdFragment extends Fragment {
         return true;
     }
 
+    @Override
+    public boolean matchesSingleConcept() {
+        return true;
+    }
+
     @Override
     public boolean canOperateOnEdges() {
         return id().getValue().startsWith(Schema.PREFIX_EDGE);
     }
+
+    @Override
+    public boolean hasDistinctEnds() {
+        return true;
+    }
 }
@@ -19,6 +19,7 @@
 package ai.grakn.graql.internal.gremlin.fragment;
 
 import ai.grakn.GraknTx;
+import ai.grakn.graql.ValuePredicate;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.internal.gremlin.spanningtree.graph.DirectedEdge;
 import ai.grakn.graql.internal.gremlin.spanningtree.graph.Node;
@@ -33,6 +34,7 @@ import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
@@ -47,6 +49,7 @@ import static ai.grakn.util.Schema.EdgeLabel.SHARD;
 import static ai.grakn.util.Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID;
 import static ai.grakn.util.Schema.VertexProperty.IS_IMPLICIT;
 import static ai.grakn.util.Schema.VertexProperty.LABEL_ID;
+import static java.util.stream.Collectors.joining;
 
 @AutoValue
 abstract class InIsaFragment extends Fragment {
@@ -54,11 +57,25 @@ abstract class InIsaFragment extends Fragment {
     @Override
     public abstract Var end();
 
+    /**
+     * The estimated number of instances of the type, including instances of its sub-types, if known
+     */
+    abstract @Nullable Long instanceCount();
+
+    /**
+     * Range predicates on the value of the instances, which are applied to the isa edges so the shards of the type can
+     * be searched by value
+     */
+    abstract ImmutableSet<ValuePredicate> valuePredicates();
+
     @Override
     public GraphTraversal<Element, ? extends Element> applyTraversalInner(
             GraphTraversal<Element, ? extends Element> traversal, GraknTx graph, Collection<Var> vars) {
         GraphTraversal<Element, Vertex> vertexTraversal = Fragments.inSubs(Fragments.isVertex(traversal));
 
+        // Only attributes have values, so there is no need to look for edge instances
+        if (!valuePredicates().isEmpty()) return toAttributesInRange(vertexTraversal);
+
         GraphTraversal<Vertex, Vertex> isImplicitRelationType =
                 __.<Vertex>hasLabel(RELATIONSHIP_TYPE.name()).has(IS_IMPLICIT.name(), true);
 
@@ -91,6 +108,14 @@ abstract class InIsaFragment extends Fragment {
         return traversal.in(SHARD.getLabel()).in(ISA.getLabel());
     }
 
+    private <S> GraphTraversal<S, Vertex> toAttributesInRange(GraphTraversal<S, Vertex> traversal) {
+        GraphTraversal<S, Edge> isaEdges = traversal.in(SHARD.getLabel()).inE(ISA.getLabel());
+        for (ValuePredicate predicate : valuePredicates()) {
+            isaEdges = predicate.applyPredicate(isaEdges);
+        }
+        return isaEdges.outV();
+    }
+
     private GraphTraversal<Vertex, Edge> toEdgeInstances() {
         Var type = var();
         Var labelId = var();
@@ -116,12 +141,21 @@ abstract class InIsaFragment extends Fragment {
 
     @Override
     public String name() {
-        return "<-[isa]-";
+        if (valuePredicates().isEmpty()) return "<-[isa]-";
+        return "<-[isa:" + valuePredicates().stream().map(Object::toString).collect(joining(", ")) + "]-";
+    }
+
+    @Override
+    public String shape() {
+        return valuePredicates().isEmpty() ? name() : "<-[isa:value]-";
     }
 
     @Override
     public double fragmentCost() {
-        return COST_INSTANCES_PER_TYPE;
+        Long instanceCount = instanceCount();
+        double cost = instanceCount != null ? Math.log1p(instanceCount) : COST_INSTANCES_PER_TYPE;
+        // Assume approximately half of values will satisfy each range
+        return valuePredicates().isEmpty() ? cost : Math.max(cost + valuePredicates().size() * COST_NODE_UNSPECIFIC_PREDICATE, 0);
     }
 
     @Override
@@ -129,4 +163,9 @@ abstract class InIsaFragment extends Fragment {
                                                            Map<Node, Map<Node, Fragment>> edges) {
         return directedEdges(NodeId.NodeType.ISA, nodes, edges);
     }
+
+    @Override
+    public boolean hasDistinctEnds() {
+        return true;
+    }
 }
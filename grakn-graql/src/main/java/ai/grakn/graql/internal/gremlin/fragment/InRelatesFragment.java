@@ -61,4 +61,9 @@ abstract class InRelatesFragment extends Fragment {
                                                            Map<Node, Map<Node, Fragment>> edges) {
         return directedEdges(NodeId.NodeType.RELATES, nodes, edges);
     }
+
+    @Override
+    public boolean hasDistinctEnds() {
+        return true;
+    }
 }
@@ -20,6 +20,7 @@
 package ai.grakn.graql.internal.gremlin.fragment;
 
 import ai.grakn.GraknTx;
+import ai.grakn.graql.ValuePredicate;
 import ai.grakn.graql.Var;
 import ai.grakn.util.Schema;
 import com.google.auto.value.AutoValue;
@@ -32,6 +33,7 @@ import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import javax.annotation.Nullable;
 import java.util.Collection;
 
 import static ai.grakn.graql.internal.gremlin.fragment.Fragments.RELATION_DIRECTION;
@@ -41,6 +43,7 @@ import static ai.grakn.util.Schema.EdgeProperty.RELATIONSHIP_ROLE_OWNER_LABEL_ID
 import static ai.grakn.util.Schema.EdgeProperty.RELATIONSHIP_ROLE_VALUE_LABEL_ID;
 import static ai.grakn.util.Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID;
 import static ai.grakn.util.Schema.EdgeProperty.ROLE_LABEL_ID;
+import static java.util.stream.Collectors.joining;
 
 /**
  * A fragment representing traversing a {@link ai.grakn.util.Schema.EdgeLabel#ROLE_PLAYER} edge from the role-player to
@@ -53,6 +56,17 @@ import static ai.grakn.util.Schema.EdgeProperty.ROLE_LABEL_ID;
 @AutoValue
 abstract class InRolePlayerFragment extends AbstractRolePlayerFragment {
 
+    /**
+     * The estimated number of relationships of the given relationship types each role-player is in, if known
+     */
+    abstract @Nullable Double relationsPerRolePlayer();
+
+    /**
+     * Range predicates on the value of the other role-player, which are applied to the attribute edges of the
+     * role-player so they can be searched by value
+     */
+    abstract ImmutableSet<ValuePredicate> valuePredicates();
+
     @Override
     public GraphTraversal<Element, ? extends Element> applyTraversalInner(
             GraphTraversal<Element, ? extends Element> traversal, GraknTx graph, Collection<Var> vars) {
@@ -89,6 +103,13 @@ abstract class InRolePlayerFragment extends AbstractRolePlayerFragment {
         applyLabelsToTraversal(edgeTraversal, roleProperty, roleLabels(), graph);
         applyLabelsToTraversal(edgeTraversal, RELATIONSHIP_TYPE_LABEL_ID, relationTypeLabels(), graph);
 
+        // The attribute edges of an owner hold the value of the attribute they point to
+        if (direction == Direction.OUT) {
+            for (ValuePredicate predicate : valuePredicates()) {
+                edgeTraversal = predicate.applyPredicate(edgeTraversal);
+            }
+        }
+
         traverseToRole(edgeTraversal, role(), roleProperty, vars);
 
         return edgeTraversal;
@@ -96,11 +117,27 @@ abstract class InRolePlayerFragment extends AbstractRolePlayerFragment {
 
     @Override
     public String name() {
-        return "<-" + innerName() + "-";
+        if (valuePredicates().isEmpty()) return "<-" + innerName() + "-";
+        String predicates = valuePredicates().stream().map(Object::toString).collect(joining(", "));
+        return "<-" + innerName() + "[value:" + predicates + "]-";
+    }
+
+    @Override
+    public String shape() {
+        return "<-" + innerShape() + (valuePredicates().isEmpty() ? "" : "[value]") + "-";
     }
 
     @Override
     public double fragmentCost() {
-        return COST_RELATIONS_PER_INSTANCE;
+        Double relationsPerRolePlayer = relationsPerRolePlayer();
+        double cost = relationsPerRolePlayer != null ? Math.log1p(relationsPerRolePlayer) : COST_RELATIONS_PER_INSTANCE;
+
+        // Assume approximately half of values will satisfy each range
+        return Math.max(cost + valuePredicates().size() * COST_NODE_UNSPECIFIC_PREDICATE, 0);
+    }
+
+    @Override
+    public boolean hasDistinctEnds() {
+        return true;
     }
 }
@@ -59,4 +59,9 @@ abstract class InSubFragment extends Fragment {
                                                            Map<Node, Map<Node, Fragment>> edges) {
         return directedEdges(NodeId.NodeType.SUB, nodes, edges);
     }
+
+    @Override
+    public boolean hasDistinctEnds() {
+        return true;
+    }
 }
@@ -46,4 +46,9 @@ abstract class IsAbstractFragment extends Fragment {
     public double fragmentCost() {
         return COST_NODE_IS_ABSTRACT;
     }
+
+    @Override
+    public boolean hasDistinctEnds() {
+        return true;
+    }
 }
@@ -56,4 +56,14 @@ abstract class LabelFragment extends Fragment {
     public boolean hasFixedFragmentCost() {
         return true;
     }
+
+    @Override
+    public boolean matchesSingleConcept() {
+        return true;
+    }
+
+    @Override
+    public boolean hasDistinctEnds() {
+        return true;
+    }
 }
@@ -44,6 +44,11 @@ abstract class NeqFragment extends Fragment {
         return "[neq:" + other().shortName() + "]";
     }
 
+    @Override
+    public String shape() {
+        return "[neq]";
+    }
+
     @Override
     public double fragmentCost() {
         // This is arbitrary - we imagine about half the results are filtered out
@@ -54,4 +59,9 @@ abstract class NeqFragment extends Fragment {
     public ImmutableSet<Var> dependencies() {
         return ImmutableSet.of(other());
     }
+
+    @Override
+    public boolean hasDistinctEnds() {
+        return true;
+    }
 }
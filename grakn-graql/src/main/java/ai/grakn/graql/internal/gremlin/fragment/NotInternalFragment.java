@@ -51,4 +51,9 @@ abstract class NotInternalFragment extends Fragment {
     public double fragmentCost() {
         return COST_NODE_NOT_INTERNAL;
     }
+
+    @Override
+    public boolean hasDistinctEnds() {
+        return true;
+    }
 }
@@ -81,4 +81,9 @@ abstract class OutIsaFragment extends Fragment {
     public boolean canOperateOnEdges() {
         return true;
     }
+
+    @Override
+    public boolean hasDistinctEnds() {
+        return true;
+    }
 }
@@ -62,4 +62,9 @@ abstract class OutRelatesFragment extends Fragment {
                                                            Map<Node, Map<Node, Fragment>> edges) {
         return directedEdges(NodeId.NodeType.RELATES, nodes, edges);
     }
+
+    @Override
+    public boolean hasDistinctEnds() {
+        return true;
+    }
 }
@@ -100,6 +100,11 @@ abstract class OutRolePlayerFragment extends AbstractRolePlayerFragment {
         return "-" + innerName() + "->";
     }
 
+    @Override
+    public String shape() {
+        return "-" + innerShape() + "->";
+    }
+
     @Override
     public double fragmentCost() {
         return roleLabels() != null ? COST_ROLE_PLAYERS_PER_ROLE : COST_ROLE_PLAYERS_PER_RELATION;
@@ -109,4 +114,9 @@ abstract class OutRolePlayerFragment extends AbstractRolePlayerFragment {
     public boolean canOperateOnEdges() {
         return true;
     }
+
+    @Override
+    public boolean hasDistinctEnds() {
+        return true;
+    }
 }
@@ -60,4 +60,9 @@ abstract class OutSubFragment extends Fragment {
                                                            Map<Node, Map<Node, Fragment>> edges) {
         return directedEdges(NodeId.NodeType.SUB, nodes, edges);
     }
+
+    @Override
+    public boolean hasDistinctEnds() {
+        return true;
+    }
 }
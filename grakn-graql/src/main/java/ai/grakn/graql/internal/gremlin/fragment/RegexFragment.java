@@ -50,4 +50,9 @@ abstract class RegexFragment extends Fragment {
     public double fragmentCost() {
         return COST_NODE_REGEX;
     }
+
+    @Override
+    public boolean hasDistinctEnds() {
+        return true;
+    }
 }
@@ -46,6 +46,11 @@ abstract class ResourceIndexFragment extends Fragment {
         return "[index:" + resourceIndex() + "]";
     }
 
+    @Override
+    public String shape() {
+        return "[index]";
+    }
+
     @Override
     public double fragmentCost() {
         return COST_NODE_INDEX;
@@ -55,4 +60,14 @@ abstract class ResourceIndexFragment extends Fragment {
     public boolean hasFixedFragmentCost() {
         return true;
     }
+
+    @Override
+    public boolean matchesSingleConcept() {
+        return true;
+    }
+
+    @Override
+    public boolean hasDistinctEnds() {
+        return true;
+    }
 }
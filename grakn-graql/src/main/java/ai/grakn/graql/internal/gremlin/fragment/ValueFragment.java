@@ -49,6 +49,11 @@ abstract class ValueFragment extends Fragment {
         return "[value:" + predicate() + "]";
     }
 
+    @Override
+    public String shape() {
+        return "[value]";
+    }
+
     @Override
     public double fragmentCost() {
         if (predicate().isSpecific()) {
@@ -68,4 +73,9 @@ abstract class ValueFragment extends Fragment {
     public Set<Var> dependencies() {
         return optionalToStream(predicate().getInnerVar()).map(VarPatternAdmin::var).collect(toSet());
     }
+
+    @Override
+    public boolean hasDistinctEnds() {
+        return true;
+    }
 }
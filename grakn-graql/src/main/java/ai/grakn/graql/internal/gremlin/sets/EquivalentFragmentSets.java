@@ -23,6 +23,7 @@ import ai.grakn.GraknTx;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Label;
+import ai.grakn.concept.SchemaConcept;
 import ai.grakn.concept.Type;
 import ai.grakn.graql.ValuePredicate;
 import ai.grakn.graql.Var;
@@ -34,6 +35,7 @@ import com.google.common.collect.ImmutableSet;
 
 import javax.annotation.Nullable;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
@@ -47,7 +49,11 @@ public class EquivalentFragmentSets {
             RolePlayerFragmentSet.ROLE_OPTIMISATION,
             ResourceIndexFragmentSet.RESOURCE_INDEX_OPTIMISATION,
             RolePlayerFragmentSet.RELATION_TYPE_OPTIMISATION,
-            LabelFragmentSet.REDUNDANT_LABEL_ELIMINATION_OPTIMISATION
+            LabelFragmentSet.REDUNDANT_LABEL_ELIMINATION_OPTIMISATION,
+            IsaFragmentSet.INSTANCE_COUNT_OPTIMISATION,
+            IsaFragmentSet.VALUE_RANGE_OPTIMISATION,
+            RolePlayerFragmentSet.RELATION_COUNT_OPTIMISATION,
+            RolePlayerFragmentSet.ATTRIBUTE_VALUE_OPTIMISATION
     );
 
     /**
@@ -175,6 +181,15 @@ public class EquivalentFragmentSets {
         return type != null && !CommonUtil.containsOnly(type.subs(), 1);
     }
 
+    /**
+     * Get the recorded estimate of the number of instances of the type with the given label, if there is one.
+     */
+    static Optional<Long> instanceCountEstimate(GraknTx graph, Label label) {
+        SchemaConcept schemaConcept = graph.getSchemaConcept(label);
+        if (schemaConcept == null || !schemaConcept.isType()) return Optional.empty();
+        return graph.admin().getInstanceCountEstimate(schemaConcept.asType());
+    }
+
     static @Nullable LabelFragmentSet typeLabelOf(Var type, Collection<EquivalentFragmentSet> fragmentSets) {
         return fragmentSetOfType(LabelFragmentSet.class, fragmentSets)
                 .filter(labelFragmentSet -> labelFragmentSet.type().equals(type))
@@ -19,23 +19,43 @@
 
 package ai.grakn.graql.internal.gremlin.sets;
 
+import ai.grakn.graql.ValuePredicate;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.VarProperty;
 import ai.grakn.graql.internal.gremlin.EquivalentFragmentSet;
 import ai.grakn.graql.internal.gremlin.fragment.Fragments;
+import com.google.common.collect.ImmutableSet;
+
+import javax.annotation.Nullable;
+import java.util.Optional;
 
 /**
  * @author Felix Chapman
  */
 class IsaFragmentSet extends EquivalentFragmentSet {
 
+    private final VarProperty varProperty;
     private final Var instance;
     private final Var type;
+    private final @Nullable Long instanceCount;
+    private final ImmutableSet<ValuePredicate> valuePredicates;
 
     IsaFragmentSet(VarProperty varProperty, Var instance, Var type) {
-        super(Fragments.outIsa(varProperty, instance, type), Fragments.inIsa(varProperty, type, instance));
+        this(varProperty, instance, type, null, ImmutableSet.of());
+    }
+
+    private IsaFragmentSet(
+            VarProperty varProperty, Var instance, Var type, @Nullable Long instanceCount,
+            ImmutableSet<ValuePredicate> valuePredicates) {
+        super(
+                Fragments.outIsa(varProperty, instance, type),
+                Fragments.inIsa(varProperty, type, instance, instanceCount, valuePredicates)
+        );
+        this.varProperty = varProperty;
         this.instance = instance;
         this.type = type;
+        this.instanceCount = instanceCount;
+        this.valuePredicates = valuePredicates;
     }
 
     Var instance() {
@@ -45,4 +65,82 @@ class IsaFragmentSet extends EquivalentFragmentSet {
     Var type() {
         return type;
     }
+
+    /**
+     * A query can use the recorded instance count estimate of a type when the following criteria are met:
+     * <ol>
+     *     <li>There is an {@link IsaFragmentSet} {@code $x-[isa]->$X}
+     *     <li>There is a {@link LabelFragmentSet} {@code $X[label:foo]}
+     *     <li>An instance count estimate has been recorded for {@code foo} or its sub-types
+     * </ol>
+     *
+     * When these criteria are met, the cost of navigating from {@code foo} to its instances is derived from the
+     * estimate, instead of assuming every type has the same number of instances.
+     */
+    static final FragmentSetOptimisation INSTANCE_COUNT_OPTIMISATION = (fragmentSets, tx) -> {
+        Iterable<IsaFragmentSet> isaSets =
+                EquivalentFragmentSets.fragmentSetOfType(IsaFragmentSet.class, fragmentSets)::iterator;
+
+        for (IsaFragmentSet isaSet : isaSets) {
+            if (isaSet.instanceCount != null) continue;
+
+            @Nullable LabelFragmentSet typeLabel = EquivalentFragmentSets.typeLabelOf(isaSet.type, fragmentSets);
+
+            if (typeLabel == null) continue;
+
+            Optional<Long> instanceCount = EquivalentFragmentSets.instanceCountEstimate(tx, typeLabel.label());
+
+            if (instanceCount.isPresent()) {
+                fragmentSets.remove(isaSet);
+                fragmentSets.add(isaSet.withInstanceCount(instanceCount.get()));
+                return true;
+            }
+        }
+
+        return false;
+    };
+
+    /**
+     * A query can search the instances of a type by value when the following criteria are met:
+     * <ol>
+     *     <li>There is an {@link IsaFragmentSet} {@code $x-[isa]->$X}
+     *     <li>There is a {@link ValueFragmentSet} {@code $x[value:>10000]} comparing against a literal value by order
+     * </ol>
+     *
+     * When these criteria are met, the predicate is also applied to the isa edges of the instances. These edges are
+     * sorted by value, so only the instances in range are visited when navigating from {@code $X} to its instances.
+     * The {@link ValueFragmentSet} is kept, so the predicate is still checked when navigating from {@code $x}.
+     * The optimisation is only applied to keyspaces which hold values on their isa edges.
+     */
+    static final FragmentSetOptimisation VALUE_RANGE_OPTIMISATION = (fragmentSets, tx) -> {
+        Iterable<ValueFragmentSet> valueSets =
+                EquivalentFragmentSets.fragmentSetOfType(ValueFragmentSet.class, fragmentSets)::iterator;
+
+        for (ValueFragmentSet valueSet : valueSets) {
+            ValuePredicate predicate = valueSet.predicate();
+            if (!predicate.isRange()) continue;
+
+            @Nullable IsaFragmentSet isaSet = EquivalentFragmentSets.typeInformationOf(valueSet.resource(), fragmentSets);
+
+            if (isaSet == null || isaSet.valuePredicates.contains(predicate)) continue;
+
+            // Keyspaces created before values were copied onto isa edges can only filter the values of the instances
+            if (!tx.admin().hasAttributeValuesOnEdges()) return false;
+
+            fragmentSets.remove(isaSet);
+            fragmentSets.add(isaSet.withValuePredicates(
+                    ImmutableSet.<ValuePredicate>builder().addAll(isaSet.valuePredicates).add(predicate).build()));
+            return true;
+        }
+
+        return false;
+    };
+
+    private IsaFragmentSet withInstanceCount(long instanceCount) {
+        return new IsaFragmentSet(varProperty, instance, type, instanceCount, valuePredicates);
+    }
+
+    private IsaFragmentSet withValuePredicates(ImmutableSet<ValuePredicate> valuePredicates) {
+        return new IsaFragmentSet(varProperty, instance, type, instanceCount, valuePredicates);
+    }
 }
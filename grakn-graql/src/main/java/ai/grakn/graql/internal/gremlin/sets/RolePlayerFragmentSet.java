@@ -19,12 +19,14 @@
 
 package ai.grakn.graql.internal.gremlin.sets;
 
+import ai.grakn.GraknTx;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.Relationship;
 import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Role;
 import ai.grakn.concept.SchemaConcept;
 import ai.grakn.concept.Type;
+import ai.grakn.graql.ValuePredicate;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.VarProperty;
 import ai.grakn.graql.internal.gremlin.EquivalentFragmentSet;
@@ -34,6 +36,9 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
 
 import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import static ai.grakn.util.CommonUtil.toImmutableSet;
 
@@ -52,13 +57,26 @@ class RolePlayerFragmentSet extends EquivalentFragmentSet {
     private final @Nullable Var role;
     private final @Nullable ImmutableSet<Label> roleTypeLabels;
     private final @Nullable ImmutableSet<Label> relationTypeLabels;
+    private final @Nullable Double relationsPerRolePlayer;
+    private final ImmutableSet<ValuePredicate> valuePredicates;
     private final VarProperty varProperty;
 
     RolePlayerFragmentSet(VarProperty varProperty,
                           Var relation, Var edge, Var rolePlayer, @Nullable Var role,
                           @Nullable ImmutableSet<Label> roleLabels, @Nullable ImmutableSet<Label> relationTypeLabels) {
+        this(varProperty, relation, edge, rolePlayer, role, roleLabels, relationTypeLabels, null, ImmutableSet.of());
+    }
+
+    private RolePlayerFragmentSet(VarProperty varProperty,
+                                  Var relation, Var edge, Var rolePlayer, @Nullable Var role,
+                                  @Nullable ImmutableSet<Label> roleLabels,
+                                  @Nullable ImmutableSet<Label> relationTypeLabels,
+                                  @Nullable Double relationsPerRolePlayer,
+                                  ImmutableSet<ValuePredicate> valuePredicates) {
         super(
-                Fragments.inRolePlayer(varProperty, rolePlayer, edge, relation, role, roleLabels, relationTypeLabels),
+                Fragments.inRolePlayer(
+                        varProperty, rolePlayer, edge, relation, role, roleLabels, relationTypeLabels,
+                        relationsPerRolePlayer, valuePredicates),
                 Fragments.outRolePlayer(varProperty, relation, edge, rolePlayer, role, roleLabels, relationTypeLabels)
         );
         this.relation = relation;
@@ -67,6 +85,8 @@ class RolePlayerFragmentSet extends EquivalentFragmentSet {
         this.role = role;
         this.roleTypeLabels = roleLabels;
         this.relationTypeLabels = relationTypeLabels;
+        this.relationsPerRolePlayer = relationsPerRolePlayer;
+        this.valuePredicates = valuePredicates;
         this.varProperty = varProperty;
     }
 
@@ -177,6 +197,113 @@ class RolePlayerFragmentSet extends EquivalentFragmentSet {
         return false;
     };
 
+    /**
+     * A query can use the recorded instance count estimate of a {@link RelationshipType} to estimate the number of
+     * {@link Relationship}s each role-player is in, when the following criteria are met:
+     * <ol>
+     *     <li>There is a {@link RolePlayerFragmentSet} {@code $r-[role-player:$e ...]->$p}
+     *     <li>There is a {@link IsaFragmentSet} {@code $r-[isa]->$R}
+     *     <li>There is a {@link LabelFragmentSet} {@code $R[label:foo]}
+     *     <li>An instance count estimate has been recorded for {@code foo} or its sub-types
+     * </ol>
+     *
+     * When the type of {@code $p} is also labelled and has an estimate, the {@link Relationship}s are assumed to be
+     * spread evenly over its instances. Otherwise every {@link Relationship} may involve the same role-player.
+     */
+    static final FragmentSetOptimisation RELATION_COUNT_OPTIMISATION = (fragmentSets, tx) -> {
+        Iterable<RolePlayerFragmentSet> rolePlayers =
+                EquivalentFragmentSets.fragmentSetOfType(RolePlayerFragmentSet.class, fragmentSets)::iterator;
+
+        for (RolePlayerFragmentSet rolePlayer : rolePlayers) {
+
+            if (rolePlayer.relationsPerRolePlayer != null) continue;
+
+            @Nullable IsaFragmentSet isa = EquivalentFragmentSets.typeInformationOf(rolePlayer.relation, fragmentSets);
+
+            if (isa == null) continue;
+
+            @Nullable LabelFragmentSet relationLabel = EquivalentFragmentSets.typeLabelOf(isa.type(), fragmentSets);
+
+            if (relationLabel == null) continue;
+
+            Optional<Long> relationCount = EquivalentFragmentSets.instanceCountEstimate(tx, relationLabel.label());
+
+            if (relationCount.isPresent()) {
+                Optional<Long> rolePlayerCount = instanceCountOf(rolePlayer.rolePlayer, fragmentSets, tx);
+                double relationsPerRolePlayer = rolePlayerCount.isPresent() && rolePlayerCount.get() > 0 ?
+                        relationCount.get() / (double) rolePlayerCount.get() : relationCount.get();
+
+                fragmentSets.remove(rolePlayer);
+                fragmentSets.add(rolePlayer.addRelationsPerRolePlayer(relationsPerRolePlayer));
+                return true;
+            }
+        }
+
+        return false;
+    };
+
+    /**
+     * A query can search the attribute edges of an owner by value when the following criteria are met:
+     * <ol>
+     *     <li>There is a {@link RolePlayerFragmentSet} {@code $r-[role-player:$e ...]->$x}
+     *     <li>There is another {@link RolePlayerFragmentSet} {@code $r-[role-player:$f ...]->$y}
+     *     <li>There is a {@link ValueFragmentSet} {@code $y[value:>10000]} comparing against a literal value by order
+     * </ol>
+     *
+     * When these criteria are met, the predicate is also applied to the attribute edges going out of {@code $x}. These
+     * edges hold the value of the attribute they point to and are sorted by it, so only the attributes in range are
+     * visited when navigating from {@code $x} to {@code $r}. Reified {@link Relationship}s are not affected.
+     * <p>
+     * The {@link ValueFragmentSet} is kept, so the predicate is still checked when navigating to {@code $y} any other way.
+     * The optimisation is only applied to keyspaces which hold values on their attribute edges.
+     */
+    static final FragmentSetOptimisation ATTRIBUTE_VALUE_OPTIMISATION = (fragmentSets, tx) -> {
+        Iterable<ValueFragmentSet> valueSets =
+                EquivalentFragmentSets.fragmentSetOfType(ValueFragmentSet.class, fragmentSets)::iterator;
+
+        for (ValueFragmentSet valueSet : valueSets) {
+            ValuePredicate predicate = valueSet.predicate();
+            if (!predicate.isRange()) continue;
+
+            Iterable<RolePlayerFragmentSet> values = rolePlayersOf(valueSet.resource(), fragmentSets)::iterator;
+
+            for (RolePlayerFragmentSet value : values) {
+                Optional<RolePlayerFragmentSet> owner = EquivalentFragmentSets
+                        .fragmentSetOfType(RolePlayerFragmentSet.class, fragmentSets)
+                        .filter(set -> set.relation.equals(value.relation))
+                        .filter(set -> !set.rolePlayer.equals(value.rolePlayer))
+                        .filter(set -> !set.valuePredicates.contains(predicate))
+                        .findAny();
+
+                if (owner.isPresent()) {
+                    // Keyspaces created before values were copied onto attribute edges can only filter the attributes
+                    if (!tx.admin().hasAttributeValuesOnEdges()) return false;
+
+                    fragmentSets.remove(owner.get());
+                    fragmentSets.add(owner.get().addValuePredicate(predicate));
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    };
+
+    private static Optional<Long> instanceCountOf(Var instance, Collection<EquivalentFragmentSet> fragmentSets, GraknTx tx) {
+        @Nullable IsaFragmentSet isa = EquivalentFragmentSets.typeInformationOf(instance, fragmentSets);
+        if (isa == null) return Optional.empty();
+
+        @Nullable LabelFragmentSet label = EquivalentFragmentSets.typeLabelOf(isa.type(), fragmentSets);
+        if (label == null) return Optional.empty();
+
+        return EquivalentFragmentSets.instanceCountEstimate(tx, label.label());
+    }
+
+    private static Stream<RolePlayerFragmentSet> rolePlayersOf(Var rolePlayer, Collection<EquivalentFragmentSet> fragmentSets) {
+        return EquivalentFragmentSets.fragmentSetOfType(RolePlayerFragmentSet.class, fragmentSets)
+                .filter(set -> set.rolePlayer.equals(rolePlayer));
+    }
+
     /**
      * Apply an optimisation where we check the {@link Role} property instead of navigating to the {@link Role} directly.
      * @param role the {@link Role} that this role-player fragment must link to
@@ -189,7 +316,8 @@ class RolePlayerFragmentSet extends EquivalentFragmentSet {
         ImmutableSet<Label> newRoleLabels = role.subs().map(SchemaConcept::getLabel).collect(toImmutableSet());
 
         return new RolePlayerFragmentSet(varProperty,
-                relation, edge, rolePlayer, null, newRoleLabels, relationTypeLabels
+                relation, edge, rolePlayer, null, newRoleLabels, relationTypeLabels,
+                relationsPerRolePlayer, valuePredicates
         );
     }
 
@@ -204,7 +332,37 @@ class RolePlayerFragmentSet extends EquivalentFragmentSet {
         ImmutableSet<Label> newRelationLabels = relationshipType.subs().map(Type::getLabel).collect(toImmutableSet());
 
         return new RolePlayerFragmentSet(varProperty,
-                relation, edge, rolePlayer, role, roleTypeLabels, newRelationLabels
+                relation, edge, rolePlayer, role, roleTypeLabels, newRelationLabels,
+                relationsPerRolePlayer, valuePredicates
+        );
+    }
+
+    /**
+     * Apply an optimisation where we estimate the cost of navigating from the role-player to the {@link Relationship}.
+     * @param relationsPerRolePlayer the estimated number of {@link Relationship}s each role-player is in
+     * @return a new {@link RolePlayerFragmentSet} with the same properties excepting the relationship estimate
+     */
+    private RolePlayerFragmentSet addRelationsPerRolePlayer(double relationsPerRolePlayer) {
+        Preconditions.checkState(this.relationsPerRolePlayer == null);
+
+        return new RolePlayerFragmentSet(varProperty,
+                relation, edge, rolePlayer, role, roleTypeLabels, relationTypeLabels,
+                relationsPerRolePlayer, valuePredicates
+        );
+    }
+
+    /**
+     * Apply an optimisation where we search the attribute edges of the role-player by the value they point to.
+     * @param predicate a range predicate on the value of the other role-player
+     * @return a new {@link RolePlayerFragmentSet} with the same properties plus the given predicate
+     */
+    private RolePlayerFragmentSet addValuePredicate(ValuePredicate predicate) {
+        ImmutableSet<ValuePredicate> newValuePredicates =
+                ImmutableSet.<ValuePredicate>builder().addAll(valuePredicates).add(predicate).build();
+
+        return new RolePlayerFragmentSet(varProperty,
+                relation, edge, rolePlayer, role, roleTypeLabels, relationTypeLabels,
+                relationsPerRolePlayer, newValuePredicates
         );
     }
 
@@ -213,6 +371,8 @@ class RolePlayerFragmentSet extends EquivalentFragmentSet {
      */
     private RolePlayerFragmentSet removeRoleVar() {
         Preconditions.checkNotNull(role);
-        return new RolePlayerFragmentSet(varProperty, relation, edge, rolePlayer, null, roleTypeLabels, relationTypeLabels);
+        return new RolePlayerFragmentSet(
+                varProperty, relation, edge, rolePlayer, null, roleTypeLabels, relationTypeLabels, relationsPerRolePlayer,
+                valuePredicates);
     }
 }
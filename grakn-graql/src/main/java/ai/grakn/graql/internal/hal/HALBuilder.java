@@ -45,8 +45,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -78,18 +80,29 @@ public class HALBuilder {
     }
 
     public static Json renderHALArrayData(GetQuery getQuery, Collection<Answer> results, int offset, int limit, boolean filterInstances) {
+        Json lines = Json.array();
+        renderHALArrayData(getQuery, results.stream(), offset, limit, filterInstances).forEach(lines::add);
+        return lines;
+    }
+
+    /**
+     * Lazily builds the HAL representations of a stream of answers, so they can be written out as they are found
+     * rather than collected first.
+     */
+    public static Stream<Json> renderHALArrayData(GetQuery getQuery, Stream<Answer> results, int offset, int limit, boolean filterInstances) {
         Keyspace keyspace = getQuery.tx().get().getKeyspace();
 
         //For each VarPatterAdmin containing a relationship we store a map containing varNames associated to RoleTypes
-        Map<VarPatternAdmin, Pair<Map<Var, String>, String>> roleTypes = new HashMap<>();
-        if (results.iterator().hasNext()) {
-            // Compute map on first answer in result, since it will be the same for all the answers
-            roleTypes = computeRoleTypesFromQuery(getQuery, results.iterator().next());
-        }
+        AtomicReference<Map<VarPatternAdmin, Pair<Map<Var, String>, String>>> roleTypes = new AtomicReference<>();
+
         //Collect all the types explicitly asked in the get query
         Set<Label> typesAskedInQuery = getQuery.match().admin().getSchemaConcepts().stream().map(SchemaConcept::getLabel).collect(toSet());
 
-        return buildHALRepresentations(results, typesAskedInQuery, roleTypes, keyspace, offset, limit, filterInstances);
+        return results.flatMap(answer -> {
+            // Compute map on first answer in result, since it will be the same for all the answers
+            if (roleTypes.get() == null) roleTypes.set(computeRoleTypesFromQuery(getQuery, answer));
+            return buildHALRepresentations(answer, typesAskedInQuery, roleTypes.get(), keyspace, offset, limit, filterInstances).stream();
+        });
     }
 
     public static String renderHALConceptData(Concept concept, int separationDegree, Keyspace keyspace, int offset, int limit) {
@@ -128,40 +141,38 @@ public class HALBuilder {
         return conceptsArray;
     }
 
-    private static Json buildHALRepresentations(Collection<Answer> graqlResultsList, Set<Label> typesAskedInQuery, Map<VarPatternAdmin, Pair<Map<Var, String>, String>> roleTypes, Keyspace keyspace, int offset, int limit, boolean filterInstances) {
-        final Json lines = Json.array();
-        graqlResultsList.forEach(answer -> {
-            Map<VarPatternAdmin, Boolean> inferredRelationships = buildInferredRelationshipsMap(answer);
-            Map<Var, Representation> mapFromVarNameToHALObject = new HashMap<>();
-            Stream<Map.Entry<Var, Concept>> entriesStream = answer.map().entrySet().stream();
-            // Filter to work only with Instances when building HAL for explanation tree from Reasoner
-            if (filterInstances) entriesStream = entriesStream.filter(entry -> entry.getValue().isThing());
-            entriesStream.forEach(currentMapEntry -> {
-                Concept currentConcept = currentMapEntry.getValue();
-
-                LOG.trace("Building HAL resource for concept with id {}", currentConcept.getId().getValue());
-                Representation currentHal = new HALConceptData(currentConcept, MATCH_QUERY_FIXED_DEGREE, true,
-                        typesAskedInQuery, keyspace, offset, limit).getRepresentation();
-
-
-                // Local map that will allow us to fetch HAL representation of RolePlayers when populating _embedded of the generated relationship (in loopThroughRelationships)
-                mapFromVarNameToHALObject.put(currentMapEntry.getKey(), currentHal);
-
-                Json jsonRepresentation = Json.read(currentHal.toString(RepresentationFactory.HAL_JSON));
-                // If current concept is a relationship obtained with inference (and we are not building an explanation response) override Explore URL and BaseType
-                if(!answer.getExplanation().isEmpty() && currentConcept.isRelationship() && !filterInstances){
-                    jsonRepresentation.set(BASETYPE_PROPERTY, INFERRED_RELATIONSHIP);
-                    jsonRepresentation.at(LINKS_PROPERTY).set("self",Json.object().set("href", computeHrefInferred(currentConcept, keyspace, limit)));
-                }
+    private static List<Json> buildHALRepresentations(Answer answer, Set<Label> typesAskedInQuery, Map<VarPatternAdmin, Pair<Map<Var, String>, String>> roleTypes, Keyspace keyspace, int offset, int limit, boolean filterInstances) {
+        final List<Json> lines = new ArrayList<>();
+        Map<VarPatternAdmin, Boolean> inferredRelationships = buildInferredRelationshipsMap(answer);
+        Map<Var, Representation> mapFromVarNameToHALObject = new HashMap<>();
+        Stream<Map.Entry<Var, Concept>> entriesStream = answer.map().entrySet().stream();
+        // Filter to work only with Instances when building HAL for explanation tree from Reasoner
+        if (filterInstances) entriesStream = entriesStream.filter(entry -> entry.getValue().isThing());
+        entriesStream.forEach(currentMapEntry -> {
+            Concept currentConcept = currentMapEntry.getValue();
+
+            LOG.trace("Building HAL resource for concept with id {}", currentConcept.getId().getValue());
+            Representation currentHal = new HALConceptData(currentConcept, MATCH_QUERY_FIXED_DEGREE, true,
+                    typesAskedInQuery, keyspace, offset, limit).getRepresentation();
+
+
+            // Local map that will allow us to fetch HAL representation of RolePlayers when populating _embedded of the generated relationship (in loopThroughRelationships)
+            mapFromVarNameToHALObject.put(currentMapEntry.getKey(), currentHal);
+
+            Json jsonRepresentation = Json.read(currentHal.toString(RepresentationFactory.HAL_JSON));
+            // If current concept is a relationship obtained with inference (and we are not building an explanation response) override Explore URL and BaseType
+            if(!answer.getExplanation().isEmpty() && currentConcept.isRelationship() && !filterInstances){
+                jsonRepresentation.set(BASETYPE_PROPERTY, INFERRED_RELATIONSHIP);
+                jsonRepresentation.at(LINKS_PROPERTY).set("self",Json.object().set("href", computeHrefInferred(currentConcept, keyspace, limit)));
+            }
 
-                lines.add(jsonRepresentation);
-            });
-            // All the variables of current map have an HAL representation. Add _direction OUT
-            mapFromVarNameToHALObject.values().forEach(hal -> hal.withProperty(DIRECTION_PROPERTY, OUTBOUND_EDGE));
-            // Check if we need also to generate a "generated-relationship" and embed in it all its role players' HAL representations
-            loopThroughRelationships(roleTypes, mapFromVarNameToHALObject, answer.map(), keyspace, limit, inferredRelationships).forEach(generatedRelationship ->
-                    lines.add(Json.read(generatedRelationship.toString(RepresentationFactory.HAL_JSON))));
+            lines.add(jsonRepresentation);
         });
+        // All the variables of current map have an HAL representation. Add _direction OUT
+        mapFromVarNameToHALObject.values().forEach(hal -> hal.withProperty(DIRECTION_PROPERTY, OUTBOUND_EDGE));
+        // Check if we need also to generate a "generated-relationship" and embed in it all its role players' HAL representations
+        loopThroughRelationships(roleTypes, mapFromVarNameToHALObject, answer.map(), keyspace, limit, inferredRelationships).forEach(generatedRelationship ->
+                lines.add(Json.read(generatedRelationship.toString(RepresentationFactory.HAL_JSON))));
         return lines;
     }
 
@@ -23,11 +23,16 @@ import ai.grakn.concept.SchemaConcept;
 import ai.grakn.graql.Printer;
 import ai.grakn.graql.Var;
 import ai.grakn.util.CommonUtil;
+import ai.grakn.util.REST;
 import mjson.Json;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 import static mjson.Json.nil;
@@ -64,6 +69,28 @@ class JsonPrinter implements Printer<Json> {
         return json;
     }
 
+    @Override
+    public final void write(Writer writer, Stream<?> stream) throws IOException {
+        Iterator<?> iterator = stream.iterator();
+        boolean first = true;
+        writer.write("[");
+        try {
+            while (iterator.hasNext()) {
+                String element = build(graqlString(false, iterator.next()));
+                if (!first) writer.write(",");
+                writer.write(element);
+                first = false;
+            }
+        } catch (RuntimeException e) {
+            // The array is still closed, with the failure as its last element
+            if (!first) writer.write(",");
+            writer.write(Json.object(REST.Response.EXCEPTION, e.getMessage()).toString());
+            writer.write("]");
+            throw e;
+        }
+        writer.write("]");
+    }
+
     @Override
     public final Json graqlString(boolean inner, boolean bool) {
         return Json.make(bool);
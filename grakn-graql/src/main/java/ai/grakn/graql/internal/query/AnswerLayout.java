@@ -0,0 +1,77 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query;
+
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Collection;
+
+/**
+ * <p>
+ * The slot of each variable in the answers of a single query.
+ * </p>
+ *
+ * <p>
+ * A layout is shared by all the {@link Answer}s of a query, so each answer only holds its concepts in an array
+ * indexed by slot rather than a map of its own.
+ * </p>
+ *
+ * @author agent
+ */
+public final class AnswerLayout {
+
+    private final Var[] vars;
+    private final ImmutableMap<Var, Integer> slots;
+
+    public AnswerLayout(Collection<Var> vars) {
+        this.vars = vars.toArray(new Var[vars.size()]);
+
+        ImmutableMap.Builder<Var, Integer> slots = ImmutableMap.builder();
+        for (int i = 0; i < this.vars.length; i++) {
+            slots.put(this.vars[i], i);
+        }
+        this.slots = slots.build();
+    }
+
+    /**
+     * @return the number of slots in the layout
+     */
+    public int size() {
+        return vars.length;
+    }
+
+    /**
+     * @param slot a slot of the layout
+     * @return the variable held in the slot
+     */
+    public Var var(int slot) {
+        return vars[slot];
+    }
+
+    /**
+     * @param var a variable
+     * @return the slot of the variable, or -1 if the variable is not part of the layout
+     */
+    public int slotOf(Object var) {
+        Integer slot = slots.get(var);
+        return slot == null ? -1 : slot;
+    }
+}
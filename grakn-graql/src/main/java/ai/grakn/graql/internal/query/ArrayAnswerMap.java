@@ -0,0 +1,216 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query;
+
+import ai.grakn.concept.Concept;
+import ai.grakn.graql.Var;
+
+import javax.annotation.Nullable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>
+ * A map of variables to concepts which holds the concepts of the variables of an {@link AnswerLayout} in an array.
+ * Any other variable is held in an overflow map, which is only created when such a variable is added.
+ * </p>
+ */
+class ArrayAnswerMap extends AbstractMap<Var, Concept> {
+
+    private final AnswerLayout layout;
+    private final Concept[] concepts;
+    private int count;
+    private @Nullable Map<Var, Concept> overflow = null;
+
+    /**
+     * @param layout the layout shared with other answers of the same query
+     * @param concepts the concept of each slot of the layout, which will not be copied
+     */
+    ArrayAnswerMap(AnswerLayout layout, Concept[] concepts) {
+        if (concepts.length != layout.size()) {
+            throw new IllegalArgumentException("Expected " + layout.size() + " concepts but found " + concepts.length);
+        }
+        this.layout = layout;
+        this.concepts = concepts;
+        this.count = (int) Arrays.stream(concepts).filter(Objects::nonNull).count();
+    }
+
+    private ArrayAnswerMap(ArrayAnswerMap map) {
+        this.layout = map.layout;
+        this.concepts = map.concepts.clone();
+        this.count = map.count;
+        if (map.overflow != null) this.overflow = new HashMap<>(map.overflow);
+    }
+
+    /**
+     * @return a copy of this map sharing the same layout
+     */
+    ArrayAnswerMap copy() {
+        return new ArrayAnswerMap(this);
+    }
+
+    @Override
+    public int size() {
+        return count + (overflow == null ? 0 : overflow.size());
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int slot = layout.slotOf(key);
+        if (slot >= 0) return concepts[slot] != null;
+        return overflow != null && overflow.containsKey(key);
+    }
+
+    @Override
+    public Concept get(Object key) {
+        int slot = layout.slotOf(key);
+        if (slot >= 0) return concepts[slot];
+        return overflow == null ? null : overflow.get(key);
+    }
+
+    @Override
+    public Concept put(Var key, Concept value) {
+        Objects.requireNonNull(value);
+        int slot = layout.slotOf(key);
+        if (slot < 0) {
+            if (overflow == null) overflow = new HashMap<>();
+            return overflow.put(key, value);
+        }
+
+        Concept previous = concepts[slot];
+        concepts[slot] = value;
+        if (previous == null) count++;
+        return previous;
+    }
+
+    @Override
+    public Concept remove(Object key) {
+        int slot = layout.slotOf(key);
+        if (slot < 0) return overflow == null ? null : overflow.remove(key);
+
+        Concept previous = concepts[slot];
+        concepts[slot] = null;
+        if (previous != null) count--;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(concepts, null);
+        count = 0;
+        overflow = null;
+    }
+
+    @Override
+    public Set<Entry<Var, Concept>> entrySet() {
+        return new AbstractSet<Entry<Var, Concept>>() {
+            @Override
+            public Iterator<Entry<Var, Concept>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return ArrayAnswerMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        // Same as the hash code of any other map with the same entries, without creating the entries
+        int hash = 0;
+        for (int i = 0; i < concepts.length; i++) {
+            if (concepts[i] != null) hash += layout.var(i).hashCode() ^ concepts[i].hashCode();
+        }
+        return overflow == null ? hash : hash + overflow.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        if (o instanceof ArrayAnswerMap) {
+            ArrayAnswerMap other = (ArrayAnswerMap) o;
+            if (other.layout == layout && overflow == null && other.overflow == null) {
+                return Arrays.equals(concepts, other.concepts);
+            }
+        }
+        return super.equals(o);
+    }
+
+    /**
+     * Iterates over the occupied slots of the layout followed by the overflow map
+     */
+    private class EntryIterator implements Iterator<Entry<Var, Concept>> {
+
+        private int slot = nextSlot(0);
+        private @Nullable Iterator<Entry<Var, Concept>> overflowIterator = null;
+        private @Nullable Var last = null;
+
+        private int nextSlot(int from) {
+            int next = from;
+            while (next < concepts.length && concepts[next] == null) next++;
+            return next;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (slot < concepts.length) return true;
+            if (overflowIterator == null) {
+                if (overflow == null) return false;
+                overflowIterator = overflow.entrySet().iterator();
+            }
+            return overflowIterator.hasNext();
+        }
+
+        @Override
+        public Entry<Var, Concept> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            if (slot < concepts.length) {
+                Entry<Var, Concept> entry = new SimpleImmutableEntry<>(layout.var(slot), concepts[slot]);
+                last = entry.getKey();
+                slot = nextSlot(slot + 1);
+                return entry;
+            }
+
+            last = null;
+            return overflowIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (last != null) {
+                ArrayAnswerMap.this.remove(last);
+                last = null;
+            } else if (overflowIterator != null) {
+                overflowIterator.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+    }
+}
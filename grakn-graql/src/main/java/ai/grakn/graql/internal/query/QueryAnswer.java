@@ -36,6 +36,7 @@ import ai.grakn.graql.internal.reasoner.utils.Pair;
 import ai.grakn.graql.internal.reasoner.utils.ReasonerUtils;
 import com.google.common.collect.Sets;
 
+import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -54,23 +55,43 @@ import java.util.stream.Stream;
  * Wrapper for a query result class {@link Answer}.
  * </p>
  *
+ * <p>
+ * Answers built from an {@link AnswerLayout} hold their concepts in an array laid out by the layout, which is shared
+ * with the other answers of the same query. Copies of such answers share the layout too. The explanation of an answer
+ * is only created when it is first needed.
+ * </p>
+ *
  * @author Kasper Piskorski
  *
  */
 public class QueryAnswer implements Answer {
 
-    private final Map<Var, Concept> map = new HashMap<>();
-    private AnswerExplanation explanation = new Explanation();
+    private final Map<Var, Concept> map;
+    private @Nullable AnswerExplanation explanation = null;
 
-    public QueryAnswer(){}
+    public QueryAnswer(){
+        map = new HashMap<>();
+    }
 
     public QueryAnswer(Answer a){
-        map.putAll(a.map());
-        explanation = a.getExplanation();
+        map = copyOf(a.map());
+        explanation = a instanceof QueryAnswer ? ((QueryAnswer) a).explanation : a.getExplanation();
     }
 
     public QueryAnswer(Map<Var, Concept> m){
-        map.putAll(m);
+        map = copyOf(m);
+    }
+
+    /**
+     * @param layout the layout shared by the answers of the query
+     * @param concepts the concept of each slot of the layout, which will be held without being copied
+     */
+    public QueryAnswer(AnswerLayout layout, Concept[] concepts){
+        map = new ArrayAnswerMap(layout, concepts);
+    }
+
+    private static Map<Var, Concept> copyOf(Map<Var, Concept> m){
+        return m instanceof ArrayAnswerMap ? ((ArrayAnswerMap) m).copy() : new HashMap<>(m);
     }
 
     @Override
@@ -157,17 +178,18 @@ public class QueryAnswer implements Answer {
         if(a2.isEmpty()) return this;
         if(this.isEmpty()) return a2;
 
-        AnswerExplanation exp = this.getExplanation();
+        //the copy keeps the explanation of this answer
         Answer merged = new QueryAnswer(this);
         merged.putAll(a2);
 
         if(mergeExplanation) {
-            exp = exp.merge(a2.getExplanation());
+            AnswerExplanation exp = this.getExplanation().merge(a2.getExplanation());
             if(!this.getExplanation().isJoinExplanation()) exp.addAnswer(this);
             if(!a2.getExplanation().isJoinExplanation()) exp.addAnswer(a2);
+            merged.setExplanation(exp);
         }
 
-        return merged.setExplanation(exp);
+        return merged;
     }
 
     @Override
@@ -175,7 +197,7 @@ public class QueryAnswer implements Answer {
 
     @Override
     public Answer explain(AnswerExplanation exp){
-        Set<Answer> answers = explanation.getAnswers();
+        Set<Answer> answers = explanation == null ? Collections.emptySet() : explanation.getAnswers();
         explanation = exp;
         answers.forEach(explanation::addAnswer);
         return this;
@@ -208,7 +230,7 @@ public class QueryAnswer implements Answer {
                 }
             }
         }
-        return unified.setExplanation(this.getExplanation());
+        return unified.setExplanation(explanation);
     }
 
     @Override
@@ -248,7 +270,10 @@ public class QueryAnswer implements Answer {
     }
 
     @Override
-    public AnswerExplanation getExplanation(){ return explanation;}
+    public AnswerExplanation getExplanation(){
+        if (explanation == null) explanation = new Explanation();
+        return explanation;
+    }
 
     @Override
     public QueryAnswer setExplanation(AnswerExplanation e){
@@ -19,6 +19,8 @@
 
 package ai.grakn.graql.internal.query.aggregate;
 
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -26,7 +28,7 @@ import java.util.stream.Stream;
  *
  * @author Felix Chapman
  */
-public class AskAggregate extends AbstractAggregate<Object,Boolean> {
+public class AskAggregate extends CollectingAggregate<Object,Boolean> {
 
     private static final AskAggregate INSTANCE = new AskAggregate();
 
@@ -42,6 +44,11 @@ public class AskAggregate extends AbstractAggregate<Object,Boolean> {
         return stream.findAny().isPresent();
     }
 
+    @Override
+    Collector<Object, ?, Boolean> collector() {
+        return Collectors.reducing(false, result -> true, Boolean::logicalOr);
+    }
+
     @Override
     public String toString() {
         return "ask";
@@ -0,0 +1,67 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.query.aggregate;
+
+import ai.grakn.graql.Aggregate;
+
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An {@link Aggregate} which is computed by a {@link Collector}, one result at a time.
+ *
+ * <p>
+ * Partial results of the collector can be combined, so the aggregate can be applied to a parallel stream, and other
+ * aggregates such as {@link GroupAggregate} can apply it without collecting the results first.
+ * </p>
+ *
+ * @param <T> The input type to the aggregate.
+ * @param <S> The result type of the aggregate.
+ */
+abstract class CollectingAggregate<T, S> extends AbstractAggregate<T, S> {
+
+    /**
+     * @return a collector which computes the result of this aggregate
+     */
+    abstract Collector<T, ?, S> collector();
+
+    @Override
+    public S apply(Stream<? extends T> stream) {
+        return stream.collect(collector());
+    }
+
+    /**
+     * Get a collector for any aggregate. Aggregates which are not computed by a collector are applied to a list of
+     * all the results.
+     *
+     * @param aggregate the aggregate to compute
+     * @param <T> the input type to the aggregate
+     * @param <S> the result type of the aggregate
+     * @return a collector which computes the result of the aggregate
+     */
+    @SuppressWarnings("unchecked")
+    static <T, S> Collector<T, ?, S> collectorOf(Aggregate<? super T, S> aggregate) {
+        if (aggregate instanceof CollectingAggregate) {
+            // Safe, as a collector of any supertype of T can collect T
+            return ((CollectingAggregate<T, S>) aggregate).collector();
+        }
+        return Collectors.collectingAndThen(Collectors.<T>toList(), list -> aggregate.apply(list.stream()));
+    }
+}
@@ -20,17 +20,24 @@ package ai.grakn.graql.internal.query.aggregate;
 
 import ai.grakn.graql.Match;
 
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * Aggregate that counts results of a {@link Match}.
  */
-class CountAggregate extends AbstractAggregate<Object, Long> {
+class CountAggregate extends CollectingAggregate<Object, Long> {
     @Override
     public Long apply(Stream<?> stream) {
         return stream.count();
     }
 
+    @Override
+    Collector<Object, ?, Long> collector() {
+        return Collectors.counting();
+    }
+
     @Override
     public String toString() {
         return "count";
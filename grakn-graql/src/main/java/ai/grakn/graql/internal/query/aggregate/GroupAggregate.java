@@ -28,17 +28,15 @@ import ai.grakn.graql.admin.Answer;
 import javax.annotation.Nonnull;
 import java.util.Map;
 import java.util.stream.Collector;
-import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.collectingAndThen;
+import static ai.grakn.graql.internal.query.aggregate.CollectingAggregate.collectorOf;
 import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toList;
 
 /**
  * Aggregate that groups results of a {@link Match} by variable name, applying an aggregate to each group.
  * @param <T> the type of each group
  */
-class GroupAggregate<T> extends AbstractAggregate<Answer, Map<Concept, T>> {
+class GroupAggregate<T> extends CollectingAggregate<Answer, Map<Concept, T>> {
 
     private final Var varName;
     private final Aggregate<? super Answer, T> innerAggregate;
@@ -49,11 +47,9 @@ class GroupAggregate<T> extends AbstractAggregate<Answer, Map<Concept, T>> {
     }
 
     @Override
-    public Map<Concept, T> apply(Stream<? extends Answer> stream) {
-        Collector<Answer, ?, T> applyAggregate =
-                collectingAndThen(toList(), list -> innerAggregate.apply(list.stream()));
-
-        return stream.collect(groupingBy(this::getConcept, applyAggregate));
+    Collector<Answer, ?, Map<Concept, T>> collector() {
+        // Each group is aggregated as its results arrive, unless the inner aggregate needs all the results at once
+        return groupingBy(this::getConcept, collectorOf(innerAggregate));
     }
 
     private @Nonnull Concept getConcept(Answer result) {
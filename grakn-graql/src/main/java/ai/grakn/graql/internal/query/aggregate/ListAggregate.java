@@ -21,18 +21,18 @@ package ai.grakn.graql.internal.query.aggregate;
 import ai.grakn.graql.Match;
 
 import java.util.List;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * An aggregate that changes {@link Match} results into a list.
  * @param <T> the type of the results of the {@link Match}
  */
-class ListAggregate<T> extends AbstractAggregate<T, List<T>> {
+class ListAggregate<T> extends CollectingAggregate<T, List<T>> {
 
     @Override
-    public List<T> apply(Stream<? extends T> stream) {
-        return stream.collect(Collectors.toList());
+    Collector<T, ?, List<T>> collector() {
+        return Collectors.toList();
     }
 
     @Override
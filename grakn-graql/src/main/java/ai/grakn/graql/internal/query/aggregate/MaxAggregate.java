@@ -23,14 +23,16 @@ import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.stream.Collector;
 
 import static java.util.Comparator.naturalOrder;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.maxBy;
 
 /**
  * Aggregate that finds maximum of a {@link Match}.
  */
-class MaxAggregate<T extends Comparable<T>> extends AbstractAggregate<Answer, Optional<T>> {
+class MaxAggregate<T extends Comparable<T>> extends CollectingAggregate<Answer, Optional<T>> {
 
     private final Var varName;
 
@@ -39,8 +41,8 @@ class MaxAggregate<T extends Comparable<T>> extends AbstractAggregate<Answer, Op
     }
 
     @Override
-    public Optional<T> apply(Stream<? extends Answer> stream) {
-        return stream.map(this::getValue).max(naturalOrder());
+    Collector<Answer, ?, Optional<T>> collector() {
+        return mapping(this::getValue, maxBy(naturalOrder()));
     }
 
     @Override
@@ -18,44 +18,31 @@
 
 package ai.grakn.graql.internal.query.aggregate;
 
-import ai.grakn.graql.Aggregate;
 import ai.grakn.graql.Match;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
-
-import static java.util.stream.Collectors.toList;
+import java.util.stream.Collector;
 
 /**
  * Aggregate that finds mean of a {@link Match}.
  */
-class MeanAggregate extends AbstractAggregate<Answer, Optional<Double>> {
+class MeanAggregate extends CollectingAggregate<Answer, Optional<Double>> {
 
     private final Var varName;
-    private final CountAggregate countAggregate;
-    private final Aggregate<Answer, Number> sumAggregate;
 
     MeanAggregate(Var varName) {
         this.varName = varName;
-        countAggregate = new CountAggregate();
-        sumAggregate = Aggregates.sum(varName);
     }
 
     @Override
-    public Optional<Double> apply(Stream<? extends Answer> stream) {
-        List<? extends Answer> list = stream.collect(toList());
-
-        long count = countAggregate.apply(list.stream());
+    Collector<Answer, ?, Optional<Double>> collector() {
+        return Collector.of(Mean::new, this::add, Mean::combine, Mean::get);
+    }
 
-        if (count == 0) {
-            return Optional.empty();
-        } else {
-            Number sum = sumAggregate.apply(list.stream());
-            return Optional.of(sum.doubleValue() / count);
-        }
+    private void add(Mean mean, Answer result) {
+        mean.add(result.get(varName).<Number>asAttribute().getValue());
     }
 
     @Override
@@ -77,4 +64,33 @@ class MeanAggregate extends AbstractAggregate<Answer, Optional<Double>> {
     public int hashCode() {
         return varName.hashCode();
     }
+
+    /**
+     * The count and sum of the values seen so far. Long values are summed separately so they do not lose precision.
+     */
+    private static class Mean {
+        private long count = 0;
+        private long longSum = 0;
+        private double doubleSum = 0d;
+
+        void add(Number value) {
+            count += 1;
+            if (value instanceof Long) {
+                longSum += value.longValue();
+            } else {
+                doubleSum += value.doubleValue();
+            }
+        }
+
+        Mean combine(Mean other) {
+            count += other.count;
+            longSum += other.longSum;
+            doubleSum += other.doubleSum;
+            return this;
+        }
+
+        Optional<Double> get() {
+            return count == 0 ? Optional.empty() : Optional.of((longSum + doubleSum) / count);
+        }
+    }
 }
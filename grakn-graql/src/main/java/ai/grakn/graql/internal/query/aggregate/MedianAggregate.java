@@ -24,14 +24,16 @@ import ai.grakn.graql.admin.Answer;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.stream.Collector;
 
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
 
 /**
  * Aggregate that finds median of a {@link Match}.
  */
-class MedianAggregate extends AbstractAggregate<Answer, Optional<Number>> {
+class MedianAggregate extends CollectingAggregate<Answer, Optional<Number>> {
 
     private final Var varName;
 
@@ -40,24 +42,76 @@ class MedianAggregate extends AbstractAggregate<Answer, Optional<Number>> {
     }
 
     @Override
-    public Optional<Number> apply(Stream<? extends Answer> stream) {
-        List<Number> results = stream
-                .map(result -> ((Number) result.get(varName).asAttribute().getValue()))
-                .sorted()
-                .collect(toList());
+    Collector<Answer, ?, Optional<Number>> collector() {
+        return collectingAndThen(
+                mapping(result -> (Number) result.get(varName).asAttribute().getValue(), toList()),
+                MedianAggregate::median
+        );
+    }
 
+    private static Optional<Number> median(List<Number> results) {
         int size = results.size();
         int halveFloor = Math.floorDiv(size - 1, 2);
-        int halveCeiling = (int) Math.ceil((size - 1) / 2.0);
 
         if (size == 0) {
             return Optional.empty();
-        } else if (size % 2 == 1) {
+        }
+
+        // Rather than sorting the results, only find the middle results
+        Number[] values = results.toArray(new Number[size]);
+        select(values, halveFloor);
+
+        if (size % 2 == 1) {
             // Take exact middle result
-            return Optional.of(results.get(halveFloor));
+            return Optional.of(values[halveFloor]);
+        } else {
+            // Take average of middle results, where the upper one is the smallest of the results above the lower one
+            Number upper = values[halveFloor + 1];
+            for (int i = halveFloor + 2; i < size; i++) {
+                if (compare(values[i], upper) < 0) upper = values[i];
+            }
+            return Optional.of((values[halveFloor].doubleValue() + upper.doubleValue()) / 2);
+        }
+    }
+
+    /**
+     * Partially sort the values, so the value at index k is the one which would be there if the values were sorted,
+     * with smaller or equal values before it and greater or equal values after it.
+     * https://en.wikipedia.org/wiki/Quickselect
+     */
+    private static void select(Number[] values, int k) {
+        int left = 0;
+        int right = values.length - 1;
+        while (left < right) {
+            Number pivot = values[left + (right - left) / 2];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (compare(values[i], pivot) < 0) i++;
+                while (compare(values[j], pivot) > 0) j--;
+                if (i <= j) {
+                    Number swap = values[i];
+                    values[i] = values[j];
+                    values[j] = swap;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static int compare(Number x, Number y) {
+        if (x instanceof Long && y instanceof Long) {
+            return Long.compare(x.longValue(), y.longValue());
         } else {
-            // Take average of middle results
-            return Optional.of((results.get(halveFloor).doubleValue() + results.get(halveCeiling).doubleValue()) / 2);
+            return Double.compare(x.doubleValue(), y.doubleValue());
         }
     }
 
@@ -25,9 +25,10 @@ import ai.grakn.graql.NamedAggregate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+import static ai.grakn.graql.internal.query.aggregate.CollectingAggregate.collectorOf;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -35,7 +36,7 @@ import static java.util.stream.Collectors.toList;
  * @param <S> the type of the {@link Match} results
  * @param <T> the type of the aggregate results
  */
-class SelectAggregate<S, T> extends AbstractAggregate<S, Map<String, T>> {
+class SelectAggregate<S, T> extends CollectingAggregate<S, Map<String, T>> {
 
     private final ImmutableSet<NamedAggregate<? super S, ? extends T>> aggregates;
 
@@ -44,16 +45,40 @@ class SelectAggregate<S, T> extends AbstractAggregate<S, Map<String, T>> {
     }
 
     @Override
-    public Map<String, T> apply(Stream<? extends S> stream) {
-        List<? extends S> list = stream.collect(toList());
-
-        Map<String, T> map = new HashMap<>();
-
-        for (NamedAggregate<? super S, ? extends T> aggregate : aggregates) {
-            map.put(aggregate.getName(), aggregate.getAggregate().apply(list.stream()));
-        }
+    Collector<S, ?, Map<String, T>> collector() {
+        // All the aggregates are computed in a single pass over the results, each with its own partial result
+        List<String> names = aggregates.stream().map(NamedAggregate::getName).collect(toList());
+        List<Collector<S, Object, T>> collectors = aggregates.stream()
+                .map(aggregate -> SelectAggregate.<S, T>erase(collectorOf(aggregate.getAggregate())))
+                .collect(toList());
+
+        return Collector.of(
+                () -> collectors.stream().map(collector -> collector.supplier().get()).toArray(),
+                (partials, result) -> {
+                    for (int i = 0; i < partials.length; i++) {
+                        collectors.get(i).accumulator().accept(partials[i], result);
+                    }
+                },
+                (partials, others) -> {
+                    for (int i = 0; i < partials.length; i++) {
+                        partials[i] = collectors.get(i).combiner().apply(partials[i], others[i]);
+                    }
+                    return partials;
+                },
+                partials -> {
+                    Map<String, T> map = new HashMap<>();
+                    for (int i = 0; i < partials.length; i++) {
+                        map.put(names.get(i), collectors.get(i).finisher().apply(partials[i]));
+                    }
+                    return map;
+                }
+        );
+    }
 
-        return map;
+    // Safe, as the partial results are only ever passed back to the collector which created them
+    @SuppressWarnings("unchecked")
+    private static <S, T> Collector<S, Object, T> erase(Collector<S, ?, ? extends T> collector) {
+        return (Collector<S, Object, T>) collector;
     }
 
     @Override
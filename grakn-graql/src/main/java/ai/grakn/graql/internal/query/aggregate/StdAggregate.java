@@ -24,14 +24,14 @@ import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.stream.Collector;
 
 import static java.lang.Math.sqrt;
 
 /**
  * Aggregate that finds the unbiased sample standard deviation of a {@link Match}.
  */
-class StdAggregate extends AbstractAggregate<Answer, Optional<Double>> {
+class StdAggregate extends CollectingAggregate<Answer, Optional<Double>> {
 
     private final Var varName;
 
@@ -40,30 +40,12 @@ class StdAggregate extends AbstractAggregate<Answer, Optional<Double>> {
     }
 
     @Override
-    public Optional<Double> apply(Stream<? extends Answer> stream) {
-        Stream<Double> numStream = stream.map(result -> result.get(varName).<Number>asAttribute().getValue().doubleValue());
-
-        Iterable<Double> data = numStream::iterator;
-
-        // Online algorithm to calculate unbiased sample standard deviation
-        // https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#Online_algorithm
-        long n = 0;
-        double mean = 0d;
-        double M2 = 0d;
-
-        for (double x : data) {
-            n += 1;
-            double delta = x - mean;
-            mean += delta / (double) n;
-            double delta2 = x - mean;
-            M2 += delta*delta2;
-        }
+    Collector<Answer, ?, Optional<Double>> collector() {
+        return Collector.of(Variance::new, this::add, Variance::combine, Variance::std);
+    }
 
-        if (n < 2) {
-            return Optional.empty();
-        } else {
-            return Optional.of(sqrt(M2 / (double) (n - 1)));
-        }
+    private void add(Variance variance, Answer result) {
+        variance.add(result.get(varName).<Number>asAttribute().getValue().doubleValue());
     }
 
     @Override
@@ -85,4 +67,44 @@ class StdAggregate extends AbstractAggregate<Answer, Optional<Double>> {
     public int hashCode() {
         return varName.hashCode();
     }
+
+    /**
+     * Online algorithm to calculate unbiased sample standard deviation, extended to combine the results of two parts
+     * of the data
+     * https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#Online_algorithm
+     * https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#Parallel_algorithm
+     */
+    private static class Variance {
+        private long n = 0;
+        private double mean = 0d;
+        private double M2 = 0d;
+
+        void add(double x) {
+            n += 1;
+            double delta = x - mean;
+            mean += delta / (double) n;
+            double delta2 = x - mean;
+            M2 += delta*delta2;
+        }
+
+        Variance combine(Variance other) {
+            if (other.n == 0) return this;
+            if (n == 0) return other;
+
+            long combinedN = n + other.n;
+            double delta = other.mean - mean;
+            mean += delta * other.n / (double) combinedN;
+            M2 += other.M2 + delta * delta * n * other.n / (double) combinedN;
+            n = combinedN;
+            return this;
+        }
+
+        Optional<Double> std() {
+            if (n < 2) {
+                return Optional.empty();
+            } else {
+                return Optional.of(sqrt(M2 / (double) (n - 1)));
+            }
+        }
+    }
 }
@@ -22,12 +22,13 @@ import ai.grakn.graql.Match;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 
-import java.util.stream.Stream;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 /**
  * Aggregate that sums results of a {@link Match}.
  */
-class SumAggregate extends AbstractAggregate<Answer, Number> {
+class SumAggregate extends CollectingAggregate<Answer, Number> {
 
     private final Var varName;
 
@@ -36,8 +37,8 @@ class SumAggregate extends AbstractAggregate<Answer, Number> {
     }
 
     @Override
-    public Number apply(Stream<? extends Answer> stream) {
-        return stream.map(result -> (Number) result.get(varName).asAttribute().getValue()).reduce(0, this::add);
+    Collector<Answer, ?, Number> collector() {
+        return Collectors.reducing(0, result -> (Number) result.get(varName).asAttribute().getValue(), this::add);
     }
 
     private Number add(Number x, Number y) {
@@ -65,6 +65,17 @@ abstract class AbstractMatch implements MatchAdmin {
      */
     public abstract Stream<Answer> stream(Optional<GraknTx> graph);
 
+    /**
+     * Execute the query using the given graph, keeping only the first results.
+     * Modifiers which can do less work when only the first results are needed should override this.
+     * @param graph the graph to use to execute the query
+     * @param limit the maximum number of results to return
+     * @return a stream of at most {@code limit} results
+     */
+    Stream<Answer> stream(Optional<GraknTx> graph, long limit) {
+        return stream(graph).limit(limit);
+    }
+
     @Override
     public final Stream<Answer> stream() {
         return stream(Optional.empty());
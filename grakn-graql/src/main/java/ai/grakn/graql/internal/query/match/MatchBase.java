@@ -31,9 +31,14 @@ import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.internal.gremlin.GraqlTraversal;
 import ai.grakn.graql.internal.gremlin.GreedyTraversalPlan;
 import ai.grakn.graql.internal.pattern.property.VarPropertyInternal;
+import ai.grakn.graql.internal.query.AnswerLayout;
 import ai.grakn.graql.internal.query.QueryAnswer;
 import ai.grakn.kb.admin.GraknAdmin;
 import ai.grakn.util.CommonUtil;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
@@ -41,11 +46,12 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.joining;
@@ -60,6 +66,8 @@ public class MatchBase extends AbstractMatch {
 
     protected final Logger LOG = LoggerFactory.getLogger(MatchBase.class);
 
+    private static final HashFunction FINGERPRINT = Hashing.murmur3_128();
+
     private final Conjunction<PatternAdmin> pattern;
 
     /**
@@ -95,12 +103,14 @@ public class MatchBase extends AbstractMatch {
             traversal.select(selectedNames[0], selectedNames[0], selectedNames);
         }
 
-        return traversal.toStream()
-                .map(elements -> makeResults(graph, elements))
+        AnswerLayout layout = new AnswerLayout(pattern.commonVars());
+
+        Stream<Answer> answers = traversal.toStream()
+                .map(elements -> makeResults(graph, layout, elements))
                 .flatMap(CommonUtil::optionalToStream)
-                .distinct()
-                .sequential()
-                .map(QueryAnswer::new);
+                .sequential();
+
+        return graqlTraversal.hasDistinctResults(pattern.commonVars()) ? answers : answers.filter(firstSeen(layout));
     }
 
     @Override
@@ -144,19 +154,41 @@ public class MatchBase extends AbstractMatch {
 
     /**
      * @param graph the graph to get results from
+     * @param layout the layout shared by all answers of the query
      * @param elements a map of vertices and edges where the key is the variable name
-     * @return a map of concepts where the key is the variable name
+     * @return an answer holding the concept of each variable in the layout
      */
-    private Optional<Map<Var, Concept>> makeResults(GraknTx graph, Map<String, Element> elements) {
-        Map<Var, Concept> map = new HashMap<>();
-        for (Var var : pattern.commonVars()) {
-            Optional<Concept> concept = buildConcept(graph.admin(), elements.get(var.getValue()));
+    private Optional<Answer> makeResults(GraknTx graph, AnswerLayout layout, Map<String, Element> elements) {
+        Concept[] concepts = new Concept[layout.size()];
+        for (int i = 0; i < concepts.length; i++) {
+            Optional<Concept> concept = buildConcept(graph.admin(), elements.get(layout.var(i).getValue()));
 
             if(!concept.isPresent()) return Optional.empty();
-            map.put(var, concept.get());
+            concepts[i] = concept.get();
         }
 
-        return Optional.of(map);
+        return Optional.of(new QueryAnswer(layout, concepts));
+    }
+
+    /**
+     * A filter removing duplicate answers from a sequential stream. Rather than the answers themselves, it keeps a
+     * 128-bit fingerprint of the concepts of each answer, so the memory used does not depend on the size of the
+     * answers or on the concepts they hold. The chance of two different answers having the same fingerprint is
+     * negligible.
+     *
+     * @param layout the layout shared by all answers of the query
+     * @return a filter which only accepts answers it has not seen before
+     */
+    private static Predicate<Answer> firstSeen(AnswerLayout layout) {
+        Set<HashCode> seen = new HashSet<>();
+        return answer -> {
+            Hasher hasher = FINGERPRINT.newHasher();
+            for (int i = 0; i < layout.size(); i++) {
+                String id = answer.get(layout.var(i)).getId().getValue();
+                hasher.putInt(id.length()).putUnencodedChars(id);
+            }
+            return seen.add(hasher.hash());
+        };
     }
 
     private Optional<Concept> buildConcept(GraknAdmin graph, Element element) {
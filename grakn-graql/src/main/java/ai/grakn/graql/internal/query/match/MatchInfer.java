@@ -25,11 +25,13 @@ import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.Conjunction;
 import ai.grakn.graql.admin.ReasonerQuery;
 import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.reasoner.ParallelResolution;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
 import ai.grakn.graql.internal.reasoner.rule.RuleUtil;
 
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static ai.grakn.util.CommonUtil.optionalOr;
@@ -52,7 +54,11 @@ class MatchInfer extends MatchModifier {
 
         if (!RuleUtil.hasRules(graph)) return inner.stream(optionalGraph);
 
-        Iterator<Conjunction<VarPatternAdmin>> conjIt = getPattern().getDisjunctiveNormalForm().getPatterns().iterator();
+        Set<Conjunction<VarPatternAdmin>> conjunctions = getPattern().getDisjunctiveNormalForm().getPatterns();
+        Optional<Stream<Answer>> parallelStream = ParallelResolution.resolve(conjunctions, graph, materialise);
+        if (parallelStream.isPresent()) return parallelStream.get().map(result -> result.project(getSelectedNames()));
+
+        Iterator<Conjunction<VarPatternAdmin>> conjIt = conjunctions.iterator();
         Conjunction<VarPatternAdmin> conj = conjIt.next();
         ReasonerQuery conjQuery = ReasonerQueries.create(conj, graph);
         Stream<Answer> answerStream = conjQuery.isRuleResolvable()? conjQuery.resolve(materialise) : graph.graql().match(conj).stream();
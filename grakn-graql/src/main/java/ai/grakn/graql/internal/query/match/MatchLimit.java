@@ -42,7 +42,12 @@ class MatchLimit extends MatchModifier {
 
     @Override
     public Stream<Answer> stream(Optional<GraknTx> graph) {
-        return inner.stream(graph).limit(limit);
+        return inner.stream(graph, limit);
+    }
+
+    @Override
+    Stream<Answer> stream(Optional<GraknTx> graph, long limit) {
+        return inner.stream(graph, Math.min(this.limit, limit));
     }
 
     @Override
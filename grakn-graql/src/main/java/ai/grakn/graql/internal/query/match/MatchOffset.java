@@ -45,6 +45,12 @@ class MatchOffset extends MatchModifier {
         return inner.stream(graph).skip(offset);
     }
 
+    @Override
+    Stream<Answer> stream(Optional<GraknTx> graph, long limit) {
+        long innerLimit = limit > Long.MAX_VALUE - offset ? Long.MAX_VALUE : offset + limit;
+        return inner.stream(graph, innerLimit).skip(offset);
+    }
+
     @Override
     protected String modifierString() {
         return " offset " + offset + ";";
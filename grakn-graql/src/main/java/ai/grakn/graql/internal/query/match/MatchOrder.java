@@ -41,6 +41,11 @@ class MatchOrder extends MatchModifier {
         return order.orderStream(inner.stream(graph));
     }
 
+    @Override
+    Stream<Answer> stream(Optional<GraknTx> graph, long limit) {
+        return order.orderStream(inner.stream(graph), limit);
+    }
+
     @Override
     protected String modifierString() {
         return " " + order.toString() + ";";
@@ -48,6 +48,15 @@ class MatchTx extends MatchModifier {
         return inner.stream(Optional.of(this.tx));
     }
 
+    @Override
+    Stream<Answer> stream(Optional<GraknTx> graph, long limit) {
+        if (graph.isPresent()) {
+            throw GraqlQueryException.multipleTxs();
+        }
+
+        return inner.stream(Optional.of(this.tx), limit);
+    }
+
     @Override
     public Optional<GraknTx> tx() {
         return Optional.of(tx);
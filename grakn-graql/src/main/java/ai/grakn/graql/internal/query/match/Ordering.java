@@ -25,6 +25,8 @@ import ai.grakn.graql.admin.Answer;
 import com.google.auto.value.AutoValue;
 
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.PriorityQueue;
 import java.util.stream.Stream;
 
 /**
@@ -35,6 +37,9 @@ import java.util.stream.Stream;
 @AutoValue
 abstract class Ordering {
 
+    // Above this limit the results are sorted as a whole rather than kept in a bounded queue
+    private static final long MAX_BOUNDED_LIMIT = 100_000;
+
     abstract Var var();
     abstract Order order();
 
@@ -50,6 +55,31 @@ abstract class Ordering {
         return stream.sorted(comparator());
     }
 
+    /**
+     * Order the stream, keeping only the first results. Only the best results seen so far are held in memory,
+     * rather than the whole stream.
+     * @param stream the stream to order
+     * @param limit the maximum number of results to return
+     */
+    Stream<Answer> orderStream(Stream<Answer> stream, long limit) {
+        if (limit >= MAX_BOUNDED_LIMIT) return orderStream(stream).limit(limit);
+
+        // Sorting is stable, so of two equal results the one seen first is ordered first
+        Comparator<Ranked> rankOrder = Comparator.<Ranked, Answer>comparing(ranked -> ranked.answer, comparator())
+                .thenComparingLong(ranked -> ranked.position);
+
+        // Evaluated only once the stream is consumed, like a sorted stream
+        return Stream.of(stream).flatMap(answers -> {
+            PriorityQueue<Ranked> best = new PriorityQueue<>(rankOrder.reversed());
+            Iterator<Answer> iterator = answers.iterator();
+            for (long position = 0; iterator.hasNext(); position++) {
+                best.add(new Ranked(iterator.next(), position));
+                if (best.size() > limit) best.poll();
+            }
+            return best.stream().sorted(rankOrder).map(ranked -> ranked.answer);
+        });
+    }
+
     private Comparator<Answer> comparator() {
         Comparator<Answer> comparator = Comparator.comparing(this::getOrderValue);
         return (order() == Order.desc) ? comparator.reversed() : comparator;
@@ -65,4 +95,17 @@ abstract class Ordering {
     public String toString() {
         return "order by " + var() + " ";
     }
+
+    /**
+     * A result together with its position in the unordered stream
+     */
+    private static class Ranked {
+        final Answer answer;
+        final long position;
+
+        Ranked(Answer answer, long position) {
+            this.answer = answer;
+            this.position = position;
+        }
+    }
 }
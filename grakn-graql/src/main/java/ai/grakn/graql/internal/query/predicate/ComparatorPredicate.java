@@ -130,6 +130,20 @@ abstract class ComparatorPredicate implements ValuePredicate {
         return value != null ? value.hashCode() : 0;
     }
 
+    /**
+     * @return whether this predicate compares values by their order
+     */
+    boolean comparesByOrder() {
+        return false;
+    }
+
+    @Override
+    public boolean isRange() {
+        if (!comparesByOrder() || !originalValue.isPresent()) return false;
+        AttributeType.DataType<?> dataType = SUPPORTED_TYPES.get(originalValue.get().getClass().getTypeName());
+        return Schema.EdgeProperty.ofValue(dataType.getVertexProperty()).isPresent();
+    }
+
     @Override
     public Optional<P<Object>> getPredicate() {
         return value.map(this::gremlinPredicate);
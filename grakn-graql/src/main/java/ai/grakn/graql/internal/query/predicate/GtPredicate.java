@@ -29,6 +29,11 @@ class GtPredicate extends ComparatorPredicate {
         super(value);
     }
 
+    @Override
+    boolean comparesByOrder() {
+        return true;
+    }
+
     @Override
     protected String getSymbol() {
         return ">";
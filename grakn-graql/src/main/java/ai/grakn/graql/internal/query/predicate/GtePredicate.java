@@ -29,6 +29,11 @@ class GtePredicate extends ComparatorPredicate {
         super(value);
     }
 
+    @Override
+    boolean comparesByOrder() {
+        return true;
+    }
+
     @Override
     protected String getSymbol() {
         return ">=";
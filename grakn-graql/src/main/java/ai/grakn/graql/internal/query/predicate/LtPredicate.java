@@ -29,6 +29,11 @@ class LtPredicate extends ComparatorPredicate {
         super(value);
     }
 
+    @Override
+    boolean comparesByOrder() {
+        return true;
+    }
+
     @Override
     protected String getSymbol() {
         return "<";
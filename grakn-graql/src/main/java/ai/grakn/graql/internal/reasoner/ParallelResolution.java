@@ -0,0 +1,216 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.reasoner;
+
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.Conjunction;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.pattern.Patterns;
+import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
+import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
+import com.google.common.collect.ImmutableMap;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * <p>
+ * Resolves the parts of a query which no rule applies to concurrently with the rest of the query.
+ * </p>
+ *
+ * <p>
+ * Every disjunct of the query is split into the parts which share no variables. Each part which no rule applies to
+ * is resolved on a thread of a shared {@link ForkJoinPool} in its own read transaction of the graph. Its answers are
+ * held by {@link ConceptId} and rebuilt in the transaction of the query when they are merged. The parts which rules
+ * apply to are resolved in the transaction of the query on the calling thread, as resolving them writes the inferred
+ * answers to that transaction. The answers of a disjunct are the product of the answers of its parts, and the
+ * answers of the query are the answers of each disjunct in turn.
+ * </p>
+ *
+ * <p>
+ * As the other transactions cannot see the uncommitted changes of the transaction of the query, queries are only
+ * resolved concurrently if the transaction has no uncommitted changes.
+ * </p>
+ *
+ * @author agent
+ */
+public class ParallelResolution {
+
+    private static volatile ForkJoinPool pool = null;
+
+    private ParallelResolution() {
+    }
+
+    /**
+     * @param parallelism the number of threads to resolve queries with, concurrent resolution is disabled if this is
+     *                    not greater than one
+     */
+    public static synchronized void setParallelism(int parallelism) {
+        if (pool != null) pool.shutdown();
+        pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+    }
+
+    /**
+     * Disables concurrent resolution and stops the threads resolving queries
+     */
+    public static void shutdown() {
+        setParallelism(0);
+    }
+
+    /**
+     * Resolve the disjunction of the given conjunctions, with the parts no rule applies to resolved concurrently
+     *
+     * @param conjunctions the disjuncts of the query
+     * @param tx the transaction of the query
+     * @param materialise whether inferred answers should be materialised
+     * @return the answers to the query, or nothing if no part of the query can be resolved concurrently
+     */
+    public static Optional<Stream<Answer>> resolve(Collection<Conjunction<VarPatternAdmin>> conjunctions,
+                                                   GraknTx tx, boolean materialise) {
+        ForkJoinPool executor = pool;
+        if (executor == null || tx.admin().hasUncommittedChanges()) return Optional.empty();
+
+        List<List<Conjunction<VarPatternAdmin>>> disjuncts = conjunctions.stream()
+                .map(ParallelResolution::components)
+                .collect(toList());
+        if (disjuncts.stream().mapToInt(List::size).sum() < 2) return Optional.empty();
+
+        //Parts without rules start straight away, parts with rules are resolved when their disjunct is reached
+        boolean hasRuleFreePart = false;
+        List<List<Supplier<List<Answer>>>> branches = new ArrayList<>();
+        for (List<Conjunction<VarPatternAdmin>> components : disjuncts) {
+            List<Supplier<List<Answer>>> branch = new ArrayList<>();
+            for (Conjunction<VarPatternAdmin> component : components) {
+                ReasonerQueryImpl query = ReasonerQueries.create(component, tx);
+                if (query.isRuleResolvable()) {
+                    branch.add(() -> query.resolve(materialise).collect(toList()));
+                } else {
+                    hasRuleFreePart = true;
+                    branch.add(submit(component, tx, executor));
+                }
+            }
+            branches.add(branch);
+        }
+        if (!hasRuleFreePart) return Optional.empty();
+
+        return Optional.of(branches.stream().flatMap(ParallelResolution::product));
+    }
+
+    /**
+     * Split a conjunction into the parts which share no variables with each other
+     */
+    private static List<Conjunction<VarPatternAdmin>> components(Conjunction<VarPatternAdmin> conjunction) {
+        List<Set<Var>> componentVars = new ArrayList<>();
+        List<Set<VarPatternAdmin>> components = new ArrayList<>();
+
+        for (VarPatternAdmin pattern : conjunction.getPatterns()) {
+            Set<Var> vars = new HashSet<>(pattern.commonVars());
+            Set<VarPatternAdmin> patterns = new HashSet<>();
+            patterns.add(pattern);
+
+            for (int i = components.size() - 1; i >= 0; i--) {
+                if (!vars.isEmpty() && vars.stream().anyMatch(componentVars.get(i)::contains)) {
+                    vars.addAll(componentVars.remove(i));
+                    patterns.addAll(components.remove(i));
+                }
+            }
+
+            componentVars.add(vars);
+            components.add(patterns);
+        }
+
+        return components.stream().map(Patterns::conjunction).collect(toList());
+    }
+
+    private static Supplier<List<Answer>> submit(Conjunction<VarPatternAdmin> conjunction, GraknTx tx,
+                                                 ForkJoinPool executor) {
+        CompletableFuture<List<Map<Var, ConceptId>>> answers =
+                CompletableFuture.supplyAsync(() -> resolveInOwnTx(conjunction, tx), executor);
+        return () -> join(answers).stream().map(ids -> rebuild(ids, tx)).filter(Objects::nonNull).collect(toList());
+    }
+
+    private static List<Map<Var, ConceptId>> resolveInOwnTx(Conjunction<VarPatternAdmin> conjunction, GraknTx tx) {
+        tx.admin().openTransaction(GraknTxType.READ);
+        try {
+            return tx.graql().match(conjunction).stream().map(ParallelResolution::ids).collect(toList());
+        } finally {
+            tx.close();
+        }
+    }
+
+    private static Map<Var, ConceptId> ids(Answer answer) {
+        ImmutableMap.Builder<Var, ConceptId> ids = ImmutableMap.builder();
+        answer.map().forEach((var, concept) -> ids.put(var, concept.getId()));
+        return ids.build();
+    }
+
+    /**
+     * @return the product of the answers of the parts of a disjunct
+     */
+    private static Stream<Answer> product(List<Supplier<List<Answer>>> components) {
+        Stream<Answer> answers = Stream.of(new QueryAnswer());
+        for (Supplier<List<Answer>> component : components) {
+            List<Answer> componentAnswers = component.get();
+            answers = answers.flatMap(partial -> componentAnswers.stream().map(answer -> partial.merge(answer, true)));
+        }
+        return answers;
+    }
+
+    @Nullable
+    private static Answer rebuild(Map<Var, ConceptId> ids, GraknTx tx) {
+        Map<Var, Concept> concepts = new HashMap<>();
+        for (Map.Entry<Var, ConceptId> id : ids.entrySet()) {
+            Concept concept = tx.getConcept(id.getValue());
+            // The concept was deleted by a commit made while the query was being resolved
+            if (concept == null) return null;
+            concepts.put(id.getKey(), concept);
+        }
+        return new QueryAnswer(concepts);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+}
@@ -39,6 +39,12 @@ import java.util.Stack;
  * Iterator for query answers maintaining the iterative behaviour of the QSQ scheme.
  * </p>
  *
+ * <p>
+ * Iterations are semi-naive: after each iteration the {@link QueryCache} computes which subgoals gained answers, and
+ * the next iteration only resolves again the subgoals which depend on them. The remaining subgoals are answered from
+ * the cache.
+ * </p>
+ *
  * @author Kasper Piskorski
  *
  */
@@ -99,7 +105,8 @@ public class ResolutionIterator extends ReasonerQueryIterator {
         //iter finished
         if (reiterationRequired) {
             long dAns = answers.size() - oldAns;
-            if (dAns != 0 || iter == 0) {
+            boolean subGoalsChanged = cache.nextIteration();
+            if (dAns != 0 || iter == 0 || subGoalsChanged) {
                 LOG.debug("iter: " + iter + " answers: " + answers.size() + " dAns = " + dAns);
                 iter++;
                 states.push(query.subGoal(new QueryAnswer(), new UnifierImpl(), null, new HashSet<>(), cache));
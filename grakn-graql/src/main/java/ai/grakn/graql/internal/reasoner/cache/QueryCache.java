@@ -18,6 +18,8 @@
 
 package ai.grakn.graql.internal.reasoner.cache;
 
+import ai.grakn.concept.Concept;
+import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.Unifier;
 import ai.grakn.graql.internal.query.QueryAnswer;
@@ -28,8 +30,12 @@ import ai.grakn.graql.internal.reasoner.UnifierImpl;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
 import ai.grakn.graql.internal.reasoner.utils.Pair;
+import com.google.common.collect.Maps;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -40,6 +46,13 @@ import java.util.stream.Stream;
  * Container class for storing performed query resolutions.
  * </p>
  *
+ * <p>
+ * When a query is resolved iteratively, the cache also keeps track of which queries gained answers in the previous
+ * iteration (the delta) and which queries were reached when resolving each query via rules. A query which was
+ * resolved before, and for which neither the query nor any of the queries it depends on is in the delta, cannot
+ * produce new answers, so its cached answers can be used without resolving its rules again.
+ * </p>
+ *
  * @param <Q> the type of query that is being cached
  *
  * @author Kasper Piskorski
@@ -47,6 +60,15 @@ import java.util.stream.Stream;
  */
 public class QueryCache<Q extends ReasonerQueryImpl> extends Cache<Q, QueryAnswers> {
 
+    //queries resolved via rules, mapped to the queries which were reached when resolving them
+    private final Map<Q, Set<Q>> resolutionDependencies = new HashMap<>();
+
+    //number of answers of each query at the start of the current iteration
+    private Map<Q, Integer> iterationAnswerCounts = new HashMap<>();
+
+    //queries which gained answers in the previous iteration
+    private Set<Q> delta = new HashSet<>();
+
     public QueryCache(){ super();}
 
     @Override
@@ -177,8 +199,9 @@ public class QueryCache<Q extends ReasonerQueryImpl> extends Cache<Q, QueryAnswe
         if (match != null) {
             Q equivalentQuery = match.getKey();
             Unifier unifier = equivalentQuery.getUnifier(query);
-            QueryAnswers answers =  match.getValue().unify(unifier);
-            Answer answer = answers.stream()
+            //look the answer up in terms of the cached query so the cached answers do not need to be unified
+            Answer answer = match.getValue().containing(ans.unify(unifier.inverse()))
+                    .map(a -> a.unify(unifier))
                     .filter(a -> a.containsAll(ans))
                     .findFirst().orElse(null);
             if (answer != null) return answer;
@@ -189,6 +212,75 @@ public class QueryCache<Q extends ReasonerQueryImpl> extends Cache<Q, QueryAnswe
         return answers.isEmpty()? new QueryAnswer() : answers.iterator().next();
     }
 
+    /**
+     * Uses the index of the cached answers when the query is cached under the same variables. The result is a copy,
+     * because the callers join against it lazily while answers are still being recorded in the cache.
+     */
+    @Override
+    public Map<Pair<Var, Concept>, Set<Answer>> getInverseAnswerMap(Q query, Set<Var> vars){
+        Pair<Q, QueryAnswers> match =  this.get(query);
+        if (match == null || !isIdentity(match.getKey().getUnifier(query))) {
+            return super.getInverseAnswerMap(query, vars);
+        }
+        return new HashMap<>(Maps.filterKeys(match.getValue().inverseAnswerMap(), key -> vars.contains(key.getKey())));
+    }
+
+    private static boolean isIdentity(Unifier unifier){
+        return unifier.mappings().stream().allMatch(mapping -> mapping.getKey().equals(mapping.getValue()));
+    }
+
+    /**
+     * record that a query is being resolved via rules
+     * @param query being resolved
+     */
+    public void recordResolution(Q query){
+        resolutionDependencies.computeIfAbsent(query, q -> new HashSet<>());
+    }
+
+    /**
+     * record that a query was reached when resolving another query via rules
+     * @param query being resolved
+     * @param dependency query reached when resolving the query
+     */
+    public void recordDependency(Q query, Q dependency){
+        resolutionDependencies.computeIfAbsent(query, q -> new HashSet<>()).add(dependency);
+    }
+
+    /**
+     * @param query to be checked
+     * @return true if the query has been resolved via rules before and no answers it depends on were found since
+     */
+    public boolean isComplete(Q query){
+        Set<Q> dependencies = resolutionDependencies.get(query);
+        return dependencies != null
+                && !delta.contains(query)
+                && dependencies.stream().noneMatch(delta::contains);
+    }
+
+    /**
+     * finish the current iteration and compute its delta - the queries which gained answers during the iteration
+     * @return true if any query gained answers during the iteration
+     */
+    public boolean nextIteration(){
+        Map<Q, Integer> answerCounts = new HashMap<>();
+        entries().forEach(entry -> answerCounts.put(entry.getKey(), entry.getValue().size()));
+
+        delta = answerCounts.entrySet().stream()
+                .filter(entry -> !entry.getValue().equals(iterationAnswerCounts.get(entry.getKey())))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        iterationAnswerCounts = answerCounts;
+        return !delta.isEmpty();
+    }
+
+    @Override
+    public void clear(){
+        super.clear();
+        resolutionDependencies.clear();
+        iterationAnswerCounts.clear();
+        delta.clear();
+    }
+
     @Override
     public void remove(Cache<Q, QueryAnswers> c2, Set<Q> queries) {
         c2.getQueries().stream()
@@ -18,15 +18,20 @@
 
 package ai.grakn.graql.internal.reasoner.query;
 
+import ai.grakn.concept.Concept;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.ReasonerQuery;
 import ai.grakn.graql.admin.Unifier;
 import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.graql.internal.reasoner.utils.Pair;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -35,6 +40,12 @@ import java.util.stream.Stream;
  *
  * <p>
  * Wrapper class for a set of {@link Answer} objects providing higher level facilities.
+ * </p>
+ *
+ * <p>
+ * Answers can be looked up by a partial answer. The first lookup indexes the answers by each of their variable-concept
+ * pairs, after which the index is kept up to date as answers are added and removed.
+ * </p>
  *
  * @author Kasper Piskorski
  *
@@ -44,6 +55,7 @@ public class QueryAnswers implements Iterable<Answer>{
     private static final long serialVersionUID = -8092703897236995422L;
 
     private final HashSet<Answer> set = new HashSet<>();
+    private Map<Pair<Var, Concept>, Set<Answer>> index = null;
 
     @Override
     public Iterator<Answer> iterator() { return set.iterator();}
@@ -66,16 +78,79 @@ public class QueryAnswers implements Iterable<Answer>{
     public QueryAnswers(Collection<Answer> ans){ ans.forEach(set::add);}
     public QueryAnswers(QueryAnswers ans){ ans.forEach(set::add);}
 
-    public boolean add(Answer a){ return set.add(a);}
-    public boolean addAll(QueryAnswers ans){ return set.addAll(ans.set);}
-    public boolean remove(Answer a){ return set.remove(a);}
-    public boolean removeAll(QueryAnswers ans){ return set.removeAll(ans.set);}
+    public boolean add(Answer a){
+        if (!set.add(a)) return false;
+        if (index != null) index(a);
+        return true;
+    }
+
+    public boolean addAll(QueryAnswers ans){
+        boolean changed = false;
+        for (Answer a : ans) changed |= add(a);
+        return changed;
+    }
+
+    public boolean remove(Answer a){
+        if (!set.remove(a)) return false;
+        if (index != null) unindex(a);
+        return true;
+    }
+
+    public boolean removeAll(QueryAnswers ans){
+        boolean changed = false;
+        for (Answer a : ans) changed |= remove(a);
+        return changed;
+    }
 
     public boolean containsAll(QueryAnswers ans){ return set.containsAll(ans.set);}
 
     public int size(){ return set.size();}
     public boolean isEmpty(){ return set.isEmpty();}
 
+    /**
+     * find the answers which contain all variable-concept pairs of the provided partial answer
+     * @param partial answer whose variable-concept pairs are sought
+     * @return stream of answers containing the partial answer
+     */
+    public Stream<Answer> containing(Answer partial){
+        if (partial.isEmpty()) return stream();
+        Map<Pair<Var, Concept>, Set<Answer>> index = index();
+        Set<Answer> candidates = null;
+        for (Map.Entry<Var, Concept> entry : partial.entrySet()) {
+            Set<Answer> answers = index.get(new Pair<>(entry.getKey(), entry.getValue()));
+            if (answers == null) return Stream.empty();
+            if (candidates == null || answers.size() < candidates.size()) candidates = answers;
+        }
+        return candidates.stream().filter(a -> a.containsAll(partial));
+    }
+
+    /**
+     * @return inverse answer map of these answers, each set of answers is a copy taken when it is retrieved
+     */
+    public Map<Pair<Var, Concept>, Set<Answer>> inverseAnswerMap(){
+        return Maps.transformValues(index(), ImmutableSet::copyOf);
+    }
+
+    private Map<Pair<Var, Concept>, Set<Answer>> index(){
+        if (index == null) {
+            index = new HashMap<>();
+            set.forEach(this::index);
+        }
+        return index;
+    }
+
+    private void index(Answer a){
+        a.entrySet().forEach(e -> index.computeIfAbsent(new Pair<>(e.getKey(), e.getValue()), k -> new HashSet<>()).add(a));
+    }
+
+    private void unindex(Answer a){
+        a.entrySet().forEach(e -> {
+            Pair<Var, Concept> key = new Pair<>(e.getKey(), e.getValue());
+            Set<Answer> answers = index.get(key);
+            if (answers != null && answers.remove(a) && answers.isEmpty()) index.remove(key);
+        });
+    }
+
     /**
      * filter answers by constraining the variable set to the provided one
      * @param vars set of variable names
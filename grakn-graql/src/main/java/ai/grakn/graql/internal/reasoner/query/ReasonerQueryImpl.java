@@ -44,6 +44,7 @@ import ai.grakn.graql.internal.reasoner.cache.Cache;
 import ai.grakn.graql.internal.reasoner.cache.LazyQueryCache;
 import ai.grakn.graql.internal.reasoner.cache.QueryCache;
 import ai.grakn.graql.internal.reasoner.rule.InferenceRule;
+import ai.grakn.graql.internal.reasoner.rule.RuleGraph;
 import ai.grakn.graql.internal.reasoner.rule.RuleUtil;
 import ai.grakn.graql.internal.reasoner.state.ConjunctiveState;
 import ai.grakn.graql.internal.reasoner.state.QueryState;
@@ -61,6 +62,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -511,11 +513,14 @@ public class ReasonerQueryImpl implements ReasonerQuery {
     }
 
     /**
-     * reiteration might be required if rule graph contains loops with negative flux
+     * reiteration might be required if the query depends on recursive rules
      * or there exists a rule which head satisfies body
      * @return true if because of the rule graph form, the resolution of this query may require reiteration
      */
     public boolean requiresReiteration() {
+        Optional<RuleGraph> ruleGraph = RuleGraph.of(tx());
+        if (ruleGraph.isPresent()) return ruleGraph.get().isRecursive(this);
+
         Set<InferenceRule> dependentRules = RuleUtil.getDependentRules(this);
         return RuleUtil.subGraphHasLoops(dependentRules, tx())
                || RuleUtil.subGraphHasRulesWithHeadSatisfyingBody(dependentRules);
@@ -45,6 +45,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -116,6 +117,10 @@ public class InferenceRule {
      * @return the priority with which the rule should be fired
      */
     public int resolutionPriority(){
+        //rules in lower strata are fired first, as rules in higher strata depend on their answers
+        Optional<RuleGraph> ruleGraph = RuleGraph.of(tx);
+        if (ruleGraph.isPresent()) return -ruleGraph.get().getStratum(ruleId);
+
         if (priority == Integer.MAX_VALUE) {
             priority = -RuleUtil.getDependentRules(getBody()).size();
         }
@@ -0,0 +1,323 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.reasoner.rule;
+
+import ai.grakn.GraknTx;
+import ai.grakn.Keyspace;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.Rule;
+import ai.grakn.concept.SchemaConcept;
+import ai.grakn.graql.internal.reasoner.atom.Atom;
+import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
+import ai.grakn.graql.internal.reasoner.utils.Pair;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.SetMultimap;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Stack;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * <p>
+ * The dependencies between the rules of a keyspace, computed once for each version of the schema.
+ * </p>
+ *
+ * <p>
+ * A rule depends on another rule if the other rule concludes the type, or a subtype, of any atom in its body. The
+ * rules are split into strongly connected components of this graph, and each component is given a stratum: rules
+ * which depend on no other rule are in stratum 0, and any other rule is in the stratum above the highest stratum of
+ * the rules it depends on outside its own component. A rule is recursive if its component contains a cycle, or if its
+ * head satisfies its body.
+ * </p>
+ *
+ * <p>
+ * A graph is kept for each version of the schema which transactions were opened with, so a transaction uses the same
+ * graph for as long as it is open, whatever it writes to its instances. Transactions which change the schema walk the
+ * rules in the graph instead. Graphs which have not been used for an hour are dropped.
+ * </p>
+ *
+ * @author agent
+ */
+public class RuleGraph {
+
+    private static final Cache<Pair<Keyspace, Long>, RuleGraph> GRAPHS =
+            CacheBuilder.newBuilder().expireAfterAccess(1, TimeUnit.HOURS).build();
+
+    //Atoms of rule bodies are parsed while the graph is built, and they may look up rules in turn
+    private static final ThreadLocal<Boolean> BUILDING = ThreadLocal.withInitial(() -> false);
+
+    private final ImmutableSet<ConceptId> rules;
+    private final ImmutableSetMultimap<Label, ConceptId> rulesOfConclusion;
+    private final ImmutableSetMultimap<Label, ConceptId> rulesOfHypothesis;
+    private final ImmutableSet<ConceptId> untypedHypotheses;
+    private final ImmutableSetMultimap<ConceptId, ConceptId> dependencies;
+    private final ImmutableMap<ConceptId, Integer> strata;
+    private final ImmutableSet<ConceptId> recursiveRules;
+
+    private RuleGraph(Set<ConceptId> rules, SetMultimap<Label, ConceptId> rulesOfConclusion,
+                      SetMultimap<Label, ConceptId> rulesOfHypothesis, Set<ConceptId> untypedHypotheses,
+                      SetMultimap<ConceptId, ConceptId> dependencies, Set<ConceptId> headSatisfiesBody) {
+        this.rules = ImmutableSet.copyOf(rules);
+        this.rulesOfConclusion = ImmutableSetMultimap.copyOf(rulesOfConclusion);
+        this.rulesOfHypothesis = ImmutableSetMultimap.copyOf(rulesOfHypothesis);
+        this.untypedHypotheses = ImmutableSet.copyOf(untypedHypotheses);
+        this.dependencies = ImmutableSetMultimap.copyOf(dependencies);
+
+        Map<ConceptId, Integer> strata = new HashMap<>();
+        Set<ConceptId> recursiveRules = new HashSet<>(headSatisfiesBody);
+        new Stratifier(strata, recursiveRules).stratify();
+        this.strata = ImmutableMap.copyOf(strata);
+        this.recursiveRules = ImmutableSet.copyOf(recursiveRules);
+    }
+
+    /**
+     * Get the rule graph of the keyspace of the given transaction, building it if there is none for the version of the
+     * schema the transaction was opened with
+     *
+     * @param tx the transaction of interest
+     * @return the rule graph of the keyspace, or nothing if the transaction has changed the schema
+     */
+    public static Optional<RuleGraph> of(GraknTx tx) {
+        if (BUILDING.get() || tx.admin().hasUncommittedSchemaChanges()) return Optional.empty();
+
+        Pair<Keyspace, Long> key = new Pair<>(tx.getKeyspace(), tx.admin().getSchemaVersion());
+        RuleGraph graph = GRAPHS.getIfPresent(key);
+        if (graph != null) return Optional.of(graph);
+
+        //Transactions building the graph at the same time see the same schema, so whichever is first is kept
+        RuleGraph newGraph = build(tx);
+        RuleGraph current = GRAPHS.asMap().putIfAbsent(key, newGraph);
+        return Optional.of(current != null ? current : newGraph);
+    }
+
+    private static RuleGraph build(GraknTx tx) {
+        BUILDING.set(true);
+        try {
+            Set<ConceptId> rules = new HashSet<>();
+            SetMultimap<Label, ConceptId> rulesOfConclusion = HashMultimap.create();
+            SetMultimap<Label, ConceptId> rulesOfHypothesis = HashMultimap.create();
+            Map<ConceptId, Set<Label>> hypotheses = new HashMap<>();
+            Set<ConceptId> untypedHypotheses = new HashSet<>();
+            Set<ConceptId> headSatisfiesBody = new HashSet<>();
+
+            RuleUtil.getRules(tx).forEach(rule -> {
+                ConceptId id = rule.getId();
+                rules.add(id);
+
+                //A rule concluding a type also concludes all of the supertypes of that type
+                rule.getConclusionTypes().forEach(type -> {
+                    SchemaConcept sup = type;
+                    while (sup != null && rulesOfConclusion.put(sup.getLabel(), id)) sup = sup.sup();
+                });
+                hypotheses.put(id, rule.getHypothesisTypes().map(SchemaConcept::getLabel).collect(toSet()));
+                hypotheses.get(id).forEach(label -> rulesOfHypothesis.put(label, id));
+
+                InferenceRule inferenceRule = new InferenceRule(rule, tx);
+                if (inferenceRule.getBody().getAtoms(Atom.class).anyMatch(atom -> atom.getSchemaConcept() == null)) {
+                    untypedHypotheses.add(id);
+                }
+                if (inferenceRule.headSatisfiesBody()) headSatisfiesBody.add(id);
+            });
+
+            SetMultimap<ConceptId, ConceptId> dependencies = HashMultimap.create();
+            rules.forEach(id -> {
+                if (untypedHypotheses.contains(id)) {
+                    dependencies.putAll(id, rules);
+                } else {
+                    hypotheses.get(id).forEach(label -> dependencies.putAll(id, rulesOfConclusion.get(label)));
+                }
+            });
+
+            return new RuleGraph(rules, rulesOfConclusion, rulesOfHypothesis, untypedHypotheses,
+                    dependencies, headSatisfiesBody);
+        } finally {
+            BUILDING.set(false);
+        }
+    }
+
+    /**
+     * @return true if the keyspace contains at least one rule
+     */
+    public boolean hasRules() {
+        return !rules.isEmpty();
+    }
+
+    /**
+     * @param type the type of interest, or null for any type
+     * @return ids of the rules which conclude the type or any of its subtypes
+     */
+    public Set<ConceptId> getRulesWithType(@Nullable SchemaConcept type) {
+        return type != null ? rulesOfConclusion.get(type.getLabel()) : rules;
+    }
+
+    /**
+     * @param types the types of interest, where null stands for any type
+     * @return ids of the rules which conclude any of the types or their subtypes, and all the rules those depend on
+     */
+    public Set<ConceptId> getDependentRules(Collection<? extends SchemaConcept> types) {
+        Set<ConceptId> dependentRules = new HashSet<>();
+        Stack<ConceptId> toVisit = new Stack<>();
+        types.forEach(type -> toVisit.addAll(getRulesWithType(type)));
+        while (!toVisit.isEmpty()) {
+            ConceptId rule = toVisit.pop();
+            if (dependentRules.add(rule)) {
+                dependencies.get(rule).stream()
+                        .filter(dependency -> !dependentRules.contains(dependency))
+                        .forEach(toVisit::push);
+            }
+        }
+        return dependentRules;
+    }
+
+    /**
+     * @param types types which have gained instances
+     * @return ids of the rules which may infer new facts from the new instances, directly or through the facts
+     * inferred by other rules, ordered by stratum
+     */
+    public List<ConceptId> getAffectedRules(Collection<? extends SchemaConcept> types) {
+        Set<ConceptId> affectedRules = new HashSet<>();
+        Stack<ConceptId> toVisit = new Stack<>();
+        toVisit.addAll(untypedHypotheses);
+        types.forEach(type -> {
+            //An instance of a type is also an instance of all of its supertypes
+            for (SchemaConcept sup = type; sup != null; sup = sup.sup()) {
+                toVisit.addAll(rulesOfHypothesis.get(sup.getLabel()));
+            }
+        });
+
+        SetMultimap<ConceptId, ConceptId> dependants = dependencies.inverse();
+        while (!toVisit.isEmpty()) {
+            ConceptId rule = toVisit.pop();
+            if (affectedRules.add(rule)) {
+                dependants.get(rule).stream()
+                        .filter(dependant -> !affectedRules.contains(dependant))
+                        .forEach(toVisit::push);
+            }
+        }
+        return affectedRules.stream().sorted(Comparator.comparingInt(this::getStratum)).collect(toList());
+    }
+
+    /**
+     * @param query the query of interest
+     * @return true if answering the query may involve a recursive rule, in which case answers need to be reiterated
+     */
+    public boolean isRecursive(ReasonerQueryImpl query) {
+        List<SchemaConcept> types = query.getAtoms(Atom.class).map(Atom::getSchemaConcept).collect(toList());
+        return getDependentRules(types).stream().anyMatch(recursiveRules::contains);
+    }
+
+    /**
+     * @param rule id of a rule of the keyspace
+     * @return the stratum of the rule, where rules in lower strata do not depend on rules in higher strata
+     */
+    public int getStratum(ConceptId rule) {
+        return strata.getOrDefault(rule, 0);
+    }
+
+    /**
+     * Rules of the graph which the given transaction can see
+     */
+    Stream<Rule> rules(Set<ConceptId> ids, GraknTx tx) {
+        return ids.stream().map(id -> tx.<Rule>getConcept(id)).filter(Objects::nonNull);
+    }
+
+    /**
+     * Computes the strongly connected components of the rule dependencies using Tarjan's algorithm. Components are
+     * completed after all the components they depend on, so the stratum of each component can be computed as soon as
+     * it is completed.
+     */
+    private class Stratifier {
+
+        private final Map<ConceptId, Integer> strata;
+        private final Set<ConceptId> recursiveRules;
+
+        private final Map<ConceptId, Integer> index = new HashMap<>();
+        private final Map<ConceptId, Integer> lowLink = new HashMap<>();
+        private final Stack<ConceptId> stack = new Stack<>();
+        private final Set<ConceptId> onStack = new HashSet<>();
+
+        Stratifier(Map<ConceptId, Integer> strata, Set<ConceptId> recursiveRules) {
+            this.strata = strata;
+            this.recursiveRules = recursiveRules;
+        }
+
+        void stratify() {
+            rules.stream().filter(rule -> !index.containsKey(rule)).forEach(this::visit);
+        }
+
+        private void visit(ConceptId rule) {
+            index.put(rule, index.size());
+            lowLink.put(rule, index.get(rule));
+            stack.push(rule);
+            onStack.add(rule);
+
+            for (ConceptId dependency : dependencies.get(rule)) {
+                if (!index.containsKey(dependency)) {
+                    visit(dependency);
+                    lowLink.put(rule, Math.min(lowLink.get(rule), lowLink.get(dependency)));
+                } else if (onStack.contains(dependency)) {
+                    lowLink.put(rule, Math.min(lowLink.get(rule), index.get(dependency)));
+                }
+            }
+
+            if (lowLink.get(rule).equals(index.get(rule))) {
+                List<ConceptId> component = new ArrayList<>();
+                ConceptId member;
+                do {
+                    member = stack.pop();
+                    onStack.remove(member);
+                    component.add(member);
+                } while (!member.equals(rule));
+                completeComponent(component);
+            }
+        }
+
+        private void completeComponent(List<ConceptId> component) {
+            int stratum = component.stream()
+                    .flatMap(rule -> dependencies.get(rule).stream())
+                    .filter(dependency -> !component.contains(dependency))
+                    .mapToInt(dependency -> strata.get(dependency) + 1)
+                    .max().orElse(0);
+            component.forEach(rule -> strata.put(rule, stratum));
+
+            boolean cyclic = component.size() > 1 || dependencies.containsEntry(component.get(0), component.get(0));
+            if (cyclic) recursiveRules.addAll(component);
+        }
+    }
+}
@@ -28,12 +28,14 @@ import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
 import ai.grakn.util.Schema;
 
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.Stack;
 import java.util.stream.Stream;
 
 import static ai.grakn.graql.Graql.label;
 import static ai.grakn.graql.Graql.var;
+import static java.util.stream.Collectors.toSet;
 
 /**
  *
@@ -60,8 +62,10 @@ public class RuleUtil {
      * @return true if at least one inference rule is present in the graph
      */
     public static boolean hasRules(GraknTx graph) {
-        VarPattern rule = label(Schema.MetaSchema.RULE.getLabel());
-        return graph.graql().infer(false).match(var("x").sub(rule).neq(rule)).iterator().hasNext();
+        return RuleGraph.of(graph).map(RuleGraph::hasRules).orElseGet(() -> {
+            VarPattern rule = label(Schema.MetaSchema.RULE.getLabel());
+            return graph.graql().infer(false).match(var("x").sub(rule).neq(rule)).iterator().hasNext();
+        });
     }
 
     /**
@@ -70,6 +74,8 @@ public class RuleUtil {
      * @return rules containing specified type in the head
      */
     public static Stream<Rule> getRulesWithType(SchemaConcept type, GraknTx graph){
+        Optional<RuleGraph> ruleGraph = RuleGraph.of(graph);
+        if (ruleGraph.isPresent()) return ruleGraph.get().rules(ruleGraph.get().getRulesWithType(type), graph);
         return type != null ?
                 type.subs().flatMap(SchemaConcept::getRulesOfConclusion) :
                 getRules(graph);
@@ -119,22 +125,30 @@ public class RuleUtil {
 
     /**
      * @param topTypes entry types in the rule graph
-     * @return all rules that are reachable from the entry types
+     * @param graph of interest
+     * @return all rules that are reachable from the entry types or their subtypes
      */
-    public static Set<Rule> getDependentRules(Set<Type> topTypes){
+    public static Set<Rule> getDependentRules(Set<Type> topTypes, GraknTx graph){
+        Optional<RuleGraph> ruleGraph = RuleGraph.of(graph);
+        if (ruleGraph.isPresent()) {
+            return ruleGraph.get().rules(ruleGraph.get().getDependentRules(topTypes), graph).collect(toSet());
+        }
+
         Set<Rule> rules = new HashSet<>();
         Set<Type> visitedTypes = new HashSet<>();
         Stack<Type> types = new Stack<>();
         topTypes.forEach(types::push);
         while(!types.isEmpty()) {
             Type type = types.pop();
-            if (!visitedTypes.contains(type)){
+            if (visitedTypes.add(type)){
+                type.subs()
+                        .filter(sub -> !visitedTypes.contains(sub))
+                        .forEach(types::add);
                 type.getRulesOfConclusion()
                         .peek(rules::add)
                         .flatMap(Rule::getHypothesisTypes)
-                        .filter(visitedTypes::contains)
+                        .filter(t -> !visitedTypes.contains(t))
                         .forEach(types::add);
-                visitedTypes.add(type);
             }
         }
         return rules;
@@ -67,15 +67,25 @@ public class AtomicState extends QueryState{
         this.cacheUnifier = streamUnifierPair.getValue().inverse();
 
         //if this is ground and exists in the db then do not resolve further
+        //if no answers this query depends on were found in the last iteration, the cached answers are complete
         if(subGoals.contains(query)
-                || (query.isGround() && dbIterator.hasNext() ) ){
+                || (query.isGround() && dbIterator.hasNext() )
+                || cache.isComplete(query)){
             this.ruleIterator = Collections.emptyIterator();
         } else {
             this.ruleIterator = query.getRuleIterator();
         }
 
         //mark as visited and hence not admissible
-        if (ruleIterator.hasNext()) subGoals.add(query);
+        if (ruleIterator.hasNext()) {
+            subGoals.add(query);
+            cache.recordResolution(query);
+        }
+
+        //answers of the queries being resolved above depend on the answers of this query
+        for (QueryState state = parent; state != null; state = state.getParentState()) {
+            if (state.isAtomicState()) cache.recordDependency(((AtomicState) state).getQuery(), query);
+        }
     }
 
     @Override
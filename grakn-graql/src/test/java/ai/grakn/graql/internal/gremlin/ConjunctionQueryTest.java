@@ -20,21 +20,33 @@
 package ai.grakn.graql.internal.gremlin;
 
 import ai.grakn.GraknTx;
+import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.Concept;
 import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.EntityType;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.Type;
 import ai.grakn.graql.Graql;
 import ai.grakn.graql.Pattern;
 import ai.grakn.graql.Var;
 import ai.grakn.graql.VarPattern;
+import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.Conjunction;
 import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.internal.gremlin.fragment.Fragment;
 import ai.grakn.graql.internal.gremlin.fragment.Fragments;
+import ai.grakn.kb.admin.GraknAdmin;
+import ai.grakn.test.SampleKBContext;
+import com.google.common.collect.ImmutableMap;
 import org.hamcrest.Matcher;
+import org.junit.After;
 import org.junit.Before;
+import org.junit.ClassRule;
 import org.junit.Test;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static ai.grakn.graql.Graql.and;
@@ -43,20 +55,29 @@ import static ai.grakn.graql.Graql.gt;
 import static ai.grakn.graql.internal.gremlin.GraqlMatchers.feature;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public class ConjunctionQueryTest {
+
+    @ClassRule
+    public static final SampleKBContext emptyKB = SampleKBContext.empty();
+
     private Label resourceTypeWithoutSubTypesLabel = Label.of("name");
     private Label resourceTypeWithSubTypesLabel = Label.of("resource");
     private VarPattern resourceTypeWithoutSubTypes = Graql.label(resourceTypeWithoutSubTypesLabel);
     private VarPattern resourceTypeWithSubTypes = Graql.label(resourceTypeWithSubTypesLabel);
     private String literalValue = "Bob";
     private GraknTx tx;
+    private GraknAdmin admin;
     private Var x = Graql.var("x");
     private Var y = Graql.var("y");
 
@@ -64,6 +85,9 @@ public class ConjunctionQueryTest {
     @Before
     public void setUp() {
         tx = mock(GraknTx.class);
+        admin = mock(GraknAdmin.class);
+        when(tx.admin()).thenReturn(admin);
+        when(admin.hasAttributeValuesOnEdges()).thenReturn(true);
 
         Type resourceTypeWithoutSubTypesMock = mock(Type.class);
         doAnswer((answer) -> Stream.of(resourceTypeWithoutSubTypesMock)).when(resourceTypeWithoutSubTypesMock).subs();
@@ -76,6 +100,11 @@ public class ConjunctionQueryTest {
         when(tx.getSchemaConcept(resourceTypeWithSubTypesLabel)).thenReturn(resourceTypeWithSubTypesMock);
     }
 
+    @After
+    public void tearDown() {
+        emptyKB.rollback();
+    }
+
     @Test
     public void whenVarRefersToATypeWithoutSubTypesAndALiteralValue_UseResourceIndex() {
         assertThat(x.isa(resourceTypeWithoutSubTypes).val(literalValue), usesResourceIndex());
@@ -135,6 +164,80 @@ public class ConjunctionQueryTest {
         assertThat(x.isa(resourceTypeWithoutSubTypes).val(gt(literalValue)), not(usesResourceIndex()));
     }
 
+    @Test
+    public void whenVarHasAValueComparator_SearchInstancesOfTheTypeByValue() {
+        assertThat(x.isa(resourceTypeWithoutSubTypes).val(gt(literalValue)), searchesByValue());
+    }
+
+    @Test
+    public void whenSearchingInstancesOfATypeByValue_FindTheInstancesInRange() {
+        GraknTx graph = emptyKB.tx();
+        AttributeType<Long> age = graph.putAttributeType("age", AttributeType.DataType.LONG);
+        LongStream.range(0, 10).forEach(age::putAttribute);
+
+        //Move the first attributes onto a new shard, so some are found through edges they were moved to
+        graph.admin().shard(age.getId());
+        LongStream.range(10, 20).forEach(age::putAttribute);
+        assertEquals(10L, graph.admin().rebalanceShards(age.getId(), 10));
+
+        VarPattern pattern = x.isa("age").val(gt(7L));
+        assertThat(pattern, searchesByValue(graph));
+
+        Set<Concept> expected = age.instances().filter(attribute -> attribute.getValue() > 7L).collect(toSet());
+        Set<Concept> answers = graph.graql().match(pattern).get(x).collect(toSet());
+
+        assertEquals(12, expected.size());
+        assertEquals(expected, answers);
+    }
+
+    @Test
+    public void whenTheKeyspaceHasNoValuesOnEdges_DoNotSearchInstancesOfTheTypeByValue() {
+        when(admin.hasAttributeValuesOnEdges()).thenReturn(false);
+        assertThat(x.isa(resourceTypeWithoutSubTypes).val(gt(literalValue)), not(searchesByValue()));
+    }
+
+    @Test
+    public void whenQueryUsesHasSyntaxWithAValueComparator_SearchAttributesOfTheOwnerByValue() {
+        assertThat(x.has(resourceTypeWithoutSubTypesLabel, y.val(gt(literalValue))), searchesAttributesByValue());
+    }
+
+    @Test
+    public void whenSearchingAttributesOfAnOwnerByValue_FindTheAttributesInRange() {
+        GraknTx graph = emptyKB.tx();
+        AttributeType<Long> age = graph.putAttributeType("age", AttributeType.DataType.LONG);
+        EntityType person = graph.putEntityType("person").attribute(age);
+        LongStream.range(0, 10).forEach(value ->
+                person.addEntity().attribute(age.putAttribute(value)).attribute(age.putAttribute(value + 5)));
+
+        VarPattern pattern = x.has(Label.of("age"), y.val(gt(7L)));
+        assertThat(pattern, searchesAttributesByValue(graph));
+
+        Set<Map<Var, Concept>> expected = person.instances().flatMap(owner -> owner.attributes(age)
+                .filter(attribute -> (Long) attribute.getValue() > 7L)
+                .map(attribute -> ImmutableMap.<Var, Concept>of(x, owner, y, attribute))
+        ).collect(toSet());
+        Set<Map<Var, Concept>> answers = graph.graql().match(pattern).get(x, y).stream().map(Answer::map).collect(toSet());
+
+        assertEquals(9, expected.size());
+        assertEquals(expected, answers);
+    }
+
+    @Test
+    public void whenTheKeyspaceHasNoValuesOnEdges_DoNotSearchAttributesOfTheOwnerByValue() {
+        when(admin.hasAttributeValuesOnEdges()).thenReturn(false);
+        assertThat(x.has(resourceTypeWithoutSubTypesLabel, y.val(gt(literalValue))), not(searchesAttributesByValue()));
+    }
+
+    @Test
+    public void whenQueryUsesHasSyntaxWithALiteralValue_DoNotSearchAttributesOfTheOwnerByValue() {
+        assertThat(x.has(resourceTypeWithoutSubTypesLabel, y.val(literalValue)), not(searchesAttributesByValue()));
+    }
+
+    @Test
+    public void whenVarHasAValuePredicateThatIsNotARange_DoNotSearchInstancesOfTheTypeByValue() {
+        assertThat(x.isa(resourceTypeWithoutSubTypes).val(Graql.contains(literalValue)), not(searchesByValue()));
+    }
+
     @Test
     public void whenVarDoesNotHaveAType_DoNotUseResourceIndex() {
         assertThat(x.val(literalValue), not(usesResourceIndex()));
@@ -150,6 +253,32 @@ public class ConjunctionQueryTest {
         assertThat(x.isa(resourceTypeWithoutSubTypes).val(eq(y)), not(usesResourceIndex(x, y)));
     }
 
+    private Matcher<Pattern> searchesByValue() {
+        return searchesByValue(tx);
+    }
+
+    private static Matcher<Pattern> searchesByValue(GraknTx tx) {
+        Matcher<Fragment> inIsaByValue = feature(startsWith("<-[isa:"), "name", Fragment::name);
+
+        return feature(hasItem(hasItem(inIsaByValue)), "fragment sets", pattern -> {
+            Conjunction<VarPatternAdmin> conjunction = pattern.admin().getDisjunctiveNormalForm().getPatterns().iterator().next();
+            return new ConjunctionQuery(conjunction, tx).getEquivalentFragmentSets();
+        });
+    }
+
+    private Matcher<Pattern> searchesAttributesByValue() {
+        return searchesAttributesByValue(tx);
+    }
+
+    private static Matcher<Pattern> searchesAttributesByValue(GraknTx tx) {
+        Matcher<Fragment> inRolePlayerByValue = feature(containsString("[value:"), "name", Fragment::name);
+
+        return feature(hasItem(hasItem(inRolePlayerByValue)), "fragment sets", pattern -> {
+            Conjunction<VarPatternAdmin> conjunction = pattern.admin().getDisjunctiveNormalForm().getPatterns().iterator().next();
+            return new ConjunctionQuery(conjunction, tx).getEquivalentFragmentSets();
+        });
+    }
+
     private Matcher<Pattern> usesResourceIndex() {
         return usesResourceIndex(x, literalValue);
     }
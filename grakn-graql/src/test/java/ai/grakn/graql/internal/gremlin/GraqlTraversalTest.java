@@ -19,7 +19,9 @@
 package ai.grakn.graql.internal.gremlin;
 
 import ai.grakn.GraknTx;
+import ai.grakn.Keyspace;
 import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.EntityType;
 import ai.grakn.concept.Label;
 import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Role;
@@ -34,6 +36,7 @@ import ai.grakn.graql.internal.gremlin.fragment.Fragments;
 import ai.grakn.graql.internal.pattern.Patterns;
 import ai.grakn.graql.internal.pattern.property.IdProperty;
 import ai.grakn.graql.internal.pattern.property.IsaProperty;
+import ai.grakn.kb.admin.GraknAdmin;
 import ai.grakn.util.CommonUtil;
 import ai.grakn.util.Schema;
 import com.google.common.collect.ImmutableList;
@@ -61,6 +64,7 @@ import static ai.grakn.graql.internal.gremlin.fragment.Fragments.id;
 import static ai.grakn.graql.internal.gremlin.fragment.Fragments.inIsa;
 import static ai.grakn.graql.internal.gremlin.fragment.Fragments.inRelates;
 import static ai.grakn.graql.internal.gremlin.fragment.Fragments.outIsa;
+import static ai.grakn.graql.internal.gremlin.fragment.Fragments.outPlays;
 import static ai.grakn.graql.internal.gremlin.fragment.Fragments.outRelates;
 import static ai.grakn.graql.internal.gremlin.fragment.Fragments.value;
 import static java.util.Comparator.comparing;
@@ -68,6 +72,7 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.hamcrest.CoreMatchers.anyOf;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -117,6 +122,51 @@ public class GraqlTraversalTest {
         when(marriage.getLabel()).thenReturn(marriageLabel);
 
         when(tx.getSchemaConcept(marriageLabel)).thenReturn(marriage);
+
+        // We have to mock out the instance count estimates because the instance count optimisation checks them
+
+        GraknAdmin admin = mock(GraknAdmin.class);
+        when(tx.admin()).thenReturn(admin);
+        when(tx.getKeyspace()).thenReturn(Keyspace.of("graqltraversaltest"));
+
+        EntityType bigType = mockEntityType(Label.of("big-type"));
+        when(admin.getInstanceCountEstimate(bigType)).thenReturn(Optional.of(10_000_000L));
+
+        EntityType smallType = mockEntityType(Label.of("small-type"));
+        when(admin.getInstanceCountEstimate(smallType)).thenReturn(Optional.of(10L));
+    }
+
+    private static EntityType mockEntityType(Label label) {
+        EntityType type = mock(EntityType.class);
+        when(type.isType()).thenReturn(true);
+        when(type.asType()).thenReturn(type);
+        when(type.subs()).thenAnswer(inv -> Stream.of(type));
+        when(type.getLabel()).thenReturn(label);
+
+        when(tx.getSchemaConcept(label)).thenReturn(type);
+        return type;
+    }
+
+    @Test
+    public void whenUnselectedVariablesMatchASingleConcept_ResultsAreDistinct() {
+        assertTrue(fastIsaTraversal.hasDistinctResults(ImmutableSet.of(x)));
+    }
+
+    @Test
+    public void whenAnUnselectedVariableCanMatchManyConcepts_ResultsMayNotBeDistinct() {
+        assertFalse(traversal(xIsaY, outIsa(null, y, z)).hasDistinctResults(ImmutableSet.of(x)));
+    }
+
+    @Test
+    public void whenAFragmentCanReachTheSameConceptTwice_ResultsMayNotBeDistinct() {
+        GraqlTraversal plays = traversal(outPlays(null, x, y, false));
+        assertFalse(plays.hasDistinctResults(ImmutableSet.of(x, y)));
+    }
+
+    @Test
+    public void whenTraversalIsAUnion_ResultsMayNotBeDistinct() {
+        GraqlTraversal union = traversal(ImmutableList.of(yId, yTypeOfX), ImmutableList.of(xId));
+        assertFalse(union.hasDistinctResults(ImmutableSet.of(x, y)));
     }
 
     @Test
@@ -161,6 +211,38 @@ public class GraqlTraversalTest {
         assertFaster(fromType, fromInstance);
     }
 
+    @Test
+    public void whenATypeHasFewerInstances_ItIsFasterToNavigateToItsInstances() {
+        GraqlTraversal fromSmallType = traversal(yId, inIsa(null, y, x, 10L));
+        GraqlTraversal fromBigType = traversal(yId, inIsa(null, y, x, 10_000_000L));
+        assertFaster(fromSmallType, fromBigType);
+    }
+
+    @Test
+    public void whenRolePlayersAreInMoreRelationshipsThanUsual_ItIsSlowerToNavigateToTheRelationships() {
+        GraqlTraversal fewRelationships = traversal(xId, inRolePlayer(x, z, 2.0), outRolePlayer(z, y));
+        GraqlTraversal usualRelationships = traversal(xId, inRolePlayer(x, z), outRolePlayer(z, y));
+        GraqlTraversal manyRelationships = traversal(xId, inRolePlayer(x, z, 10_000.0), outRolePlayer(z, y));
+
+        assertFaster(fewRelationships, usualRelationships);
+        assertFaster(usualRelationships, manyRelationships);
+    }
+
+    @Test
+    public void whenPlanningRelationBetweenTypesWithInstanceCounts_StartFromTheSmallerType() {
+        Pattern pattern = and(x.isa("big-type"), y.isa("small-type"), var().rel(x).rel(y));
+
+        GraqlTraversal graqlTraversal = semiOptimal(pattern);
+
+        Set<Var> instancesNavigatedToFromTypes = graqlTraversal.fragments().stream()
+                .flatMap(Collection::stream)
+                .filter(fragment -> fragment.name().equals("<-[isa]-"))
+                .map(Fragment::end)
+                .collect(toSet());
+
+        assertEquals(ImmutableSet.of(y), instancesNavigatedToFromTypes);
+    }
+
     @Ignore //TODO: No longer applicable. Think of a new test to replace this.
     @Test
     public void valueFilteringIsBetterThanANonFilteringOperation() {
@@ -347,6 +429,10 @@ public class GraqlTraversalTest {
         return Fragments.inRolePlayer(null, rolePlayer, c, relation, null, null, null);
     }
 
+    private static Fragment inRolePlayer(Var rolePlayer, Var relation, double relationsPerRolePlayer) {
+        return Fragments.inRolePlayer(null, rolePlayer, c, relation, null, null, null, relationsPerRolePlayer);
+    }
+
     private static void assertNearlyOptimal(Pattern pattern) {
         GraqlTraversal traversal = semiOptimal(pattern);
 
@@ -0,0 +1,128 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.gremlin;
+
+import ai.grakn.Keyspace;
+import ai.grakn.graql.QueryBuilder;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.test.SampleKBContext;
+import ai.grakn.test.kbs.MovieKB;
+import org.junit.After;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.List;
+
+import static ai.grakn.graql.Graql.var;
+import static org.junit.Assert.assertEquals;
+
+public class PlanCacheTest {
+
+    @ClassRule
+    public static final SampleKBContext movieKB = SampleKBContext.preLoad(MovieKB.get());
+
+    @After
+    public void tearDown() {
+        movieKB.rollback();
+    }
+
+    @Test
+    public void whenPlanningInOneKeyspace_OnlyThatKeyspaceCountsTheHit() {
+        movieKB.tx().graql().match(var("x").has("title", "Godfather")).get().execute();
+
+        long hits = PlanCache.hitCount(keyspace());
+        movieKB.tx().graql().match(var("x").has("title", "Heat")).get().execute();
+
+        assertEquals(hits + 1, PlanCache.hitCount(keyspace()));
+        assertEquals(0, PlanCache.hitCount(Keyspace.of("a_keyspace_which_is_never_queried")));
+    }
+
+    @Test
+    public void whenPlanningQueriesWhichDifferOnlyInTheirValues_UseTheCachedPlan() {
+        QueryBuilder qb = movieKB.tx().graql();
+
+        qb.match(var("x").has("title", "Godfather")).get().execute();
+
+        long hits = PlanCache.hitCount(keyspace());
+        List<Answer> answers = qb.match(var("x").has("title", "Heat")).get().execute();
+
+        assertEquals(hits + 1, PlanCache.hitCount(keyspace()));
+        assertEquals(qb.match(var("x").has("title", "Heat")).get().execute(), answers);
+        assertEquals(1, answers.size());
+    }
+
+    @Test
+    public void whenPlanningQueriesWhichDifferOnlyInTheirVariableNames_UseTheCachedPlan() {
+        QueryBuilder qb = movieKB.tx().graql();
+
+        qb.match(var("x").isa("movie").has("title", var("t"))).get().execute();
+
+        long hits = PlanCache.hitCount(keyspace());
+        qb.match(var("y").isa("movie").has("title", var("u"))).get().execute();
+
+        assertEquals(hits + 1, PlanCache.hitCount(keyspace()));
+    }
+
+    @Test
+    public void whenPlanningQueriesWithDifferentShapes_DoNotUseTheCachedPlan() {
+        QueryBuilder qb = movieKB.tx().graql();
+
+        qb.match(var("x").has("title", "Godfather")).get().execute();
+
+        long hits = PlanCache.hitCount(keyspace());
+        long misses = PlanCache.missCount(keyspace());
+        qb.match(var("x").has("title", "Godfather").has("tmdb-vote-count", var("c"))).get().execute();
+
+        assertEquals(hits, PlanCache.hitCount(keyspace()));
+        assertEquals(misses + 1, PlanCache.missCount(keyspace()));
+    }
+
+    @Test
+    public void whenTheSchemaChanges_DoNotUseTheCachedPlan() {
+        movieKB.tx().graql().match(var("x").has("title", "Godfather")).get().execute();
+
+        movieKB.tx().putEntityType("a-new-type");
+        movieKB.tx().commit();
+
+        long hits = PlanCache.hitCount(keyspace());
+        movieKB.tx().graql().match(var("x").has("title", "Heat")).get().execute();
+
+        assertEquals(hits, PlanCache.hitCount(keyspace()));
+    }
+
+    @Test
+    public void whenTheSuperTypeOfATypeChanges_DoNotUseTheCachedPlan() {
+        movieKB.tx().putEntityType("a-new-type");
+        movieKB.tx().commit();
+
+        movieKB.tx().graql().match(var("x").has("title", "Godfather")).get().execute();
+
+        movieKB.tx().getEntityType("a-new-type").sup(movieKB.tx().getEntityType("person"));
+        movieKB.tx().commit();
+
+        long hits = PlanCache.hitCount(keyspace());
+        movieKB.tx().graql().match(var("x").has("title", "Heat")).get().execute();
+
+        assertEquals(hits, PlanCache.hitCount(keyspace()));
+    }
+
+    private static Keyspace keyspace() {
+        return movieKB.tx().getKeyspace();
+    }
+}
@@ -23,6 +23,7 @@ import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.ConceptId;
 import ai.grakn.concept.Rule;
 import ai.grakn.graql.Printer;
+import ai.grakn.graql.admin.Answer;
 import ai.grakn.test.SampleKBContext;
 import ai.grakn.test.kbs.MovieKB;
 import ai.grakn.util.Schema;
@@ -34,10 +35,15 @@ import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import static ai.grakn.graql.Graql.var;
 import static org.junit.Assert.assertEquals;
 
 public class JsonPrinterTest {
@@ -138,6 +144,24 @@ public class JsonPrinterTest {
         assertJsonEquals(Json.object("id", id.getValue(), "name", "actor", "sub", "role"), movieContext.tx().getRole("actor"));
     }
 
+    @Test
+    public void whenWritingAStream_OutputIsTheSameAsPrintingAList() throws IOException {
+        List<Answer> answers = movieContext.tx().graql().match(var("x").isa("movie")).get().execute();
+
+        StringWriter writer = new StringWriter();
+        printer.write(writer, answers.stream());
+
+        assertEquals(Json.read(printer.graqlString(answers)), Json.read(writer.toString()));
+    }
+
+    @Test
+    public void whenWritingAnEmptyStream_OutputIsAnEmptyArray() throws IOException {
+        StringWriter writer = new StringWriter();
+        printer.write(writer, Stream.empty());
+
+        assertEquals(Json.array(), Json.read(writer.toString()));
+    }
+
     private void assertJsonEquals(Json expected, Object object) {
         Json json = Json.read(printer.graqlString(object));
         assertEquals(expected, json);
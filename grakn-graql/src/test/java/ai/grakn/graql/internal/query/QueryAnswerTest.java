@@ -22,13 +22,17 @@ package ai.grakn.graql.internal.query;
 import ai.grakn.concept.Concept;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import static ai.grakn.graql.Graql.var;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -58,4 +62,36 @@ public class QueryAnswerTest {
 
         answer.get(varNotInAnswer);
     }
+
+    @Test
+    public void whenAnAnswerIsBuiltFromALayout_ItEqualsTheSameAnswerBuiltFromAMap() {
+        Var y = var("y");
+        Concept other = mock(Concept.class);
+        AnswerLayout layout = new AnswerLayout(ImmutableList.of(varInAnswer, y));
+
+        Answer laidOut = new QueryAnswer(layout, new Concept[]{conceptInAnswer, other});
+        Answer mapped = new QueryAnswer(ImmutableMap.of(varInAnswer, conceptInAnswer, y, other));
+
+        assertEquals(mapped, laidOut);
+        assertEquals(laidOut, mapped);
+        assertEquals(mapped.hashCode(), laidOut.hashCode());
+        assertEquals(mapped.map().entrySet(), laidOut.map().entrySet());
+    }
+
+    @Test
+    public void whenProjectingAnAnswerBuiltFromALayout_TheOriginalIsUnchanged() {
+        Var y = var("y");
+        Var z = var("z");
+        Concept other = mock(Concept.class);
+        AnswerLayout layout = new AnswerLayout(ImmutableList.of(varInAnswer, y));
+        Answer laidOut = new QueryAnswer(layout, new Concept[]{conceptInAnswer, other});
+
+        Answer projected = laidOut.project(ImmutableSet.of(varInAnswer));
+        Answer extended = laidOut.merge(new QueryAnswer(ImmutableMap.of(z, other)));
+
+        assertEquals(answer, projected);
+        assertEquals(ImmutableSet.of(varInAnswer, y), laidOut.vars());
+        assertEquals(ImmutableSet.of(varInAnswer, y, z), extended.vars());
+        assertFalse(laidOut.containsKey(z));
+    }
 }
\ No newline at end of file
@@ -28,6 +28,7 @@ import ai.grakn.graql.admin.Answer;
 import ai.grakn.matcher.MovieMatchers;
 import ai.grakn.test.SampleKBContext;
 import ai.grakn.test.kbs.MovieKB;
+import com.google.common.collect.ImmutableList;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.ClassRule;
@@ -38,6 +39,7 @@ import org.junit.rules.ExpectedException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collector;
 
 import static ai.grakn.graql.Graql.count;
 import static ai.grakn.graql.Graql.group;
@@ -52,6 +54,7 @@ import static ai.grakn.graql.Graql.var;
 import static ai.grakn.util.ErrorMessage.VARIABLE_NOT_IN_QUERY;
 import static java.lang.Math.pow;
 import static java.lang.Math.sqrt;
+import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
 
 public class AggregateTest {
@@ -234,6 +237,22 @@ public class AggregateTest {
         assertEquals(expected, query.execute().get().doubleValue(), 0.01d);
     }
 
+    @Test
+    public void whenCombiningPartialResults_AggregatesAreTheSameAsOverAllResults() {
+        List<Answer> answers =
+                qb.match(var("x").isa("movie").has("tmdb-vote-count", var("y"))).stream().collect(toList());
+
+        for (CollectingAggregate<Answer, ?> aggregate : ImmutableList.<CollectingAggregate<Answer, ?>>of(
+                new MeanAggregate(var("y")), new MedianAggregate(var("y")), new SumAggregate(var("y")),
+                new GroupAggregate<>(var("x"), new MedianAggregate(var("y"))))) {
+            assertEquals(aggregate.apply(answers.stream()), collectInTwoParts(aggregate.collector(), answers));
+        }
+
+        StdAggregate std = new StdAggregate(var("y"));
+        //noinspection OptionalGetWithoutIsPresent
+        assertEquals(std.apply(answers.stream()).get(), collectInTwoParts(std.collector(), answers).get(), 0.01d);
+    }
+
     @Test
     public void testEmptyMatchCount() {
         assertEquals(0L, rule.tx().graql().match(var().isa("runtime")).aggregate(count()).execute().longValue());
@@ -257,6 +276,17 @@ public class AggregateTest {
                 .aggregate(sum("y")).execute();
     }
 
+    private static <A, T> T collectInTwoParts(Collector<Answer, A, T> collector, List<Answer> answers) {
+        A left = collector.supplier().get();
+        A right = collector.supplier().get();
+
+        int middle = answers.size() / 2;
+        answers.subList(0, middle).forEach(answer -> collector.accumulator().accept(left, answer));
+        answers.subList(middle, answers.size()).forEach(answer -> collector.accumulator().accept(right, answer));
+
+        return collector.finisher().apply(collector.combiner().apply(left, right));
+    }
+
     @Test
     public void whenGroupVarIsNotInQuery_Throw() {
         exception.expect(GraqlQueryException.class);
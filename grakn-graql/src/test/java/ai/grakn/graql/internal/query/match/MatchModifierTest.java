@@ -34,6 +34,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -51,6 +52,7 @@ import static ai.grakn.matcher.MovieMatchers.heat;
 import static ai.grakn.matcher.MovieMatchers.hocusPocus;
 import static ai.grakn.matcher.MovieMatchers.theMuppets;
 import static ai.grakn.util.ErrorMessage.VARIABLE_NOT_IN_QUERY;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
@@ -91,6 +93,16 @@ public class MatchModifierTest {
         assertEquals(3, match.stream().count());
     }
 
+    @Test
+    public void whenOrderingWithOffsetAndLimit_ResultsAreTheSameAsOrderingEverything() {
+        Var t = var("t");
+        List<Answer> ordered = qb.match(x.isa("movie").has("title", t)).orderBy(t, desc).stream().collect(toList());
+        List<Answer> limited = qb.match(x.isa("movie").has("title", t)).orderBy(t, desc).offset(1).limit(3)
+                .stream().collect(toList());
+
+        assertEquals(ordered.subList(1, 4), limited);
+    }
+
     @Test
     public void testOrPatternOrderByResource() {
         Match match = qb.match(
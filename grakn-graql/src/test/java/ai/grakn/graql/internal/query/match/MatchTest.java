@@ -41,6 +41,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -150,6 +151,7 @@ import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 @SuppressWarnings({"OptionalGetWithoutIsPresent", "unchecked"})
 public class MatchTest {
@@ -175,6 +177,13 @@ public class MatchTest {
         weird.attribute(weird);
     });
 
+    // This is a graph where a type plays a role both directly and through its super-type
+    @ClassRule
+    public static final SampleKBContext subTypePlaysKB = SampleKBContext.preLoad(graph -> {
+        graph.graql().parse("define parent sub role; person sub entity, plays parent; man sub person, plays parent;")
+                .execute();
+    });
+
     @Rule
     public final ExpectedException expectedException = ExpectedException.none();
 
@@ -946,6 +955,19 @@ public class MatchTest {
         assertThat(query, variable(x, contains(hasValue("weird"))));
     }
 
+    @Test
+    public void whenATypePlaysARoleDirectlyAndThroughItsSuperType_EachResultIsReturnedOnce() {
+        Match match = subTypePlaysKB.tx().graql().match(x.plays(r));
+
+        List<Answer> answers = match.stream().collect(Collectors.toList());
+
+        assertEquals(ImmutableSet.copyOf(answers).size(), answers.size());
+        assertTrue(answers.stream().anyMatch(answer ->
+                answer.get(x).asType().getLabel().equals(Label.of("man")) &&
+                        answer.get(r).asRole().getLabel().equals(Label.of("parent"))
+        ));
+    }
+
     @Test
     public void whenQueryingForAnImplicitRelationById_TheRelationIsReturned() {
         Match match = qb.match(var("x").isa(label(Schema.ImplicitType.HAS.getLabel("name"))));
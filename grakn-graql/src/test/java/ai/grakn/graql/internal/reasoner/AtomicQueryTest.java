@@ -24,6 +24,7 @@ import ai.grakn.concept.Concept;
 import ai.grakn.exception.GraqlQueryException;
 import ai.grakn.graql.GetQuery;
 import ai.grakn.graql.QueryBuilder;
+import ai.grakn.graql.Var;
 import ai.grakn.graql.admin.Answer;
 import ai.grakn.graql.admin.Atomic;
 import ai.grakn.graql.admin.Conjunction;
@@ -33,9 +34,11 @@ import ai.grakn.graql.admin.VarPatternAdmin;
 import ai.grakn.graql.internal.pattern.Patterns;
 import ai.grakn.graql.internal.query.QueryAnswer;
 import ai.grakn.graql.internal.reasoner.atom.Atom;
+import ai.grakn.graql.internal.reasoner.cache.QueryCache;
 import ai.grakn.graql.internal.reasoner.query.QueryAnswers;
 import ai.grakn.graql.internal.reasoner.query.ReasonerAtomicQuery;
 import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
+import ai.grakn.graql.internal.reasoner.utils.Pair;
 import ai.grakn.test.GraknTestSetup;
 import ai.grakn.test.SampleKBContext;
 import ai.grakn.test.kbs.GeoKB;
@@ -49,6 +52,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -734,6 +738,51 @@ public class AtomicQueryTest {
         queryEquivalence(query6, query7, false);
     }
 
+    @Test
+    public void testWhenDependencyGainsAnswers_ResolvedQueryIsNotComplete(){
+        GraknTx graph = geoKB.tx();
+        Concept poland = getConceptByResourceValue(graph, "Poland");
+        String dependencyString = "{(geo-entity: $x, entity-location: $z) isa is-located-in;$z id '" + poland.getId().getValue() + "';}";
+        ReasonerAtomicQuery query = ReasonerQueries.atomic(conjunction("{(geo-entity: $x, entity-location: $y) isa is-located-in;}", graph), graph);
+        ReasonerAtomicQuery dependency = ReasonerQueries.atomic(conjunction(dependencyString, graph), graph);
+        Answer answer = new QueryAnswer(ImmutableMap.of(
+                var("x"), getConceptByResourceValue(graph, "Warsaw"),
+                var("z"), poland));
+
+        QueryCache<ReasonerAtomicQuery> cache = new QueryCache<>();
+        assertTrue(!cache.isComplete(query));
+
+        cache.recordResolution(query);
+        cache.recordDependency(query, dependency);
+        cache.recordAnswer(dependency, answer);
+
+        //the dependency gained answers in the finished iteration, so the query has to be resolved again
+        assertTrue(cache.nextIteration());
+        assertTrue(!cache.isComplete(query));
+
+        //nothing was found in the finished iteration, so the cached answers of the query are complete
+        assertTrue(!cache.nextIteration());
+        assertTrue(cache.isComplete(query));
+    }
+
+    @Test
+    public void testWhenAnswersAreRecordedAfterTakingTheInverseAnswerMap_TheMapDoesNotChange(){
+        GraknTx graph = geoKB.tx();
+        ReasonerAtomicQuery query = ReasonerQueries.atomic(conjunction("{(geo-entity: $x, entity-location: $y) isa is-located-in;}", graph), graph);
+        Concept warsaw = getConceptByResourceValue(graph, "Warsaw");
+        Concept masovia = getConceptByResourceValue(graph, "Masovia");
+        Concept poland = getConceptByResourceValue(graph, "Poland");
+
+        QueryCache<ReasonerAtomicQuery> cache = new QueryCache<>();
+        cache.recordAnswer(query, new QueryAnswer(ImmutableMap.of(var("x"), warsaw, var("y"), masovia)));
+        Map<Pair<Var, Concept>, Set<Answer>> inverseAnswerMap = cache.getInverseAnswerMap(query);
+
+        //the inverse answer map is joined against lazily, while answers are still being recorded
+        cache.recordAnswer(query, new QueryAnswer(ImmutableMap.of(var("x"), masovia, var("y"), poland)));
+
+        assertEquals(Sets.newHashSet(new Pair<>(var("x"), warsaw), new Pair<>(var("y"), masovia)), inverseAnswerMap.keySet());
+    }
+
     private void queryEquivalence(ReasonerAtomicQuery a, ReasonerAtomicQuery b, boolean expectation){
         queryEquivalence(a, b, expectation, expectation);
     }
@@ -0,0 +1,121 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.reasoner;
+
+import ai.grakn.GraknTx;
+import ai.grakn.concept.Concept;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.graql.GetQuery;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.admin.Conjunction;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.test.GraknTestSetup;
+import ai.grakn.test.SampleKBContext;
+import ai.grakn.test.kbs.GeoKB;
+import com.google.common.collect.Maps;
+import org.junit.After;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelResolutionTest {
+
+    @ClassRule
+    public static final SampleKBContext geoKB = SampleKBContext.preLoad(GeoKB.get()).assumeTrue(GraknTestSetup.usingTinker());
+
+    @After
+    public void disableParallelResolution() {
+        ParallelResolution.setParallelism(0);
+    }
+
+    @Test
+    public void whenResolvingDisjunctsWithPartsWithoutRules_AnswersMatchSequentialResolution() {
+        String queryString = "match {(geo-entity: $x, entity-location: $y) isa is-located-in; $y isa country;} or " +
+                "{$x isa city; $y isa country;}; get;";
+        assertSameAnswersWhenParallel(queryString);
+    }
+
+    @Test
+    public void whenResolvingPartsWithNoSharedVariables_AnswersMatchSequentialResolution() {
+        String queryString = "match (geo-entity: $x, entity-location: $y) isa is-located-in; " +
+                "$z isa country; get;";
+        assertSameAnswersWhenParallel(queryString);
+    }
+
+    @Test
+    public void whenEveryPartNeedsRules_TheQueryIsResolvedSequentially() {
+        String queryString = "match (geo-entity: $x, entity-location: $y) isa is-located-in; get;";
+        ParallelResolution.setParallelism(4);
+        assertFalse(resolveInParallel(freshTx(), queryString).isPresent());
+    }
+
+    @Test
+    public void whenTheTransactionHasUncommittedChanges_TheQueryIsResolvedSequentially() {
+        String queryString = "match (geo-entity: $x, entity-location: $y) isa is-located-in; " +
+                "$z isa country; get;";
+        ParallelResolution.setParallelism(4);
+        GraknTx tx = freshTx();
+        tx.getEntityType("country").addEntity();
+        assertFalse(resolveInParallel(tx, queryString).isPresent());
+    }
+
+    private void assertSameAnswersWhenParallel(String queryString) {
+        ParallelResolution.setParallelism(4);
+        Optional<Stream<Answer>> parallelAnswers = resolveInParallel(freshTx(), queryString);
+        assertTrue("The query should be resolved concurrently", parallelAnswers.isPresent());
+        Set<Map<Var, ConceptId>> parallel = parallelAnswers.get().map(ParallelResolutionTest::ids).collect(toSet());
+
+        ParallelResolution.setParallelism(0);
+        Set<Map<Var, ConceptId>> sequential = freshTx().graql().infer(true).<GetQuery>parse(queryString)
+                .stream().map(ParallelResolutionTest::ids).collect(toSet());
+
+        assertFalse(parallel.isEmpty());
+        assertEquals(sequential, parallel);
+    }
+
+    /**
+     * Inferred answers are written to the transaction which resolves them, so each resolution starts from a
+     * reloaded graph which has no uncommitted changes
+     */
+    private static GraknTx freshTx() {
+        geoKB.rollback();
+        return geoKB.tx();
+    }
+
+    private static Optional<Stream<Answer>> resolveInParallel(GraknTx tx, String queryString) {
+        GetQuery query = tx.graql().parse(queryString);
+        Set<Conjunction<VarPatternAdmin>> conjunctions = query.match().admin().getPattern()
+                .getDisjunctiveNormalForm().getPatterns();
+        return ParallelResolution.resolve(conjunctions, tx, false);
+    }
+
+    private static Map<Var, ConceptId> ids(Answer answer) {
+        return Maps.transformValues(answer.map(), Concept::getId);
+    }
+}
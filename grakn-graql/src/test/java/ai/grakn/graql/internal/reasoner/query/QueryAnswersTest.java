@@ -0,0 +1,82 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.reasoner.query;
+
+import ai.grakn.GraknTx;
+import ai.grakn.concept.Concept;
+import ai.grakn.graql.Var;
+import ai.grakn.graql.admin.Answer;
+import ai.grakn.graql.internal.query.QueryAnswer;
+import ai.grakn.test.GraknTestSetup;
+import ai.grakn.test.SampleKBContext;
+import ai.grakn.test.kbs.GeoKB;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.List;
+
+import static ai.grakn.graql.Graql.var;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class QueryAnswersTest {
+
+    @ClassRule
+    public static final SampleKBContext geoKB = SampleKBContext.preLoad(GeoKB.get()).assumeTrue(GraknTestSetup.usingTinker());
+
+    private static final Var x = var("x");
+    private static final Var y = var("y");
+
+    @Test
+    public void whenLookingUpAPartialAnswer_AnswersContainingItAreFound() {
+        GraknTx tx = geoKB.tx();
+        List<Concept> cities = tx.getEntityType("city").instances().collect(toList());
+        Concept country = tx.getEntityType("country").instances().findFirst().get();
+
+        QueryAnswers answers = new QueryAnswers();
+        cities.forEach(city -> answers.add(new QueryAnswer(ImmutableMap.of(x, city, y, country))));
+
+        Answer partial = new QueryAnswer(ImmutableMap.of(x, cities.get(0)));
+        assertEquals(
+                ImmutableSet.of(new QueryAnswer(ImmutableMap.of(x, cities.get(0), y, country))),
+                answers.containing(partial).collect(toSet()));
+        assertEquals(cities.size(), answers.containing(new QueryAnswer(ImmutableMap.of(y, country))).count());
+    }
+
+    @Test
+    public void whenAnswersAreAddedOrRemovedAfterALookup_TheIndexIsUpdated() {
+        GraknTx tx = geoKB.tx();
+        List<Concept> cities = tx.getEntityType("city").instances().collect(toList());
+        Answer first = new QueryAnswer(ImmutableMap.of(x, cities.get(0)));
+        Answer second = new QueryAnswer(ImmutableMap.of(x, cities.get(1)));
+
+        QueryAnswers answers = new QueryAnswers(first);
+        assertEquals(1, answers.containing(first).count());
+
+        answers.add(second);
+        answers.remove(first);
+
+        assertTrue(!answers.containing(first).findFirst().isPresent());
+        assertEquals(ImmutableSet.of(second), answers.containing(second).collect(toSet()));
+    }
+}
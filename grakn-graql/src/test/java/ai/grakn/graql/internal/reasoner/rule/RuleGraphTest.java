@@ -0,0 +1,127 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.graql.internal.reasoner.rule;
+
+import ai.grakn.GraknTx;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.Rule;
+import ai.grakn.graql.admin.Conjunction;
+import ai.grakn.graql.admin.VarPatternAdmin;
+import ai.grakn.graql.internal.pattern.Patterns;
+import ai.grakn.graql.internal.reasoner.query.ReasonerQueries;
+import ai.grakn.graql.internal.reasoner.query.ReasonerQueryImpl;
+import ai.grakn.test.GraknTestSetup;
+import ai.grakn.test.SampleKBContext;
+import ai.grakn.test.kbs.GeoKB;
+import com.google.common.collect.ImmutableSet;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RuleGraphTest {
+
+    @ClassRule
+    public static final SampleKBContext geoKB = SampleKBContext.preLoad(GeoKB.get()).assumeTrue(GraknTestSetup.usingTinker());
+
+    @Test
+    public void whenTheSchemaHasNotChanged_TheSameRuleGraphIsUsed() {
+        GraknTx tx = geoKB.tx();
+        RuleGraph graph = RuleGraph.of(tx).get();
+
+        assertSame(graph, RuleGraph.of(tx).get());
+        assertTrue(graph.hasRules());
+    }
+
+    @Test
+    public void whenLookingUpRulesOfAType_RulesAreTheSameAsInTheGraph() {
+        GraknTx tx = geoKB.tx();
+        RuleGraph graph = RuleGraph.of(tx).get();
+
+        Set<ConceptId> expected = tx.getSchemaConcept(Label.of("is-located-in")).getRulesOfConclusion()
+                .map(Rule::getId)
+                .collect(toSet());
+        assertEquals(expected, graph.getRulesWithType(tx.getSchemaConcept(Label.of("is-located-in"))));
+        assertTrue(graph.getRulesWithType(tx.getSchemaConcept(Label.of("city"))).isEmpty());
+    }
+
+    @Test
+    public void whenQueryDependsOnATransitiveRule_QueryIsRecursive() {
+        GraknTx tx = geoKB.tx();
+        RuleGraph graph = RuleGraph.of(tx).get();
+
+        assertTrue(graph.isRecursive(query("{(geo-entity: $x, entity-location: $y) isa is-located-in;}", tx)));
+        assertFalse(graph.isRecursive(query("{$x isa city;}", tx)));
+    }
+
+    @Test
+    public void whenATypeGainsInstances_RulesWithTheTypeInTheirBodyAreAffected() {
+        GraknTx tx = geoKB.tx();
+        RuleGraph graph = RuleGraph.of(tx).get();
+
+        Set<ConceptId> expected = tx.getSchemaConcept(Label.of("is-located-in")).getRulesOfConclusion()
+                .map(Rule::getId)
+                .collect(toSet());
+        assertEquals(expected, ImmutableSet.copyOf(
+                graph.getAffectedRules(ImmutableSet.of(tx.getSchemaConcept(Label.of("is-located-in"))))));
+        assertTrue(graph.getAffectedRules(ImmutableSet.of(tx.getSchemaConcept(Label.of("city")))).isEmpty());
+    }
+
+    @Test
+    public void whenTheTransactionHasUncommittedInstances_TheSameRuleGraphIsUsed() {
+        GraknTx tx = geoKB.tx();
+        RuleGraph graph = RuleGraph.of(tx).get();
+        try {
+            tx.getEntityType("city").addEntity();
+
+            assertSame(graph, RuleGraph.of(tx).get());
+            RuleUtil.getRules(tx).forEach(rule -> assertEquals(
+                    -graph.getStratum(rule.getId()), new InferenceRule(rule, tx).resolutionPriority()));
+        } finally {
+            geoKB.rollback();
+        }
+    }
+
+    @Test
+    public void whenTheTransactionChangesTheSchema_TheRuleGraphIsNotUsed() {
+        GraknTx tx = geoKB.tx();
+        try {
+            tx.putEntityType("continent");
+
+            assertFalse(RuleGraph.of(tx).isPresent());
+        } finally {
+            geoKB.rollback();
+        }
+    }
+
+    private static ReasonerQueryImpl query(String patternString, GraknTx tx) {
+        Set<VarPatternAdmin> vars = tx.graql().parsePattern(patternString).admin()
+                .getDisjunctiveNormalForm().getPatterns()
+                .stream().flatMap(p -> p.getPatterns().stream()).collect(toSet());
+        Conjunction<VarPatternAdmin> pattern = Patterns.conjunction(vars);
+        return ReasonerQueries.create(pattern, tx);
+    }
+}
@@ -35,7 +35,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.UnaryOperator;
 
 /**
  * <p>
@@ -47,25 +49,30 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  *     The commit log is also uploaded periodically to make sure that if a failure occurs the counts are still roughly maintained.
  * </p>
  *
+ * <p>
+ *     The log is double buffered. Commits append to the current {@link Buffer} while a submission swaps it for an
+ *     empty one and uploads the old one, so committing threads never wait on the server. If the upload fails the
+ *     contents of the old buffer are merged back into the current one to be submitted again later.
+ * </p>
+ *
  * @author Filipe Peliz Pinto Teixeira
  */
 public class CommitLog {
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    private final Map<ConceptId, Long> newInstanceCount = new ConcurrentHashMap<>();
-    private final Set<Attribute> newAttributes = ConcurrentHashMap.newKeySet();
-
+    private volatile Buffer buffer = new Buffer();
 
     void addNewAttributes(Set<Attribute> attributes){
-        lockDataAddition(() -> newAttributes.addAll(attributes));
+        lockDataAddition(() -> buffer.addNewAttributes(attributes));
     }
 
     void addNewInstances(Map<ConceptId, Long> instances){
-        lockDataAddition(() -> instances.forEach((key, value) -> newInstanceCount.merge(key, value, (v1, v2) -> v1 + v2)));
+        lockDataAddition(() -> buffer.addNewInstances(instances));
     }
 
     /**
-     * Read locks are used when acquiring the data.
-     * This is to ensure we are not busy clearing the data during a commit log submission.
+     * Read locks are used when adding data.
+     * This is to ensure no data is added to a buffer after it has been swapped out for submission.
+     * The write lock is only held for the swap itself, so the read lock is never held for long.
      *
      * @param dataAdder the data addition
      */
@@ -78,31 +85,53 @@ public class CommitLog {
         }
     }
 
-    private void clear(){
-        newInstanceCount.clear();
-        newAttributes.clear();
+    /**
+     * @return The current buffer, which is replaced by an empty one
+     */
+    private Buffer swap(){
+        try{
+            lock.writeLock().lock();
+            Buffer current = buffer;
+            buffer = new Buffer();
+            return current;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     public Json getFormattedLog(){
-        return formatLog(newInstanceCount, newAttributes);
+        return buffer.format();
     }
 
     /**
      * Submits the commit logs to the provided server address and under the provided {@link Keyspace}
      */
     public Optional<String> submit(String engineUri, Keyspace keyspace){
-        if(newInstanceCount.isEmpty() && newAttributes.isEmpty()){
+        String endPoint = getCommitLogEndPoint(engineUri, keyspace);
+        return submit(log -> EngineCommunicator.contactEngine(endPoint, REST.HttpConn.POST_METHOD, log));
+    }
+
+    /**
+     * Submits the commit logs using the provided function, which uploads a formatted log and returns the response
+     */
+    Optional<String> submit(UnaryOperator<String> upload){
+        if(buffer.isEmpty()){
+            return Optional.empty();
+        }
+
+        Buffer submitted = swap();
+        if(submitted.isEmpty()){
             return Optional.empty();
         }
 
-        String endPoint = getCommitLogEndPoint(engineUri, keyspace);
         try{
-            lock.writeLock().lock();
-            String response = EngineCommunicator.contactEngine(endPoint, REST.HttpConn.POST_METHOD, getFormattedLog().toString());
-            clear();
+            String response = upload.apply(submitted.format().toString());
             return Optional.of("Response from engine [" + response + "]");
-        } finally {
-            lock.writeLock().unlock();
+        } catch (RuntimeException e){
+            //Keep the data so it can be submitted again
+            addNewInstances(submitted.instanceCounts());
+            addNewAttributes(submitted.newAttributes);
+            throw e;
         }
     }
 
@@ -146,5 +175,33 @@ public class CommitLog {
         return Json.make(conceptByIndex);
     }
 
+    /**
+     * The instance count changes and new attributes of the commits since the last submission
+     */
+    private static class Buffer {
+        private final Map<ConceptId, LongAdder> newInstanceCount = new ConcurrentHashMap<>();
+        private final Set<Attribute> newAttributes = ConcurrentHashMap.newKeySet();
+
+        private void addNewAttributes(Set<Attribute> attributes){
+            newAttributes.addAll(attributes);
+        }
 
+        private void addNewInstances(Map<ConceptId, Long> instances){
+            instances.forEach((key, value) -> newInstanceCount.computeIfAbsent(key, k -> new LongAdder()).add(value));
+        }
+
+        private boolean isEmpty(){
+            return newInstanceCount.isEmpty() && newAttributes.isEmpty();
+        }
+
+        private Map<ConceptId, Long> instanceCounts(){
+            Map<ConceptId, Long> instanceCounts = new HashMap<>();
+            newInstanceCount.forEach((key, value) -> instanceCounts.put(key, value.sum()));
+            return instanceCounts;
+        }
+
+        private Json format(){
+            return formatLog(instanceCounts(), newAttributes);
+        }
+    }
 }
@@ -55,6 +55,7 @@ import ai.grakn.kb.internal.concept.SchemaConceptImpl;
 import ai.grakn.kb.internal.concept.TypeImpl;
 import ai.grakn.kb.internal.structure.EdgeElement;
 import ai.grakn.kb.internal.structure.VertexElement;
+import ai.grakn.util.CommonUtil;
 import ai.grakn.util.EngineCommunicator;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.REST;
@@ -86,6 +87,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 /**
@@ -193,9 +195,7 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
      */
     public abstract int numOpenTx();
 
-    /**
-     * Opens the thread bound transaction
-     */
+    @Override
     public void openTransaction(GraknTxType txType) {
         txCache().openTx(txType);
     }
@@ -278,6 +278,9 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
             resourceType.property(Schema.VertexProperty.IS_ABSTRACT, true);
             entityType.property(Schema.VertexProperty.IS_ABSTRACT, true);
 
+            //Marks the keyspace as holding the values of all its attributes on their edges, so they can be searched by value
+            type.property(Schema.VertexProperty.ATTRIBUTE_VALUES_ON_EDGES, true);
+
             relationType.addEdge(type, Schema.EdgeLabel.SUB);
             resourceType.addEdge(type, Schema.EdgeLabel.SUB);
             entityType.addEdge(type, Schema.EdgeLabel.SUB);
@@ -366,6 +369,7 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
     public void checkSchemaMutationAllowed() {
         checkMutationAllowed();
         if (isBatchTx()) throw GraknTxOperationException.schemaMutation();
+        txCache().schemaModified();
     }
 
     public void checkMutationAllowed() {
@@ -954,6 +958,51 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
         });
     }
 
+    @Override
+    public void putInstanceCountEstimates(Map<ConceptId, Long> instanceCounts) {
+        instanceCounts.forEach((key, value) -> {
+            ConceptImpl concept = getConcept(key);
+            if (concept == null) {
+                LOG.debug("Cannot record instance count of concept [" + key + "] due to it not existing in the graph");
+            } else {
+                concept.setInstanceCountEstimate(value);
+            }
+        });
+    }
+
+    @Override
+    public Optional<Long> getInstanceCountEstimate(Type type) {
+        List<Long> estimates = type.subs()
+                .map(sub -> TypeImpl.from(sub).getInstanceCountEstimate())
+                .flatMap(CommonUtil::optionalToStream)
+                .collect(toList());
+
+        if (estimates.isEmpty()) return Optional.empty();
+
+        return Optional.of(estimates.stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Override
+    public long getSchemaVersion() {
+        return txCache().schemaVersion();
+    }
+
+    @Override
+    public boolean hasUncommittedChanges() {
+        return txCache().hasModifications();
+    }
+
+    @Override
+    public boolean hasUncommittedSchemaChanges() {
+        return txCache().isSchemaModified();
+    }
+
+    @Override
+    public boolean hasAttributeValuesOnEdges() {
+        TypeImpl<?, ?> metaConcept = (TypeImpl<?, ?>) getMetaConcept();
+        return metaConcept.vertex().propertyBoolean(Schema.VertexProperty.ATTRIBUTE_VALUES_ON_EDGES);
+    }
+
     @Override
     public void shard(ConceptId conceptId) {
         ConceptImpl type = getConcept(conceptId);
@@ -963,4 +1012,14 @@ public abstract class GraknTxAbstract<G extends Graph> implements GraknTx, Grakn
             type.createShard();
         }
     }
+
+    @Override
+    public long rebalanceShards(ConceptId conceptId, long limit) {
+        ConceptImpl type = getConcept(conceptId);
+        if (type == null) {
+            LOG.warn("Cannot rebalance shards of concept [" + conceptId + "] due to it not existing in the graph");
+            return 0L;
+        }
+        return type.rebalanceShards(limit);
+    }
 }
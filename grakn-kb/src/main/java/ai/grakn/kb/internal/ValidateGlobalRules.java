@@ -46,10 +46,12 @@ import ai.grakn.util.CommonUtil;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.Schema;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -237,28 +239,39 @@ class ValidateGlobalRules {
 
     /**
      *
-     * @param thing The thing to be validated
-     * @return An error message if the thing does not have all the required resources
+     * @param type The {@link Type} whose instances are being validated
+     * @return The {@link Role}s which every instance of the {@link Type} must play exactly once, starting with those
+     * of the {@link Type} itself and followed by those of its super types
      */
-    static Optional<String> validateInstancePlaysAllRequiredRoles(Thing thing) {
-        TypeImpl<?, ?> currentConcept = (TypeImpl) thing.type();
+    static List<Role> requiredRoles(Type type) {
+        List<Role> requiredRoles = new ArrayList<>();
+        TypeImpl<?, ?> currentConcept = (TypeImpl) type;
 
         while(currentConcept != null){
+            currentConcept.directPlays().forEach((role, required) -> {
+                if(required) requiredRoles.add(role);
+            });
+            currentConcept = (TypeImpl) currentConcept.sup();
+        }
 
-            Map<Role, Boolean> plays = currentConcept.directPlays();
-            for (Map.Entry<Role, Boolean> playsEntry : plays.entrySet()) {
-                if(playsEntry.getValue()){
-                    Role role = playsEntry.getKey();
-                    // Assert there is a relation for this type
-                    Stream<Relationship> relations = thing.relationships(role);
-
-                    if(!CommonUtil.containsOnly(relations, 1)){
-                        Label resourceTypeLabel = Schema.ImplicitType.explicitLabel(role.getLabel());
-                        return Optional.of(VALIDATION_NOT_EXACTLY_ONE_KEY.getMessage(thing.getId(), resourceTypeLabel));
-                    }
-                }
+        return requiredRoles;
+    }
+
+    /**
+     *
+     * @param thing The thing to be validated
+     * @param requiredRoles The {@link Role}s the thing must play exactly once, as given by {@link #requiredRoles(Type)}
+     * @return An error message if the thing does not have all the required resources
+     */
+    static Optional<String> validateInstancePlaysAllRequiredRoles(Thing thing, List<Role> requiredRoles) {
+        for (Role role : requiredRoles) {
+            // Assert there is a relation for this type
+            Stream<Relationship> relations = thing.relationships(role);
+
+            if(!CommonUtil.containsOnly(relations, 1)){
+                Label resourceTypeLabel = Schema.ImplicitType.explicitLabel(role.getLabel());
+                return Optional.of(VALIDATION_NOT_EXACTLY_ONE_KEY.getMessage(thing.getId(), resourceTypeLabel));
             }
-            currentConcept = (TypeImpl) currentConcept.sup();
         }
         return Optional.empty();
     }
@@ -266,12 +279,12 @@ class ValidateGlobalRules {
     /**
      * @param graph graph used to ensure the {@link Relationship} is unique
      * @param relationReified The {@link Relationship} whose hash needs to be set.
+     * @param keys The keys of the {@link RelationshipType} of the {@link Relationship}
      * @return An error message if the {@link Relationship} is not unique.
      */
-    static Optional<String> validateRelationIsUnique(GraknTxAbstract<?> graph, RelationshipReified relationReified){
-        Iterator<AttributeType> keys = relationReified.type().keys().iterator();
-        if(keys.hasNext()){
-            return validateKeyControlledRelation(graph, relationReified, keys);
+    static Optional<String> validateRelationIsUnique(GraknTxAbstract<?> graph, RelationshipReified relationReified, List<AttributeType> keys){
+        if(!keys.isEmpty()){
+            return validateKeyControlledRelation(graph, relationReified, keys.iterator());
         } else {
             return validateNonKeyControlledRelation(graph, relationReified);
         }
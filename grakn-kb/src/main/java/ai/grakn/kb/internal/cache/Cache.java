@@ -22,7 +22,9 @@ import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Role;
 
 import javax.annotation.Nullable;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -43,6 +45,9 @@ import java.util.function.Supplier;
  *
  */
 public class Cache<V> {
+    //The caches holding a value for the transaction open on each thread, so only those are cleared when it closes
+    private static final ThreadLocal<Set<Cache<?>>> FILLED_IN_TX = ThreadLocal.withInitial(HashSet::new);
+
     //If no cache can produce the data then the database is read
     private final Supplier<V> databaseReader;
 
@@ -74,7 +79,7 @@ public class Cache<V> {
         if(value == null) value = databaseReader.get();
         if(value == null) return null;
 
-        valueTx.set(value);
+        set(value);
 
         return valueTx.get();
     }
@@ -92,9 +97,19 @@ public class Cache<V> {
      * @param value the value to be cached
      */
     public void set(@Nullable V value){
+        if(value != null && valueTx.get() == null) FILLED_IN_TX.get().add(this);
         valueTx.set(value);
     }
 
+    /**
+     * Clears every cache which has been given a value by the transaction open on the current thread.
+     */
+    static void clearAllInTx(){
+        Set<Cache<?>> caches = FILLED_IN_TX.get();
+        caches.forEach(Cache::clear);
+        caches.clear();
+    }
+
     /**
      *
      * @return true if there is anything stored in the cache
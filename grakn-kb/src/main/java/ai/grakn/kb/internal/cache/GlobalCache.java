@@ -25,12 +25,14 @@ import ai.grakn.kb.internal.GraknTxAbstract;
 import ai.grakn.kb.internal.concept.SchemaConceptImpl;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.collect.ImmutableMap;
 
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
  * <p>
@@ -48,6 +50,11 @@ import java.util.concurrent.TimeUnit;
  *     <ol/>
  * </p>
  *
+ * <p>
+ *     Transactions read both caches through an immutable {@link SchemaSnapshot}. A new snapshot is only built when
+ *     the caches change, so opening a transaction does not copy the schema.
+ * </p>
+ *
  * @author fppt
  *
  */
@@ -55,9 +62,17 @@ public class GlobalCache {
 
     public static final int DEFAULT_CACHE_TIMEOUT_MS = 600_000;
 
+    //Shared between all caches so that versions from different caches of the same keyspace can be compared
+    private static final AtomicLong SCHEMA_VERSIONS = new AtomicLong(0);
+
     //Caches
     private final Cache<Label, SchemaConcept> cachedTypes;
     private final Map<Label, LabelId> cachedLabels;
+    private volatile long schemaVersion = 0;
+
+    //The view of the caches given to new transactions, rebuilt lazily whenever the caches change
+    private volatile SchemaSnapshot schemaSnapshot = SchemaSnapshot.EMPTY;
+    private volatile boolean snapshotStale = false;
 
     public GlobalCache(Properties properties) {
         cachedLabels = new ConcurrentHashMap<>();
@@ -65,9 +80,13 @@ public class GlobalCache {
         int cacheTimeout = Integer.parseInt(properties
                 .getProperty(GraknTxAbstract.NORMAL_CACHE_TIMEOUT_MS,
                         String.valueOf(DEFAULT_CACHE_TIMEOUT_MS)));
+        //Transactions read types from the snapshot rather than from this cache, so reads would never count as accesses
         cachedTypes = CacheBuilder.newBuilder()
                 .maximumSize(1000)
-                .expireAfterAccess(cacheTimeout, TimeUnit.MILLISECONDS)
+                .expireAfterWrite(cacheTimeout, TimeUnit.MILLISECONDS)
+                .removalListener(notification -> {
+                    if (notification.wasEvicted()) snapshotStale = true;
+                })
                 .build();
     }
 
@@ -77,8 +96,9 @@ public class GlobalCache {
      * @param label The label of the type to cache
      * @param type The type to cache
      */
-    public void cacheType(Label label, SchemaConcept type) {
+    public synchronized void cacheType(Label label, SchemaConcept type) {
         cachedTypes.put(label, type);
+        snapshotStale = true;
     }
 
     /**
@@ -88,8 +108,8 @@ public class GlobalCache {
      * @param label The label of the type to cache
      * @param id The id of the type to cache
      */
-    public void cacheLabel(Label label, LabelId id) {
-        cachedLabels.put(label, id);
+    public synchronized void cacheLabel(Label label, LabelId id) {
+        if (!id.equals(cachedLabels.put(label, id))) snapshotStale = true;
     }
 
     /**
@@ -99,31 +119,80 @@ public class GlobalCache {
      *
      * @param txCache The transaction cache
      */
-    void readTxCache(TxCache txCache) {
-        //TODO: The difference between the caches need to be taken into account. For example if a type is delete then it should be removed from the cachedLabels
+    synchronized void readTxCache(TxCache txCache) {
+        Set<Label> removedLabels = txCache.getRemovedLabels().stream()
+                .filter(label -> !txCache.getLabelCache().containsKey(label))
+                .collect(Collectors.toSet());
+
+        boolean schemaChanged = removedLabels.stream().anyMatch(cachedLabels::containsKey) ||
+                txCache.getLabelCache().entrySet().stream()
+                        .anyMatch(entry -> !entry.getValue().equals(cachedLabels.get(entry.getKey())));
+
+        boolean typesChanged = removedLabels.stream().anyMatch(label -> cachedTypes.getIfPresent(label) != null) ||
+                txCache.getSchemaConceptCache().entrySet().stream()
+                        .anyMatch(entry -> entry.getValue() != cachedTypes.getIfPresent(entry.getKey()));
+
+        //Deleted and relabelled types must no longer be found using their old label
+        removedLabels.forEach(cachedLabels::remove);
+        cachedTypes.invalidateAll(removedLabels);
+
         cachedLabels.putAll(txCache.getLabelCache());
         cachedTypes.putAll(txCache.getSchemaConceptCache());
 
         //Flush All The Internal Transaction Caches
-        txCache.getSchemaConceptCache().values().forEach(schemaConcept
+        txCache.getSchemaConcepts().forEach(schemaConcept
                 -> SchemaConceptImpl.from(schemaConcept).txCacheFlush());
+
+        if (schemaChanged || typesChanged) snapshotStale = true;
+        //Any change to the schema, such as a new super type or rule, can change what is derived from it
+        if (schemaChanged || txCache.isSchemaModified()) schemaVersion = SCHEMA_VERSIONS.incrementAndGet();
+    }
+
+    /**
+     * The version of the schema held in this cache. Versions only ever increase, so a larger version indicates a more
+     * recent schema change.
+     *
+     * @return the version of the cached schema
+     */
+    public long getSchemaVersion() {
+        return schemaVersion;
+    }
+
+    /**
+     * The current view of the cached schema. This is used when creating a new transaction.
+     *
+     * @return an immutable snapshot of the cached schema and labels
+     */
+    SchemaSnapshot getSchemaSnapshot() {
+        //Expired types are only evicted when the cache is maintained
+        cachedTypes.cleanUp();
+        if (!snapshotStale) return schemaSnapshot;
+
+        synchronized (this) {
+            if (snapshotStale) {
+                //Cleared before reading the caches so that a concurrent eviction marks the new snapshot as stale
+                snapshotStale = false;
+                schemaSnapshot = new SchemaSnapshot(cachedTypes.asMap(), cachedLabels);
+            }
+            return schemaSnapshot;
+        }
     }
 
     /**
-     * A copy of the cached labels. This is used when creating a new transaction.
+     * The cached labels. This is used when creating a new transaction.
      *
-     * @return an immutable copy of the cached labels.
+     * @return an immutable view of the cached labels.
      */
     Map<Label, LabelId> getCachedLabels() {
-        return ImmutableMap.copyOf(cachedLabels);
+        return getSchemaSnapshot().labels();
     }
 
     /**
-     * A copy of the cached schema. This is used when creating a new transaction.
+     * The cached schema. This is used when creating a new transaction.
      *
-     * @return an immutable copy of the cached schema.
+     * @return an immutable view of the cached schema.
      */
     public Map<Label, SchemaConcept> getCachedTypes() {
-        return ImmutableMap.copyOf(cachedTypes.asMap());
+        return getSchemaSnapshot().types();
     }
 }
@@ -0,0 +1,89 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal.cache;
+
+import ai.grakn.concept.ConceptId;
+import ai.grakn.concept.Label;
+import ai.grakn.concept.LabelId;
+import ai.grakn.concept.SchemaConcept;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ *     An immutable view of the {@link GlobalCache}
+ * </p>
+ *
+ * <p>
+ *     A snapshot is published by the {@link GlobalCache} whenever the cached schema changes. Transactions pin the
+ *     latest snapshot by reference when they open and keep any changes they make in their own {@link TxCache}, so
+ *     opening a transaction does not copy the schema.
+ * </p>
+ *
+ */
+class SchemaSnapshot {
+    static final SchemaSnapshot EMPTY = new SchemaSnapshot(ImmutableMap.of(), ImmutableMap.of());
+
+    private final ImmutableMap<Label, SchemaConcept> types;
+    private final ImmutableMap<ConceptId, SchemaConcept> typesById;
+    private final ImmutableMap<Label, LabelId> labels;
+
+    SchemaSnapshot(Map<Label, SchemaConcept> types, Map<Label, LabelId> labels){
+        this.types = ImmutableMap.copyOf(types);
+        this.labels = ImmutableMap.copyOf(labels);
+
+        Map<ConceptId, SchemaConcept> typesById = new HashMap<>();
+        types.values().forEach(type -> typesById.put(type.getId(), type));
+        this.typesById = ImmutableMap.copyOf(typesById);
+    }
+
+    /**
+     *
+     * @return All the cached types, indexed by their {@link Label}
+     */
+    ImmutableMap<Label, SchemaConcept> types(){
+        return types;
+    }
+
+    /**
+     *
+     * @return All the cached types, indexed by their {@link ConceptId}
+     */
+    ImmutableMap<ConceptId, SchemaConcept> typesById(){
+        return typesById;
+    }
+
+    /**
+     *
+     * @return All the cached labels and the ids they map to
+     */
+    ImmutableMap<Label, LabelId> labels(){
+        return labels;
+    }
+
+    /**
+     *
+     * @return true if no labels are cached. The graph cannot operate using an empty snapshot.
+     */
+    boolean isEmpty(){
+        return labels.isEmpty();
+    }
+}
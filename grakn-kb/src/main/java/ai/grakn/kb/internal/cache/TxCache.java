@@ -33,10 +33,12 @@ import ai.grakn.concept.SchemaConcept;
 import ai.grakn.kb.internal.concept.RelationshipReified;
 import ai.grakn.kb.internal.structure.Casting;
 
+import javax.annotation.Nullable;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -66,6 +68,11 @@ public class TxCache {
     private final Map<Label, SchemaConcept> schemaConceptCache = new HashMap<>();
     private final Map<Label, LabelId> labelCache = new HashMap<>();
 
+    //The shared schema pinned when the transaction opened. The caches above hold anything this transaction changes.
+    private SchemaSnapshot schemaSnapshot = null;
+    private final Set<Label> removedLabels = new HashSet<>();
+    private final Set<ConceptId> removedSchemaConcepts = new HashSet<>();
+
     //Elements Tracked For Validation
     private final Set<Entity> modifiedEntities = new HashSet<>();
 
@@ -89,6 +96,8 @@ public class TxCache {
     private boolean isTxOpen = false;
     private GraknTxType txType;
     private String closedReason = null;
+    private long schemaVersion = 0;
+    private boolean schemaModified = false;
 
     public TxCache(GlobalCache globalCache) {
         this.globalCache = globalCache;
@@ -101,7 +110,10 @@ public class TxCache {
      */
     public void writeToGraphCache(boolean isSafe){
         //When a commit has occurred or a graph is read only all types can be overridden this is because we know they are valid.
-        if(isSafe) globalCache.readTxCache(this);
+        //A read only transaction which only used the pinned snapshot has nothing to add, so the central cache is left alone.
+        if(isSafe && !(GraknTxType.READ.equals(txType) && schemaConceptCache.isEmpty() && labelCache.isEmpty())) {
+            globalCache.readTxCache(this);
+        }
 
         //When a commit has not occurred some checks are required
         //TODO: Fill our cache when not committing and when not read only graph.
@@ -112,26 +124,17 @@ public class TxCache {
      * @return true if ths schema labels have been cached. The graph cannot operate if this is false.
      */
     public boolean schemaNotCached(){
-        return labelCache.isEmpty();
+        return schemaSnapshot == null || (schemaSnapshot.isEmpty() && labelCache.isEmpty());
     }
 
     /**
-     * Refreshes the transaction schema cache by reading the central schema cache is read into this transaction cache.
-     * This method performs this operation whilst making a deep clone of the cached concepts to ensure transactions
-     * do not accidentally break the central schema cache.
+     * Refreshes the transaction schema cache by pinning the latest {@link SchemaSnapshot} of the central schema cache.
+     * The snapshot is shared by reference. Any schema concept this transaction builds, changes or deletes is tracked
+     * in this transaction cache instead, which takes precedence over the snapshot.
      *
      */
     public void refreshSchemaCache(){
-        Map<Label, SchemaConcept> cachedSchemaSnapshot = globalCache.getCachedTypes();
-        Map<Label, LabelId> cachedLabelsSnapshot = globalCache.getCachedLabels();
-
-        //Read central cache into txCache cloning only base concepts. Sets clones later
-        for (SchemaConcept type : cachedSchemaSnapshot.values()) {
-            cacheConcept(type);
-        }
-
-        //Load Labels Separately. We do this because the TypeCache may have expired.
-        cachedLabelsSnapshot.forEach(this::cacheLabel);
+        schemaSnapshot = globalCache.getSchemaSnapshot();
     }
 
     /**
@@ -192,6 +195,25 @@ public class TxCache {
         return labelCache;
     }
 
+    /**
+     *
+     * @return The labels of the types which have been deleted or relabelled in the transaction.
+     */
+    Set<Label> getRemovedLabels(){
+        return removedLabels;
+    }
+
+    /**
+     *
+     * @return All the types visible to the transaction, both those cached in the transaction and in the pinned snapshot.
+     */
+    Stream<SchemaConcept> getSchemaConcepts(){
+        Stream<SchemaConcept> pinned = schemaSnapshot == null ? Stream.empty() : schemaSnapshot.types().entrySet().stream()
+                .filter(entry -> !removedLabels.contains(entry.getKey()) && !schemaConceptCache.containsKey(entry.getKey()))
+                .map(Map.Entry::getValue);
+        return Stream.concat(schemaConceptCache.values().stream(), pinned);
+    }
+
     /**
      *
      * @return All the concepts which have been accessed in this transaction
@@ -218,6 +240,8 @@ public class TxCache {
             Label label = concept.asSchemaConcept().getLabel();
             schemaConceptCache.remove(label);
             labelCache.remove(label);
+            removedLabels.add(label);
+            removedSchemaConcepts.add(concept.getId());
         }
     }
 
@@ -241,20 +265,12 @@ public class TxCache {
             SchemaConcept schemaConcept = concept.asSchemaConcept();
             schemaConceptCache.put(schemaConcept.getLabel(), schemaConcept);
             labelCache.put(schemaConcept.getLabel(), schemaConcept.getLabelId());
+            removedLabels.remove(schemaConcept.getLabel());
+            removedSchemaConcepts.remove(schemaConcept.getId());
         }
     }
 
 
-    /**
-     * Caches the mapping of a type label to a type id. This is necessary in order for ANY types to be looked up.
-     *
-     * @param label The type label to cache
-     * @param id Its equivalent id which can be looked up quickly in the graph
-     */
-    private void cacheLabel(Label label, LabelId id){
-        labelCache.put(label, id);
-    }
-
     /**
      * Checks if the concept has been built before and is currently cached
      *
@@ -262,7 +278,7 @@ public class TxCache {
      * @return true if the concept is cached
      */
     public boolean isConceptCached(ConceptId id){
-        return conceptCache.containsKey(id);
+        return conceptCache.containsKey(id) || getPinnedSchemaConcept(id) != null;
     }
 
     /**
@@ -271,7 +287,7 @@ public class TxCache {
      * @return true if the concept is cached
      */
     public boolean isTypeCached(Label label){
-        return schemaConceptCache.containsKey(label);
+        return schemaConceptCache.containsKey(label) || getPinnedSchemaConcept(label) != null;
     }
 
     /**
@@ -280,7 +296,7 @@ public class TxCache {
      * @return true if the label is cached and has a valid mapping to a id
      */
     public boolean isLabelCached(Label label){
-        return labelCache.containsKey(label);
+        return labelCache.containsKey(label) || getPinnedLabelId(label) != null;
     }
 
     /**
@@ -291,8 +307,10 @@ public class TxCache {
      * @return The cached concept
      */
     public <X extends Concept> X getCachedConcept(ConceptId id){
+        Concept concept = conceptCache.get(id);
+        if(concept == null) concept = getPinnedSchemaConcept(id);
         //noinspection unchecked
-        return (X) conceptCache.get(id);
+        return (X) concept;
     }
 
     /**
@@ -303,12 +321,34 @@ public class TxCache {
      * @return The cached type
      */
     public <X extends SchemaConcept> X getCachedSchemaConcept(Label label){
+        SchemaConcept schemaConcept = schemaConceptCache.get(label);
+        if(schemaConcept == null) schemaConcept = getPinnedSchemaConcept(label);
         //noinspection unchecked
-        return (X) schemaConceptCache.get(label);
+        return (X) schemaConcept;
     }
 
     public LabelId convertLabelToId(Label label){
-        return labelCache.get(label);
+        LabelId labelId = labelCache.get(label);
+        if(labelId == null) labelId = getPinnedLabelId(label);
+        return labelId;
+    }
+
+    @Nullable
+    private SchemaConcept getPinnedSchemaConcept(ConceptId id){
+        if(schemaSnapshot == null || removedSchemaConcepts.contains(id)) return null;
+        return schemaSnapshot.typesById().get(id);
+    }
+
+    @Nullable
+    private SchemaConcept getPinnedSchemaConcept(Label label){
+        if(schemaSnapshot == null || removedLabels.contains(label)) return null;
+        return schemaSnapshot.types().get(label);
+    }
+
+    @Nullable
+    private LabelId getPinnedLabelId(Label label){
+        if(schemaSnapshot == null || removedLabels.contains(label)) return null;
+        return schemaSnapshot.labels().get(label);
     }
 
     public void addedInstance(ConceptId conceptId){
@@ -323,6 +363,41 @@ public class TxCache {
         if(shardingCount.get(conceptId) == 0) shardingCount.remove(conceptId);
     }
 
+    /**
+     *
+     * @return true if the transaction has added, changed or removed anything which has not been committed yet
+     */
+    public boolean hasModifications(){
+        return !modifiedEntities.isEmpty() || !modifiedRoles.isEmpty() || !modifiedCastings.isEmpty() ||
+                !modifiedRelationshipTypes.isEmpty() || !modifiedRelationships.isEmpty() ||
+                !modifiedRules.isEmpty() || !modifiedAttributes.isEmpty() || !shardingCount.isEmpty() ||
+                !removedLabels.isEmpty() || !removedSchemaConcepts.isEmpty();
+    }
+
+    /**
+     * Records that a {@link SchemaConcept} has been built, changed or deleted in this transaction, so committing the
+     * transaction changes the version of the schema.
+     */
+    public void schemaModified(){
+        schemaModified = true;
+    }
+
+    /**
+     *
+     * @return true if a {@link SchemaConcept} has been built, changed or deleted in this transaction
+     */
+    public boolean isSchemaModified(){
+        return schemaModified;
+    }
+
+    /**
+     *
+     * @return the version of the central schema cache when this transaction was opened
+     */
+    public long schemaVersion(){
+        return schemaVersion;
+    }
+
     //--------------------------------------- Concepts Needed For Validation -------------------------------------------
     public Set<Entity> getModifiedEntities() {
         return modifiedEntities;
@@ -356,8 +431,9 @@ public class TxCache {
         isTxOpen = false;
         this.closedReason = closedReason;
 
-        //Clear Concept Caches
+        //Clear Concept Caches. Only the snapshot concepts this transaction actually read are holding anything.
         conceptCache.values().forEach(concept -> ContainsTxCache.from(concept).txCacheClear());
+        Cache.clearAllInTx();
 
         //Clear Collection Caches
         modifiedEntities.clear();
@@ -372,11 +448,17 @@ public class TxCache {
         conceptCache.clear();
         schemaConceptCache.clear();
         labelCache.clear();
+        removedLabels.clear();
+        removedSchemaConcepts.clear();
+        schemaSnapshot = null;
+        schemaModified = false;
     }
     public void openTx(GraknTxType txType){
         isTxOpen = true;
         this.txType = txType;
         closedReason = null;
+        //Read before the schema is first pinned, so the pinned schema is never older than this version
+        schemaVersion = globalCache.getSchemaVersion();
     }
     public boolean isTxOpen(){
         return isTxOpen;
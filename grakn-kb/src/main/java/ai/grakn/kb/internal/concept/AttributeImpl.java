@@ -94,6 +94,10 @@ public class AttributeImpl<D> extends ThingImpl<Attribute<D>, AttributeType<D>>
         Schema.VertexProperty property = dataType().getVertexProperty();
         //noinspection unchecked
         vertex().propertyImmutable(property, value, vertex().property(property));
+
+        //The value is also held on the isa edge, so the shards of the type can be searched by value
+        Schema.EdgeProperty.ofValue(property).ifPresent(edgeProperty ->
+                vertex().getEdgesOfType(Direction.OUT, Schema.EdgeLabel.ISA).forEach(isa -> isa.property(edgeProperty, value)));
     }
 
     /**
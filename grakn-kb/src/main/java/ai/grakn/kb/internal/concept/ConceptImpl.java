@@ -32,7 +32,9 @@ import ai.grakn.util.Schema;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
@@ -221,12 +223,45 @@ public abstract class ConceptImpl implements Concept, ConceptVertex, ContainsTxC
         return currentShard.get();
     }
 
+    /**
+     * Spreads the concepts linked to the older shards onto the current shard. An equal number of concepts is taken
+     * from each older shard, so shards which were filled evenly remain even.
+     *
+     * @param limit The maximum number of concepts to move
+     * @return The number of concepts which were moved
+     */
+    public long rebalanceShards(long limit){
+        Shard current = currentShard();
+        List<Shard> olderShards = shards().filter(shard -> !shard.equals(current)).collect(Collectors.toList());
+        if(olderShards.isEmpty()) return 0L;
+
+        long movesPerShard = (limit + olderShards.size() - 1) / olderShards.size();
+        long moved = 0L;
+        for (Shard shard : olderShards) {
+            moved += shard.moveLinks(current, Math.min(movesPerShard, limit - moved));
+            if(moved >= limit) break;
+        }
+        return moved;
+    }
+
     public long getShardCount(){
         Long value = vertex().property(Schema.VertexProperty.SHARD_COUNT);
         if(value == null) return 0L;
         return value;
     }
 
+    /**
+     *
+     * @return The estimated number of direct instances of this concept, if an estimate has been recorded
+     */
+    public Optional<Long> getInstanceCountEstimate(){
+        return Optional.ofNullable(vertex().property(Schema.VertexProperty.INSTANCE_COUNT_ESTIMATE));
+    }
+
+    public void setInstanceCountEstimate(Long instanceCount){
+        vertex().property(Schema.VertexProperty.INSTANCE_COUNT_ESTIMATE, instanceCount);
+    }
+
     public void setShardCount(Long instanceCount){
         vertex().property(Schema.VertexProperty.SHARD_COUNT, instanceCount);
     }
@@ -79,8 +79,8 @@ public final class ElementFactory {
 
         X concept = tx.txCache().getCachedConcept(conceptId);
 
-        //Only track concepts which have been modified.
-        if(tx.isConceptModified(concept)) {
+        //Only track concepts which have been modified. Nothing can be modified in a read only transaction.
+        if(!tx.isReadOnly() && tx.isConceptModified(concept)) {
             tx.txCache().trackForValidation(concept);
         }
 
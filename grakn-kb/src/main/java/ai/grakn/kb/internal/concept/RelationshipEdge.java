@@ -87,11 +87,23 @@ public class RelationshipEdge implements RelationshipStructure {
         edgeElement.propertyImmutable(Schema.EdgeProperty.RELATIONSHIP_ROLE_VALUE_LABEL_ID, valueRole, null, v -> v.getLabelId().getValue());
         edgeElement.propertyImmutable(Schema.EdgeProperty.RELATIONSHIP_TYPE_LABEL_ID, relationshipType, null, t -> t.getLabelId().getValue());
 
+        //The value of the attribute is also held on the edge, so the attributes of an owner can be searched by value
+        edgeElement.target().ifPresent(value -> copyValue(value, edgeElement));
+
         this.relationType.set(relationshipType);
         this.ownerRole.set(ownerRole);
         this.valueRole.set(valueRole);
     }
 
+    private static void copyValue(VertexElement value, EdgeElement edge){
+        for (Schema.VertexProperty property : Schema.VertexProperty.values()) {
+            Schema.EdgeProperty.ofValue(property).ifPresent(edgeProperty -> {
+                Object found = value.property(property);
+                if (found != null) edge.property(edgeProperty, found);
+            });
+        }
+    }
+
     private EdgeElement edge(){
         return edgeElement;
     }
@@ -83,6 +83,7 @@ public abstract class SchemaConceptImpl<T extends SchemaConcept> extends Concept
     public T setLabel(Label label){
         try {
             vertex().tx().txCache().remove(this);
+            vertex().tx().txCache().schemaModified();
             vertex().propertyUnique(Schema.VertexProperty.SCHEMA_LABEL, label.getValue());
             cachedLabel.set(label);
             vertex().tx().txCache().cacheConcept(this);
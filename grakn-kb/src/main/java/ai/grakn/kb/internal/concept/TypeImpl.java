@@ -233,7 +233,7 @@ public class TypeImpl<T extends Type, V extends Thing> extends SchemaConceptImpl
     }
     @Override
     boolean deletionAllowed(){
-        return super.deletionAllowed() && !currentShard().links().findAny().isPresent();
+        return super.deletionAllowed() && shards().noneMatch(shard -> shard.links().findAny().isPresent());
     }
 
     /**
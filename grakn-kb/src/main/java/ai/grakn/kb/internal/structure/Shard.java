@@ -24,6 +24,10 @@ import ai.grakn.util.CommonUtil;
 import ai.grakn.util.Schema;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -40,6 +44,11 @@ import java.util.stream.Stream;
  * @author fppt
  */
 public class Shard {
+    private static final Set<Schema.EdgeProperty> VALUE_PROPERTIES = Arrays.stream(Schema.VertexProperty.values())
+            .map(Schema.EdgeProperty::ofValue)
+            .flatMap(CommonUtil::optionalToStream)
+            .collect(Collectors.toSet());
+
     private final VertexElement vertexElement;
 
     public Shard(ConceptImpl owner, VertexElement vertexElement){
@@ -92,6 +101,36 @@ public class Shard {
                 flatMap(CommonUtil::optionalToStream);
     }
 
+    /**
+     * Moves concepts linked to this shard onto another shard.
+     *
+     * @param target The shard the concepts should be linked to instead
+     * @param limit The maximum number of concepts to move
+     * @return The number of concepts which were moved
+     */
+    public long moveLinks(Shard target, long limit){
+        List<EdgeElement> links = vertex().getEdgesOfType(Direction.IN, Schema.EdgeLabel.ISA).
+                limit(limit).collect(Collectors.toList());
+
+        links.forEach(link -> link.source().ifPresent(concept -> {
+            EdgeElement moved = concept.addEdge(target.vertex(), Schema.EdgeLabel.ISA);
+            copyValue(link, moved);
+            link.delete();
+        }));
+
+        return links.size();
+    }
+
+    /**
+     * Copies the value of an attribute held on one of its isa edges onto another
+     */
+    private static void copyValue(EdgeElement from, EdgeElement to){
+        for (Schema.EdgeProperty property : VALUE_PROPERTIES) {
+            Object value = from.property(property);
+            if (value != null) to.property(property, value);
+        }
+    }
+
     /**
      *
      * @return The hash code of the underlying vertex
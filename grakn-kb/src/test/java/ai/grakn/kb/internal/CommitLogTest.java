@@ -0,0 +1,106 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.kb.internal;
+
+import ai.grakn.concept.Attribute;
+import ai.grakn.concept.AttributeType;
+import ai.grakn.concept.ConceptId;
+import ai.grakn.util.REST;
+import ai.grakn.util.Schema;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import mjson.Json;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CommitLogTest extends TxTestBase {
+
+    private static final ConceptId T1 = ConceptId.of("t1");
+    private static final ConceptId T2 = ConceptId.of("t2");
+
+    private final CommitLog commitLog = new CommitLog();
+
+    @Test
+    public void whenDataIsAddedDuringASubmission_ItIsKeptForTheNextSubmission() {
+        commitLog.addNewInstances(ImmutableMap.of(T1, 2L));
+
+        Map<ConceptId, Long> uploaded = new HashMap<>();
+        commitLog.submit(log -> {
+            commitLog.addNewInstances(ImmutableMap.of(T1, 3L, T2, 1L));
+            uploaded.putAll(countsOf(Json.read(log)));
+            return "ok";
+        });
+
+        assertEquals(ImmutableMap.of(T1, 2L), uploaded);
+        assertEquals(ImmutableMap.of(T1, 3L, T2, 1L), countsOf(commitLog.getFormattedLog()));
+    }
+
+    @Test
+    public void whenASubmissionFails_ItsDataIsMergedIntoTheNextSubmission() {
+        AttributeType<String> attributeType = tx.putAttributeType("name", AttributeType.DataType.STRING);
+        Attribute<String> bob = attributeType.putAttribute("Bob");
+        Attribute<String> alice = attributeType.putAttribute("Alice");
+
+        commitLog.addNewInstances(ImmutableMap.of(T1, 2L));
+        commitLog.addNewAttributes(ImmutableSet.of(bob));
+
+        try {
+            commitLog.submit(log -> {
+                commitLog.addNewInstances(ImmutableMap.of(T1, 3L, T2, 1L));
+                commitLog.addNewAttributes(ImmutableSet.of(alice));
+                throw new RuntimeException("Engine is unavailable");
+            });
+            fail("The failure of the upload should be thrown");
+        } catch (RuntimeException e) {
+            assertEquals("Engine is unavailable", e.getMessage());
+        }
+
+        Json log = commitLog.getFormattedLog();
+        assertEquals(ImmutableMap.of(T1, 5L, T2, 1L), countsOf(log));
+        Json attributes = log.at(REST.Request.COMMIT_LOG_FIXING).at(Schema.BaseType.ATTRIBUTE.name());
+        assertEquals(2, attributes.asJsonMap().size());
+    }
+
+    @Test
+    public void whenTheLogIsEmpty_NothingIsSubmitted() {
+        Optional<String> response = commitLog.submit(log -> {
+            fail("An empty log should not be uploaded");
+            return "ok";
+        });
+
+        assertFalse(response.isPresent());
+        assertTrue(countsOf(commitLog.getFormattedLog()).isEmpty());
+    }
+
+    private static Map<ConceptId, Long> countsOf(Json log) {
+        Map<ConceptId, Long> counts = new HashMap<>();
+        log.at(REST.Request.COMMIT_LOG_COUNTING).asJsonList().forEach(count -> counts.put(
+                ConceptId.of(count.at(REST.Request.COMMIT_LOG_CONCEPT_ID).asString()),
+                count.at(REST.Request.COMMIT_LOG_SHARDING_COUNT).asLong()));
+        return counts;
+    }
+}
@@ -33,6 +33,7 @@ import ai.grakn.concept.SchemaConcept;
 import ai.grakn.exception.GraknTxOperationException;
 import ai.grakn.exception.InvalidKBException;
 import ai.grakn.kb.internal.concept.EntityTypeImpl;
+import ai.grakn.kb.internal.concept.TypeImpl;
 import ai.grakn.kb.internal.structure.Shard;
 import ai.grakn.util.ErrorMessage;
 import ai.grakn.util.Schema;
@@ -42,6 +43,7 @@ import org.junit.Test;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -54,9 +56,12 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -232,6 +237,119 @@ public class GraknTxTest extends TxTestBase {
         assertTrue("Main cache was affected by transaction", foundE1.asType().plays().anyMatch(role -> role.equals(r1)));
     }
 
+    @Test
+    public void whenCommittingSchemaChanges_TheSchemaVersionIncreases(){
+        long version = tx.admin().getSchemaVersion();
+
+        tx.putEntityType("e1");
+        tx.commit();
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+
+        long newVersion = tx.admin().getSchemaVersion();
+        assertThat(newVersion, greaterThan(version));
+
+        tx.getEntityType("e1").addEntity();
+        tx.commit();
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+
+        assertEquals(newVersion, tx.admin().getSchemaVersion());
+    }
+
+    @Test
+    public void whenCommittingANewSuperType_TheSchemaVersionIncreases(){
+        tx.putEntityType("e1");
+        tx.putEntityType("e2");
+        tx.commit();
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+        long version = tx.admin().getSchemaVersion();
+
+        tx.getEntityType("e2").sup(tx.getEntityType("e1"));
+        tx.commit();
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+
+        assertThat(tx.admin().getSchemaVersion(), greaterThan(version));
+    }
+
+    @Test
+    public void whenRelabellingAType_TheTransactionHasUncommittedSchemaChanges(){
+        tx.putEntityType("e1");
+        tx.commit();
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+        assertFalse(tx.admin().hasUncommittedSchemaChanges());
+
+        tx.getEntityType("e1").setLabel(Label.of("e2"));
+
+        assertTrue(tx.admin().hasUncommittedSchemaChanges());
+    }
+
+    @Test
+    public void whenAddingInstances_TheTransactionHasNoUncommittedSchemaChanges(){
+        tx.putEntityType("e1");
+        tx.commit();
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+
+        tx.getEntityType("e1").addEntity();
+
+        assertTrue(tx.admin().hasUncommittedChanges());
+        assertFalse(tx.admin().hasUncommittedSchemaChanges());
+    }
+
+    @Test
+    public void whenCreatingAKeyspace_TheValuesOfItsAttributesAreOnEdges(){
+        assertTrue(tx.admin().hasAttributeValuesOnEdges());
+    }
+
+    @Test
+    public void whenAKeyspaceIsNotMarkedAsHoldingValuesOnEdges_TheValuesOfItsAttributesAreNotOnEdges(){
+        ((TypeImpl<?, ?>) tx.admin().getMetaConcept()).vertex().property(Schema.VertexProperty.ATTRIBUTE_VALUES_ON_EDGES, null);
+        assertFalse(tx.admin().hasAttributeValuesOnEdges());
+    }
+
+    @Test
+    public void whenTheSchemaChangesAfterATransactionIsOpened_TheTransactionKeepsItsSchemaVersion() throws ExecutionException, InterruptedException {
+        long version = tx.admin().getSchemaVersion();
+
+        Executors.newSingleThreadExecutor().submit(() -> {
+            GraknTx innerGraph = Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+            innerGraph.putEntityType("e1");
+            innerGraph.commit();
+        }).get();
+
+        assertEquals(version, tx.admin().getSchemaVersion());
+    }
+
+    @Test
+    public void whenDeletingATypeAndCommitting_TheTypeIsRemovedFromTheCentralCache(){
+        tx.putEntityType("e1");
+        tx.commit();
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+        assertTrue(tx.getGlobalCache().getCachedTypes().containsKey(Label.of("e1")));
+
+        tx.getEntityType("e1").delete();
+        assertNull(tx.getEntityType("e1"));
+        tx.commit();
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+
+        assertFalse(tx.getGlobalCache().getCachedTypes().containsKey(Label.of("e1")));
+        assertFalse(tx.getGlobalCache().getCachedLabels().containsKey(Label.of("e1")));
+        assertNull(tx.getEntityType("e1"));
+    }
+
+    @Test
+    public void whenOpeningTransactionsWithoutSchemaChanges_TheSameSchemaSnapshotIsShared(){
+        EntityType entityType = tx.putEntityType("e1");
+        tx.commit();
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+        Map<Label, SchemaConcept> cachedTypes = tx.getGlobalCache().getCachedTypes();
+
+        tx.getEntityType("e1").addEntity();
+        tx.commit();
+        tx = (GraknTxAbstract<?>) Grakn.session(Grakn.IN_MEMORY, tx.getKeyspace()).open(GraknTxType.WRITE);
+
+        assertSame(cachedTypes, tx.getGlobalCache().getCachedTypes());
+        assertEquals(entityType, tx.getEntityType("e1"));
+    }
+
     @Test
     public void whenClosingAGraphWhichWasJustCommitted_DoNothing(){
         tx.commit();
@@ -368,6 +486,25 @@ public class GraknTxTest extends TxTestBase {
         assertThat(s3.links().collect(Collectors.toSet()), containsInAnyOrder(s3_e1, s3_e2));
     }
 
+    @Test
+    public void whenRebalancingShards_EnsureInstancesAreMovedFromOlderShardsToCurrentShard(){
+        EntityTypeImpl entityType = (EntityTypeImpl) tx.putEntityType("The Special Type");
+        Shard s1 = entityType.currentShard();
+        Set<Entity> instances = new HashSet<>();
+        for(int i = 0; i < 4; i++) instances.add(entityType.addEntity());
+
+        tx.admin().shard(entityType.getId());
+        Shard s2 = entityType.currentShard();
+
+        assertEquals(2L, tx.admin().rebalanceShards(entityType.getId(), 2));
+        assertEquals(2L, s1.links().count());
+        assertEquals(2L, s2.links().count());
+
+        //Instances are still instances of the type after being moved
+        assertEquals(instances, entityType.instances().collect(Collectors.toSet()));
+        instances.forEach(instance -> assertEquals(entityType, instance.type()));
+    }
+
     @Test
     public void whenCreatingAValidSchemaInSeparateThreads_EnsureValidationRulesHold() throws ExecutionException, InterruptedException {
         GraknSession session = Grakn.session(Grakn.IN_MEMORY, "hi");
@@ -44,6 +44,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static java.util.stream.Collectors.toSet;
@@ -211,6 +212,44 @@ public class PostProcessingTest extends TxTestBase {
         assertEquals(5L, t3.getShardCount());
     }
 
+    @Test
+    public void whenRecordingInstanceCountEstimates_TheEstimateOfATypeIncludesItsSubTypes() {
+        EntityType t1 = tx.putEntityType("t1");
+        EntityType t2 = tx.putEntityType("t2").sup(t1);
+        EntityType t3 = tx.putEntityType("t3");
+
+        Map<ConceptId, Long> estimates = new HashMap<>();
+        estimates.put(t1.getId(), 5L);
+        estimates.put(t2.getId(), 6L);
+
+        tx.admin().putInstanceCountEstimates(estimates);
+        assertEquals(Optional.of(11L), tx.admin().getInstanceCountEstimate(t1));
+        assertEquals(Optional.of(6L), tx.admin().getInstanceCountEstimate(t2));
+        assertEquals(Optional.empty(), tx.admin().getInstanceCountEstimate(t3));
+
+        //Recording again replaces the previous estimate
+        estimates.put(t2.getId(), 2L);
+        tx.admin().putInstanceCountEstimates(estimates);
+        assertEquals(Optional.of(7L), tx.admin().getInstanceCountEstimate(t1));
+    }
+
+    @Test
+    public void whenRecordingInstanceCountEstimates_TheShardCountIsUnchanged() {
+        EntityTypeImpl t1 = (EntityTypeImpl) tx.putEntityType("t1");
+
+        Map<ConceptId, Long> counts = new HashMap<>();
+        counts.put(t1.getId(), 3L);
+        tx.admin().updateConceptCounts(counts);
+
+        Map<ConceptId, Long> estimates = new HashMap<>();
+        estimates.put(t1.getId(), 100L);
+        tx.admin().putInstanceCountEstimates(estimates);
+        tx.admin().updateConceptCounts(counts);
+
+        assertEquals(6L, t1.getShardCount());
+        assertEquals(Optional.of(100L), tx.admin().getInstanceCountEstimate(t1));
+    }
+
     @Test
     public void whenMergingDuplicateResourceEdges_EnsureNoDuplicatesRemain(){
         AttributeTypeImpl<String> resourceType = (AttributeTypeImpl<String>) tx.putAttributeType("My Sad Attribute", AttributeType.DataType.STRING);
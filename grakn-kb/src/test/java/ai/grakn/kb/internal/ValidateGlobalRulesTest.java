@@ -18,8 +18,10 @@
 
 package ai.grakn.kb.internal;
 
+import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Entity;
 import ai.grakn.concept.EntityType;
+import ai.grakn.concept.Label;
 import ai.grakn.concept.RelationshipType;
 import ai.grakn.concept.Role;
 import ai.grakn.concept.Thing;
@@ -29,10 +31,14 @@ import ai.grakn.kb.internal.concept.RelationshipImpl;
 import ai.grakn.kb.internal.concept.RoleImpl;
 import ai.grakn.kb.internal.concept.ThingImpl;
 import ai.grakn.kb.internal.structure.Casting;
+import ai.grakn.util.Schema;
+import com.google.common.collect.ImmutableSet;
 import org.junit.Test;
 
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -164,4 +170,21 @@ public class ValidateGlobalRulesTest extends TxTestBase {
         assertTrue(ValidateGlobalRules.validateHasSingleIncomingRelatesEdge(role).isPresent());
         assertFalse(ValidateGlobalRules.validateHasMinimumRoles(relationshipType).isPresent());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenATypeAndItsSuperTypeHaveKeys_BothKeysAreRequiredRoles() {
+        AttributeType<String> name = tx.putAttributeType("name", AttributeType.DataType.STRING);
+        AttributeType<String> tag = tx.putAttributeType("tag", AttributeType.DataType.STRING);
+        EntityType animal = tx.putEntityType("animal").key(name);
+        EntityType dog = tx.putEntityType("dog").sup(animal).key(tag);
+
+        Set<Label> keys = ValidateGlobalRules.requiredRoles(dog).stream()
+                .map(role -> Schema.ImplicitType.explicitLabel(role.getLabel()))
+                .collect(Collectors.toSet());
+
+        assertEquals(ImmutableSet.of(name.getLabel(), tag.getLabel()), keys);
+        assertEquals(ImmutableSet.of(name.getLabel()), ValidateGlobalRules.requiredRoles(animal).stream()
+                .map(role -> Schema.ImplicitType.explicitLabel(role.getLabel()))
+                .collect(Collectors.toSet()));
+    }
+}
@@ -19,6 +19,7 @@
 package ai.grakn.kb.internal.cache;
 
 import ai.grakn.Grakn;
+import ai.grakn.GraknTx;
 import ai.grakn.GraknTxType;
 import ai.grakn.concept.Attribute;
 import ai.grakn.concept.AttributeType;
@@ -256,6 +257,31 @@ public class TxCacheTest extends TxTestBase {
         assertThat(cache.getModifiedCastings(), empty());
     }
 
+    @Test
+    public void whenASharedTypeWasReadInAClosedTransaction_ItIsReadAgainInTheNextTransaction() throws InterruptedException {
+        tx.putEntityType("e1");
+        tx.putEntityType("e2").sup(tx.putEntityType("e3"));
+        tx.commit();
+
+        //Read the super type in a transaction of its own, which caches it on this thread
+        tx = (GraknTxAbstract<?>) session.open(GraknTxType.READ);
+        assertEquals(tx.getEntityType("e3"), tx.getEntityType("e2").sup());
+        tx.close();
+
+        //Change the super type on another thread
+        Thread mutator = new Thread(() -> {
+            try (GraknTx other = session.open(GraknTxType.WRITE)) {
+                other.getEntityType("e2").sup(other.getEntityType("e1"));
+                other.commit();
+            }
+        });
+        mutator.start();
+        mutator.join();
+
+        tx = (GraknTxAbstract<?>) session.open(GraknTxType.READ);
+        assertEquals(tx.getEntityType("e1"), tx.getEntityType("e2").sup());
+    }
+
     @Test
     public void whenMutatingSuperTypeOfConceptCreatedInAnotherTransaction_EnsureTransactionBoundConceptIsMutated(){
         EntityType e1 = tx.putEntityType("e1");
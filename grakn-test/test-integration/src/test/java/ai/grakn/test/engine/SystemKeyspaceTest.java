@@ -5,6 +5,7 @@ import ai.grakn.GraknTx;
 import ai.grakn.GraknTxType;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.Keyspace;
+import ai.grakn.concept.Attribute;
 import ai.grakn.concept.AttributeType;
 import ai.grakn.concept.Concept;
 import ai.grakn.concept.EntityType;
@@ -40,10 +41,53 @@ public class SystemKeyspaceTest {
 
     @After
     public void cleanSystemKeySpaceGraph(){
+        SystemKeyspace systemKeyspace = engine.server().factory().systemKeyspace();
+        getSystemKeyspaces().forEach(keyspace -> systemKeyspace.deleteKeyspace(Keyspace.of(keyspace)));
+    }
+
+    @Test
+    public void whenAKeyspaceIsRemovedWithoutTheSystemKeyspace_ItIsKnownUntilTheKeyspacesAreReloaded(){
+        SystemKeyspace systemKeyspace = engine.server().factory().systemKeyspace();
+        Keyspace keyspace = Keyspace.of("removed");
+        systemKeyspace.ensureKeyspaceInitialised(keyspace);
+
         try (GraknTx graph = engine.server().factory().tx(SYSTEM_KB_KEYSPACE, GraknTxType.WRITE)){
-            graph.getEntityType("keyspace").instances().forEach(Concept::delete);
+            Attribute<String> name = graph.<String>getAttributeType("keyspace-name").getAttribute(keyspace.getValue());
+            name.owner().delete();
+            name.delete();
             graph.commit();
         }
+        assertTrue(systemKeyspace.containsKeyspace(keyspace));
+
+        systemKeyspace.loadKeyspaces();
+        assertFalse(systemKeyspace.containsKeyspace(keyspace));
+    }
+
+    @Test
+    public void whenTwoSystemKeyspacesShareAJedisPool_AKeyspaceDeletedByOneIsForgottenByTheOther() throws InterruptedException {
+        SystemKeyspace deleting = new SystemKeyspace(engine.server().factory(), false);
+        SystemKeyspace other = new SystemKeyspace(engine.server().factory(), false);
+        deleting.shareThrough(engine.getJedisPool());
+        other.shareThrough(engine.getJedisPool());
+
+        try {
+            Keyspace keyspace = Keyspace.of("shared");
+            deleting.ensureKeyspaceInitialised(keyspace);
+            assertTrue(other.containsKeyspace(keyspace));
+
+            deleting.deleteKeyspace(keyspace);
+            assertFalse(deleting.containsKeyspace(keyspace));
+
+            //The deletion is published asynchronously
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (other.containsKeyspace(keyspace) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertFalse(other.containsKeyspace(keyspace));
+        } finally {
+            deleting.stopSharing();
+            other.stopSharing();
+        }
     }
 
     @Test
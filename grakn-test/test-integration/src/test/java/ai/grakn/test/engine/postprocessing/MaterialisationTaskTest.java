@@ -0,0 +1,138 @@
+/*
+ * Grakn - A Distributed Semantic Database
+ * Copyright (C) 2016  Grakn Labs Limited
+ *
+ * Grakn is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Grakn is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Grakn. If not, see <http://www.gnu.org/licenses/gpl.txt>.
+ */
+
+package ai.grakn.test.engine.postprocessing;
+
+import ai.grakn.Grakn;
+import ai.grakn.GraknTx;
+import ai.grakn.GraknTxType;
+import ai.grakn.Keyspace;
+import ai.grakn.engine.lock.ProcessWideLockProvider;
+import ai.grakn.engine.postprocessing.CommitLogAggregator;
+import ai.grakn.engine.postprocessing.MaterialisationTask;
+import ai.grakn.engine.postprocessing.UpdatingInstanceCountTask;
+import ai.grakn.engine.tasks.manager.TaskConfiguration;
+import ai.grakn.engine.tasks.manager.TaskState;
+import ai.grakn.engine.tasks.manager.TaskSubmitter;
+import ai.grakn.test.EngineContext;
+import ai.grakn.util.SampleKBLoader;
+import com.codahale.metrics.MetricRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class MaterialisationTaskTest {
+
+    private static final MetricRegistry METRIC_REGISTRY = new MetricRegistry();
+
+    @ClassRule
+    public static final EngineContext engine = EngineContext.startInMemoryServer();
+
+    private final List<TaskState> submittedTasks = new ArrayList<>();
+    private final TaskSubmitter taskSubmitter = new TaskSubmitter() {
+        @Override
+        public void addTask(TaskState taskState, TaskConfiguration configuration) {
+            submittedTasks.add(taskState);
+        }
+
+        @Override
+        public void runTask(TaskState taskState, TaskConfiguration configuration) {
+            addTask(taskState, configuration);
+        }
+    };
+
+    private Keyspace keyspace;
+    private TaskConfiguration configuration;
+    private CommitLogAggregator commitLogs;
+
+    @Before
+    public void loadDataMatchingARuleBody() {
+        keyspace = SampleKBLoader.randomKeyspace();
+        commitLogs = CommitLogAggregator.create(taskSubmitter, 0, 0, true);
+
+        try (GraknTx tx = Grakn.session(engine.uri(), keyspace).open(GraknTxType.WRITE)) {
+            tx.graql().parse("define " +
+                    "parent sub role; child sub role; ancestor sub role; descendant sub role;" +
+                    "parentship sub relationship, relates parent, relates child;" +
+                    "ancestorship sub relationship, relates ancestor, relates descendant;" +
+                    "person sub entity, plays parent, plays child, plays ancestor, plays descendant;" +
+                    "ancestry sub rule, " +
+                    "when {(parent: $x, child: $y) isa parentship;}, " +
+                    "then {(ancestor: $x, descendant: $y) isa ancestorship;};").execute();
+            tx.graql().parse("insert $a isa person; $b isa person; $c isa person;" +
+                    "(parent: $a, child: $b) isa parentship; (parent: $b, child: $c) isa parentship;").execute();
+
+            String parentship = tx.getRelationshipType("parentship").getId().getValue();
+            configuration = MaterialisationTask.createConfig(keyspace, singleton(parentship));
+            tx.admin().commitNoLogs();
+        }
+    }
+
+    @After
+    public void closeCommitLogs() {
+        commitLogs.close();
+    }
+
+    @Test
+    public void whenMaterialisingInsertedData_TheInferredFactsAreCommitted() {
+        runMaterialisation();
+
+        assertEquals(2L, countAncestorships());
+    }
+
+    @Test
+    public void whenMaterialisingTheSameDataTwice_TheInferredFactsAreCommittedOnce() {
+        runMaterialisation();
+        runMaterialisation();
+
+        assertEquals(2L, countAncestorships());
+    }
+
+    @Test
+    public void whenMaterialisedFactsAreCommitted_NoFurtherMaterialisationIsSubmitted() {
+        runMaterialisation();
+
+        //The commit logs of the materialised facts are still counted
+        assertTrue(submittedTasks.stream().anyMatch(task -> task.taskClass().equals(UpdatingInstanceCountTask.class)));
+        assertTrue(submittedTasks.stream().noneMatch(task -> task.taskClass().equals(MaterialisationTask.class)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runMaterialisation() {
+        MaterialisationTask task = new MaterialisationTask();
+        task.initialize(mock(Consumer.class), configuration, taskSubmitter, engine.config(), null,
+                engine.server().factory(), new ProcessWideLockProvider(), commitLogs, METRIC_REGISTRY);
+        assertTrue(task.start());
+    }
+
+    private long countAncestorships() {
+        try (GraknTx tx = Grakn.session(engine.uri(), keyspace).open(GraknTxType.READ)) {
+            return tx.getRelationshipType("ancestorship").instances().count();
+        }
+    }
+}
@@ -84,7 +84,7 @@ public class PostProcessingTaskTest {
         PostProcessingTask task = new PostProcessingTask();
 
         task.initialize(mockConsumer, mockConfiguration, mockTaskSubmitter, engine.config(), null, engine.server().factory(),
-                new ProcessWideLockProvider(), METRIC_REGISTRY);
+                new ProcessWideLockProvider(), null, METRIC_REGISTRY);
         task.start();
 
         verify(mockConfiguration, times(2)).json();
@@ -95,7 +95,7 @@ public class PostProcessingTaskTest {
         PostProcessingTask task = new PostProcessingTask();
 
         task.initialize(mockConsumer, mockConfiguration, mockTaskSubmitter, engine.config(), null, engine.server().factory(),
-                new ProcessWideLockProvider(), METRIC_REGISTRY);
+                new ProcessWideLockProvider(), null, METRIC_REGISTRY);
         task.start();
 
         verify(mockConfiguration, times(2)).json();
@@ -107,9 +107,9 @@ public class PostProcessingTaskTest {
         PostProcessingTask task1 = new PostProcessingTask();
         PostProcessingTask task2 = new PostProcessingTask();
         task1.initialize(mockConsumer, mockConfiguration, mockTaskSubmitter, engine.config(), null, engine.server().factory(),
-                new ProcessWideLockProvider(), METRIC_REGISTRY);
+                new ProcessWideLockProvider(), null, METRIC_REGISTRY);
         task2.initialize(mockConsumer, mockConfiguration, mockTaskSubmitter, engine.config(), null, engine.server().factory(),
-                new ProcessWideLockProvider(), METRIC_REGISTRY);
+                new ProcessWideLockProvider(), null, METRIC_REGISTRY);
 
         Thread pp1 = new Thread(task1::start);
         Thread pp2 = new Thread(task2::start);
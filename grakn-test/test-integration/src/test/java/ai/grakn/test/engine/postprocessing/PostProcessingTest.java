@@ -23,6 +23,8 @@ import ai.grakn.GraknSession;
 import ai.grakn.GraknTxType;
 import ai.grakn.concept.Attribute;
 import ai.grakn.concept.AttributeType;
+import ai.grakn.engine.GraknEngineConfig;
+import ai.grakn.engine.lock.LockProvider;
 import ai.grakn.engine.lock.ProcessWideLockProvider;
 import ai.grakn.engine.postprocessing.PostProcessingTask;
 import ai.grakn.engine.tasks.manager.TaskConfiguration;
@@ -43,17 +45,24 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 
 import static ai.grakn.test.engine.postprocessing.PostProcessingTestUtils.createDuplicateResource;
 import static ai.grakn.util.REST.Request.KEYSPACE;
 import static ai.grakn.util.Schema.VertexProperty.INDEX;
 import static java.util.stream.Collectors.toSet;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeTrue;
+import static org.mockito.Mockito.mock;
 
 public class PostProcessingTest {
 
+    private static final String SAMPLE = "Sample";
+
     private GraknSession session;
 
     @ClassRule
@@ -131,7 +140,7 @@ public class PostProcessingTest {
             }
         };
         task.initialize(null, configuration, taskSubmitter, engine.config(), null, engine.server().factory(),
-                new ProcessWideLockProvider(), new MetricRegistry());
+                new ProcessWideLockProvider(), null, new MetricRegistry());
 
         task.start();
 
@@ -142,4 +151,96 @@ public class PostProcessingTest {
 
         graph.close();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void whenDuplicatesAreSplitAcrossBatches_AllBatchesAreMerged() throws InvalidKBException {
+        Json toFix = putDuplicates("1", "2", "3");
+
+        //An index without duplicates is checked but never merged
+        try (GraknTx graph = session.open(GraknTxType.WRITE)) {
+            graph.<String>getAttributeType(SAMPLE).putAttribute("4");
+            graph.admin().commitNoLogs();
+        }
+        try (GraknTx graph = session.open(GraknTxType.READ)) {
+            Attribute<String> unique = graph.<String>getAttributeType(SAMPLE).getAttribute("4");
+            toFix.set(PostProcessingTestUtils.indexOf(graph, unique), Json.array(unique.getId().getValue()));
+        }
+
+        assertEquals(7, countSamples());
+
+        runPostProcessing(toFix, 2, new ProcessWideLockProvider());
+
+        assertEquals(4, countSamples());
+    }
+
+    @Test
+    public void whenABatchHasSeveralIndices_TheirLocksAreAcquiredInOrder() throws InvalidKBException {
+        Json toFix = putDuplicates("c", "a", "b");
+
+        List<String> acquired = new ArrayList<>();
+        LockProvider lockProvider = new ProcessWideLockProvider();
+        runPostProcessing(toFix, 10, lockName -> {
+            acquired.add(lockName);
+            return lockProvider.getLock(lockName);
+        });
+
+        List<String> indices = new ArrayList<>(new TreeSet<>(toFix.asJsonMap().keySet()));
+        assertEquals(indices.size(), acquired.size());
+        for (int i = 0; i < indices.size(); i++) {
+            assertTrue(acquired.get(i).endsWith("/" + indices.get(i)));
+        }
+        assertEquals(3, countSamples());
+    }
+
+    /**
+     * Commit an attribute and a duplicate of it for each value
+     *
+     * @return the index and ids of the duplicates of each value, as found in a commit log
+     */
+    private Json putDuplicates(String... values) {
+        try (GraknTx graph = session.open(GraknTxType.WRITE)) {
+            AttributeType<String> attributeType = graph.putAttributeType(SAMPLE, AttributeType.DataType.STRING);
+            for (String value : values) {
+                attributeType.putAttribute(value);
+            }
+            graph.admin().commitNoLogs();
+        }
+
+        Json toFix = Json.object();
+        try (GraknTx graph = session.open(GraknTxType.WRITE)) {
+            AttributeType<String> attributeType = graph.getAttributeType(SAMPLE);
+            for (String value : values) {
+                Set<Vertex> duplicates = createDuplicateResource(graph, attributeType, attributeType.getAttribute(value));
+                String index = duplicates.iterator().next().value(INDEX.name()).toString();
+                toFix.set(index, duplicates.stream().map(v -> Schema.PREFIX_VERTEX + v.id().toString()).collect(toSet()));
+            }
+            graph.admin().commitNoLogs();
+        }
+        return toFix;
+    }
+
+    private long countSamples() {
+        try (GraknTx graph = session.open(GraknTxType.READ)) {
+            return graph.getAttributeType(SAMPLE).instances().count();
+        }
+    }
+
+    private void runPostProcessing(Json toFix, int batchSize, LockProvider lockProvider) {
+        GraknEngineConfig config = GraknEngineConfig.create();
+        config.setConfigProperty(GraknEngineConfig.POST_PROCESSING_BATCH_SIZE, String.valueOf(batchSize));
+
+        String keyspace;
+        try (GraknTx graph = session.open(GraknTxType.READ)) {
+            keyspace = graph.getKeyspace().getValue();
+        }
+        TaskConfiguration configuration = TaskConfiguration.of(Json.object(
+                KEYSPACE, keyspace,
+                REST.Request.COMMIT_LOG_FIXING, Json.object(Schema.BaseType.ATTRIBUTE.name(), toFix)
+        ));
+
+        PostProcessingTask task = new PostProcessingTask();
+        task.initialize(null, configuration, mock(TaskSubmitter.class), config, null, engine.server().factory(),
+                lockProvider, null, new MetricRegistry());
+        task.start();
+    }
+}